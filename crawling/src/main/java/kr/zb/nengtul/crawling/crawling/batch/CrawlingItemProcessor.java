@@ -4,7 +4,9 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
+import kr.zb.nengtul.crawling.recipe.domain.IngredientParser;
 import kr.zb.nengtul.crawling.recipe.domain.RecipeDocument;
+import kr.zb.nengtul.crawling.recipe.domain.RecipeIngredient;
 import kr.zb.nengtul.crawling.recipe.type.RecipeCategory;
 import kr.zb.nengtul.crawling.crawling.dto.CrawlInfo;
 import lombok.RequiredArgsConstructor;
@@ -54,6 +56,8 @@ public class CrawlingItemProcessor implements ItemProcessor<CrawlInfo, RecipeDoc
                         .replace("<br>", "").trim();
                 String ingredient = ingredientElements != null ? getIngredients(ingredientElements)
                         : "레시피 마다 달라요!";
+                List<RecipeIngredient> ingredientDetails = IngredientParser.parse(
+                        ingredientElements != null ? ingredient : null);
                 String cookingStep = getCombinedSteps(stepElements);
                 String serving = servingElement.text().isEmpty() ? "" : servingElement.text();
                 String cookingTime =
@@ -67,6 +71,8 @@ public class CrawlingItemProcessor implements ItemProcessor<CrawlInfo, RecipeDoc
                         .title(title)
                         .intro(intro)
                         .ingredient(ingredient)
+                        .ingredientDetails(ingredientDetails)
+                        .ingredientNames(IngredientParser.toNames(ingredientDetails))
                         .cookingStep(cookingStep)
                         .imageUrl(imageUrl)
                         .cookingTime(cookingTime)
@@ -75,6 +81,7 @@ public class CrawlingItemProcessor implements ItemProcessor<CrawlInfo, RecipeDoc
                         .videoUrl(videoUrl)
                         .thumbnailUrl(mainPhotoUrl)
                         .viewCount(0L)
+                        .likeCount(0L)
                         .build();
             } catch (IOException e) {
                 log.error("Error while crawling URL: {}", url);
@@ -0,0 +1,90 @@
+package kr.zb.nengtul.crawling.recipe.domain;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 크롤링한 재료 문자열을 이름, 수량, 단위로 파싱하고 대표 재료명으로 정규화한다.
+ * 메인 서버의 IngredientParser, IngredientNormalizer 와 같은 규칙을 유지해야 한다.
+ */
+public final class IngredientParser {
+
+    private static final String INGREDIENT_DELIMITER = ",";
+
+    private static final Pattern NOTE_PATTERN = Pattern.compile("\\(.*?\\)|\\[.*?]");
+
+    private static final Pattern QUANTITY_PATTERN = Pattern.compile(
+            "^(.+?)\\s*(\\d+(?:\\.\\d+)?(?:\\s*[/~-]\\s*\\d+(?:\\.\\d+)?)?|약간|적당량|적당히|조금|소량)\\s*(.*)$");
+
+    private static final Pattern PREPARATION_PATTERN =
+            Pattern.compile("^(다진|채썬|채 썬|삶은|데친|볶은)\\s*");
+
+    private static final Map<String, String> SYNONYMS = Map.of(
+            "계란", "달걀",
+            "쪽파", "파",
+            "대파", "파",
+            "청양 고추", "청양고추"
+    );
+
+    private IngredientParser() {
+    }
+
+    public static List<RecipeIngredient> parse(String ingredient) {
+
+        if (ingredient == null || ingredient.isBlank()) {
+            return List.of();
+        }
+
+        return Arrays.stream(ingredient.split(INGREDIENT_DELIMITER))
+                .map(IngredientParser::parseEntry)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public static List<String> toNames(List<RecipeIngredient> recipeIngredients) {
+        return recipeIngredients.stream()
+                .map(RecipeIngredient::getName)
+                .distinct()
+                .toList();
+    }
+
+    private static RecipeIngredient parseEntry(String entry) {
+
+        String text = NOTE_PATTERN.matcher(entry).replaceAll(" ").trim();
+
+        if (text.isEmpty()) {
+            return null;
+        }
+
+        Matcher matcher = QUANTITY_PATTERN.matcher(text);
+
+        String name = matcher.matches() ? matcher.group(1) : text;
+        String quantity = matcher.matches() ? matcher.group(2).replaceAll("\\s+", "") : null;
+        String unit = matcher.matches() && !matcher.group(3).isBlank() ? matcher.group(3).trim() : null;
+
+        String canonicalName = canonicalize(name);
+
+        if (canonicalName.isEmpty()) {
+            return null;
+        }
+
+        return RecipeIngredient.builder()
+                .name(canonicalName)
+                .quantity(quantity)
+                .unit(unit)
+                .build();
+    }
+
+    private static String canonicalize(String name) {
+
+        String normalized = PREPARATION_PATTERN.matcher(
+                name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT)).replaceFirst("");
+
+        return SYNONYMS.getOrDefault(normalized, normalized);
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import java.time.LocalDateTime;
+import java.util.List;
 import kr.zb.nengtul.crawling.recipe.type.RecipeCategory;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -43,6 +44,12 @@ public class RecipeDocument {
     @Field(type = FieldType.Text)
     private String ingredient;
 
+    @Field(type = FieldType.Object)
+    private List<RecipeIngredient> ingredientDetails;
+
+    @Field(type = FieldType.Keyword)
+    private List<String> ingredientNames;
+
     @Field(type = FieldType.Keyword, index = false)
     private String cookingStep;
 
@@ -67,6 +74,9 @@ public class RecipeDocument {
     @Field(type = FieldType.Integer)
     private Long viewCount;
 
+    @Field(type = FieldType.Long)
+    private Long likeCount;
+
     @Field(type = FieldType.Date, format = DateFormat.date_hour_minute)
     private LocalDateTime createdAt;
 
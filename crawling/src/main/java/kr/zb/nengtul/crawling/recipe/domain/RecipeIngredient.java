@@ -0,0 +1,25 @@
+package kr.zb.nengtul.crawling.recipe.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+
+// "양파 1/2개" -> name : 양파, quantity : 1/2, unit : 개
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeIngredient {
+
+    @Field(type = FieldType.Keyword)
+    private String name;
+
+    @Field(type = FieldType.Keyword, index = false)
+    private String quantity;
+
+    @Field(type = FieldType.Keyword)
+    private String unit;
+}
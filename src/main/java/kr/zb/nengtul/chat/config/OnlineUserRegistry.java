@@ -0,0 +1,56 @@
+package kr.zb.nengtul.chat.config;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+/**
+ * 이 서버에 STOMP 로 연결된 회원. 알림을 보낼 때 접속하지 않은 회원을 건너뛰고 보관함에 저장하는 데 사용한다.
+ * relay 모드는 다른 서버에 연결된 회원을 알 수 없으므로 모두에게 보내고 모두 보관함에도 저장한다.
+ */
+@Component
+public class OnlineUserRegistry {
+
+    private static final String RELAY_MODE = "relay";
+
+    @Value("${spring.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    // sessionId - userId
+    private final Map<String, Long> sessionUsers = new ConcurrentHashMap<>();
+
+    // userId - 연결된 세션 수 (여러 기기, 탭)
+    private final Map<Long, Integer> userSessionCounts = new ConcurrentHashMap<>();
+
+    public void connect(String sessionId, Long userId) {
+        if (sessionUsers.putIfAbsent(sessionId, userId) == null) {
+            userSessionCounts.merge(userId, 1, Integer::sum);
+        }
+    }
+
+    // 클라이언트가 DISCONNECT 를 보내지 않고 끊어진 경우도 포함
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnect(event.getSessionId());
+    }
+
+    public void disconnect(String sessionId) {
+        Long userId = sessionUsers.remove(sessionId);
+
+        if (userId != null) {
+            userSessionCounts.computeIfPresent(userId, (id, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+
+    public boolean isOnline(Long userId) {
+        return RELAY_MODE.equalsIgnoreCase(brokerMode) || userSessionCounts.containsKey(userId);
+    }
+
+    // 실시간으로 받았는지 확인할 수 없는 회원은 알림 보관함에도 저장
+    public boolean needsInbox(Long userId) {
+        return RELAY_MODE.equalsIgnoreCase(brokerMode) || !userSessionCounts.containsKey(userId);
+    }
+}
@@ -1,25 +1,19 @@
 package kr.zb.nengtul.chat.config;
 
-import com.auth0.jwt.JWT;
-import com.auth0.jwt.algorithms.Algorithm;
-import com.auth0.jwt.interfaces.DecodedJWT;
-import jakarta.transaction.Transactional;
 import java.util.Objects;
 import kr.zb.nengtul.global.exception.CustomException;
 import kr.zb.nengtul.global.exception.ErrorCode;
 import kr.zb.nengtul.global.jwt.JwtTokenProvider;
-import kr.zb.nengtul.global.jwt.service.CustomUserDetailService;
+import kr.zb.nengtul.user.domain.dto.SessionUserDto;
+import kr.zb.nengtul.user.domain.entity.User;
+import kr.zb.nengtul.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -27,13 +21,11 @@ import org.springframework.stereotype.Component;
 @Slf4j
 public class StompTokenInterceptor implements ChannelInterceptor {
 
-    private static final String EMAIL_CLAIM = "email";
     private static final String PREFIX = "Bearer ";
     private static final String JWT_HEADER = "Authorization";
     private final JwtTokenProvider jwtTokenProvider;
-    private final CustomUserDetailService userDetailService;
-    @Value("${spring.jwt.secret-key}")
-    private String secretKey;
+    private final UserRepository userRepository;
+    private final OnlineUserRegistry onlineUserRegistry;
 
     @Override
     public Message<?> preSend(Message<?> message, MessageChannel channel) {
@@ -43,11 +35,17 @@ public class StompTokenInterceptor implements ChannelInterceptor {
             String token = accessor.getFirstNativeHeader(JWT_HEADER);
             if (token != null && token.startsWith(PREFIX)) {
                 token = token.substring(PREFIX.length());
-                if (jwtTokenProvider.isTokenValid(token)) {
-                    Authentication auth = getAuthentication(token);
-                    Objects.requireNonNull(accessor.getSessionAttributes())
-                            .put("user", auth.getName());
-                }
+                // 토큰 검증은 한 번만 하고 검증 결과의 claim 사용
+                jwtTokenProvider.verifyToken(token)
+                        .flatMap(jwtTokenProvider::extractEmail)
+                        .ifPresent(email -> {
+                            // 메세지마다 회원을 조회하지 않도록 연결 시 한 번 조회해 세션에 저장
+                            SessionUserDto sessionUser = getSessionUser(email);
+                            Objects.requireNonNull(accessor.getSessionAttributes())
+                                    .put(SessionUserDto.SESSION_ATTRIBUTE, sessionUser);
+                            onlineUserRegistry.connect(accessor.getSessionId(),
+                                    sessionUser.getId());
+                        });
             } else {
                 log.error("토큰이 없거나 형식이 맞지 않습니다.");
                 throw new CustomException(ErrorCode.NO_PERMISSION);
@@ -57,15 +55,9 @@ public class StompTokenInterceptor implements ChannelInterceptor {
         return message;
     }
 
-    @Transactional
-    public Authentication getAuthentication(String jwt) {
-        UserDetails userDetails = userDetailService.loadUserByUsername(getUsername(jwt));
-        return new UsernamePasswordAuthenticationToken(userDetails, "",
-                userDetails.getAuthorities());
-    }
-
-    public String getUsername(String token) {
-        DecodedJWT decodedJWT = JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
-        return decodedJWT.getClaim(EMAIL_CLAIM).asString();
+    public SessionUserDto getSessionUser(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+        return SessionUserDto.fromEntity(user);
     }
 }
\ No newline at end of file
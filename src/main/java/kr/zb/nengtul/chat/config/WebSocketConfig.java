@@ -1,20 +1,84 @@
 package kr.zb.nengtul.chat.config;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
+/**
+ * simple 모드는 구독 정보를 인스턴스 메모리에 두므로 서버가 한 대일 때만 사용한다.
+ * 여러 대로 운영할 때는 relay 모드로 외부 STOMP 브로커에 구독과 메세지 전달을 맡긴다.
+ */
 @Configuration
 @EnableWebSocketMessageBroker
 @RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private static final String SIMPLE_MODE = "simple";
+
+    private static final String RELAY_MODE = "relay";
+
     private final StompTokenInterceptor stompTokenInterceptor;
 
+    private TaskScheduler messageBrokerTaskScheduler;
+
+    // simple, relay
+    @Value("${spring.websocket.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${spring.websocket.broker.relay-host:localhost}")
+    private String relayHost;
+
+    @Value("${spring.websocket.broker.relay-port:61613}")
+    private int relayPort;
+
+    @Value("${spring.websocket.broker.login:guest}")
+    private String relayLogin;
+
+    @Value("${spring.websocket.broker.passcode:guest}")
+    private String relayPasscode;
+
+    @Value("${spring.websocket.broker.virtual-host:}")
+    private String relayVirtualHost;
+
+    // ms, 0 이면 사용하지 않음
+    @Value("${spring.websocket.heartbeat:10000}")
+    private long heartbeat;
+
+    @Value("${spring.websocket.inbound-pool-size:8}")
+    private int inboundPoolSize;
+
+    @Value("${spring.websocket.outbound-pool-size:8}")
+    private int outboundPoolSize;
+
+    @Value("${spring.websocket.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${spring.websocket.send-buffer-size-limit:524288}")
+    private int sendBufferSizeLimit;
+
+    @Value("${spring.websocket.send-time-limit:10000}")
+    private int sendTimeLimit;
+
+    @Value("${spring.websocket.message-size-limit:65536}")
+    private int messageSizeLimit;
+
+    // simple 브로커 heartbeat 전송용, 브로커 설정과 순환 참조되지 않도록 지연 주입
+    @Autowired
+    public void setMessageBrokerTaskScheduler(
+            @Lazy @Qualifier("messageBrokerTaskScheduler") TaskScheduler taskScheduler) {
+        this.messageBrokerTaskScheduler = taskScheduler;
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
 
@@ -26,12 +90,57 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         registry.setApplicationDestinationPrefixes("/pub");
-        registry.enableSimpleBroker("/sub", "/queue");
+        // 발행 스레드가 여러 개여도 세션별 전송 순서 유지
+        registry.setPreservePublishOrder(true);
+
+        if (RELAY_MODE.equalsIgnoreCase(brokerMode)) {
+            // 브로커가 /sub, /queue 목적지를 그대로 받을 수 있어야 함 (ActiveMQ Artemis 등)
+            registry.enableStompBrokerRelay("/sub", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setVirtualHost(relayVirtualHost.isEmpty() ? null : relayVirtualHost)
+                    .setSystemHeartbeatSendInterval(heartbeat)
+                    .setSystemHeartbeatReceiveInterval(heartbeat);
+            return;
+        }
+
+        // 오타 등으로 알 수 없는 모드면 simple 로 뜨지 않도록 기동 실패
+        if (!SIMPLE_MODE.equalsIgnoreCase(brokerMode)) {
+            throw new IllegalStateException("알 수 없는 웹소켓 브로커 모드 : " + brokerMode);
+        }
+
+        registry.enableSimpleBroker("/sub", "/queue")
+                .setHeartbeatValue(new long[]{heartbeat, heartbeat})
+                .setTaskScheduler(messageBrokerTaskScheduler);
     }
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
         registration.interceptors(stompTokenInterceptor);
+        registration.taskExecutor()
+                .corePoolSize(inboundPoolSize)
+                .maxPoolSize(inboundPoolSize)
+                .queueCapacity(queueCapacity);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundPoolSize)
+                .maxPoolSize(outboundPoolSize)
+                .queueCapacity(queueCapacity);
     }
-}
 
+    // 느린 클라이언트 한 명이 전송 스레드를 오래 잡지 않도록 세션별 버퍼, 전송 시간 제한
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+                .setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+}
@@ -1,24 +1,31 @@
 package kr.zb.nengtul.chat.controller;
 
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import kr.zb.nengtul.chat.domain.Chat;
 import kr.zb.nengtul.chat.domain.ChatRoom;
 import kr.zb.nengtul.chat.domain.ConnectedChatRoom;
 import kr.zb.nengtul.chat.dto.ChatDto;
+import kr.zb.nengtul.chat.dto.ChatHistoryDto;
+import kr.zb.nengtul.chat.dto.ChatReadDto;
 import kr.zb.nengtul.chat.dto.ChatRoomDto;
 import kr.zb.nengtul.chat.service.ChatRoomService;
+import kr.zb.nengtul.chat.service.ChatMessageSender;
 import kr.zb.nengtul.chat.service.ChatService;
 import kr.zb.nengtul.global.exception.CustomException;
 import kr.zb.nengtul.global.exception.ErrorCode;
 import kr.zb.nengtul.shareboard.domain.entity.ShareBoard;
 import kr.zb.nengtul.shareboard.service.ShareBoardService;
+import kr.zb.nengtul.user.domain.dto.SessionUserDto;
 import kr.zb.nengtul.user.domain.entity.User;
 import kr.zb.nengtul.user.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
@@ -36,6 +43,7 @@ public class ChatController {
     private final ChatService chatService;
     private final UserService userService;
     private final SimpMessagingTemplate simpMessagingTemplate;
+    private final ChatMessageSender chatMessageSender;
 
     @MessageMapping("/chat/start/shareboards/{shareBoardId}")
     public void startChat(
@@ -44,27 +52,23 @@ public class ChatController {
             String content
     ) {
 
-        String email = userService.getEmailByAccessor(accessor);
-        User sender = userService.findUserByEmail(email);
+        SessionUserDto sessionUser = userService.getSessionUserByAccessor(accessor);
+        User sender = userService.getUserReference(sessionUser.getId());
 
         ShareBoard shareBoard = shareBoardService.findById(shareBoardId);
         User receiver = shareBoard.getUser();
 
-        if (Objects.equals(receiver.getId(), sender.getId())) {
+        if (Objects.equals(receiver.getId(), sessionUser.getId())) {
             throw new CustomException(ErrorCode.CANNOT_OPEN_CHATROOM_YOURSELF);
         }
 
         ChatRoom chatRoom = chatRoomService.findOrCreateRoom(sender, receiver, shareBoard);
         Chat message = chatService.createMessage(sender, chatRoom, content);
 
-        simpMessagingTemplate.convertAndSend("/sub/chat/start/users/" + sender.getId(),
-                ChatDto.fromEntity(message));
-
-        simpMessagingTemplate.convertAndSend("/sub/chat/push/users/" + receiver.getId(),
-                ChatDto.fromEntity(message));
-
-        simpMessagingTemplate.convertAndSend("/sub/chat/send/rooms/" + chatRoom.getRoomId(),
-                ChatDto.fromEntity(message));
+        chatMessageSender.sendToAll(ChatDto.fromEntity(message, sessionUser.getNickname()),
+                List.of("/sub/chat/start/users/" + sessionUser.getId(),
+                        "/sub/chat/push/users/" + receiver.getId(),
+                        "/sub/chat/send/rooms/" + chatRoom.getRoomId()));
     }
 
 
@@ -75,39 +79,40 @@ public class ChatController {
             String content
     ) {
 
-        String email = userService.getEmailByAccessor(accessor);
-        User sender = userService.findUserByEmail(email);
+        SessionUserDto sessionUser = userService.getSessionUserByAccessor(accessor);
+        User sender = userService.getUserReference(sessionUser.getId());
 
         ChatRoom chatRoom = chatRoomService.findById(roomId);
         Chat message = chatService.createMessage(sender, chatRoom, content);
 
-        List<User> connectedUsers = chatRoom.getConnectedChatRooms().stream()
-                .map(ConnectedChatRoom::getUser)
-                .toList();
+        List<String> destinations = new ArrayList<>();
+        destinations.add("/sub/chat/send/rooms/" + roomId);
 
-        simpMessagingTemplate.convertAndSend("/sub/chat/send/rooms/" + roomId,
-                ChatDto.fromEntity(message));
+        chatRoom.getConnectedChatRooms().stream()
+                .map(ConnectedChatRoom::getUser)
+                .filter(user -> !user.getId().equals(sessionUser.getId()))  // 자신에게는 보내지 않음
+                .forEach(user -> destinations.add("/sub/chat/push/users/" + user.getId()));
 
-        connectedUsers.stream()
-                .filter(user -> !user.getId().equals(sender.getId()))  // 자신에게는 보내지 않음
-                .forEach(user -> simpMessagingTemplate.convertAndSend(
-                        "/sub/chat/push/users/" + user.getId(),
-                        ChatDto.fromEntity(message)));
+        // 채팅은 알림 보관함에 저장하지 않음, 접속하지 않았던 사람은 채팅방 목록의 안 읽은 수와 이전 메세지 조회로 받음
+        chatMessageSender.sendToAll(ChatDto.fromEntity(message, sessionUser.getNickname()),
+                destinations);
     }
 
+    // beforeChatId 헤더가 없으면 최근 메세지부터, 이후 응답의 nextBeforeChatId 로 이전 메세지 요청
     @MessageMapping("/chat/get/rooms/{roomId}")
     public void getPreviousMessages(
             SimpMessageHeaderAccessor accessor,
-            @DestinationVariable String roomId
+            @DestinationVariable String roomId,
+            @Header(value = "beforeChatId", required = false) Long beforeChatId,
+            @Header(value = "size", required = false) Integer size
     ) {
 
-        String email = userService.getEmailByAccessor(accessor);
-        User user = userService.findUserByEmail(email);
+        SessionUserDto sessionUser = userService.getSessionUserByAccessor(accessor);
 
-        List<Chat> messages = chatService.getPreviousMessages(roomId);
+        Slice<Chat> messages = chatService.getPreviousMessages(roomId, beforeChatId, size);
 
-        simpMessagingTemplate.convertAndSend("/sub/chat/get/users/" + user.getId(),
-                messages.stream().map(ChatDto::fromEntity).toList());
+        simpMessagingTemplate.convertAndSend("/sub/chat/get/users/" + sessionUser.getId(),
+                ChatHistoryDto.fromSlice(roomId, messages, chatService.getReadWatermarks(roomId)));
     }
 
     @MessageMapping("/chat/mark/rooms/{roomId}/chats/{chatId}")
@@ -116,13 +121,21 @@ public class ChatController {
             @DestinationVariable Long chatId,
             @DestinationVariable String roomId
     ) {
-        String email = userService.getEmailByAccessor(accessor);
-        User reader = userService.findUserByEmail(email);
+        SessionUserDto sessionUser = userService.getSessionUserByAccessor(accessor);
+        User reader = userService.getUserReference(sessionUser.getId());
+
+        Long lastReadChatId = chatService.markAsRead(roomId, chatId, reader);
 
-        Chat message = chatService.markAsRead(chatId, reader);
+        if (lastReadChatId == null) {
+            return;
+        }
 
         simpMessagingTemplate.convertAndSend("/sub/chat/mark/rooms/" + roomId,
-                ChatDto.fromEntity(message));
+                ChatReadDto.builder()
+                        .roomId(roomId)
+                        .readerId(sessionUser.getId())
+                        .lastReadChatId(lastReadChatId)
+                        .build());
     }
 
     @MessageMapping("/chat/mark-all/rooms/{roomId}")
@@ -130,13 +143,21 @@ public class ChatController {
             SimpMessageHeaderAccessor accessor,
             @DestinationVariable String roomId
     ) {
-        String email = userService.getEmailByAccessor(accessor);
-        User reader = userService.findUserByEmail(email);
+        SessionUserDto sessionUser = userService.getSessionUserByAccessor(accessor);
+        User reader = userService.getUserReference(sessionUser.getId());
 
-        List<Chat> markedMessages = chatService.markAllAsRead(roomId, reader);
+        Long lastReadChatId = chatService.markAllAsRead(roomId, reader);
+
+        if (lastReadChatId == null) {
+            return;
+        }
 
         simpMessagingTemplate.convertAndSend("/sub/chat/mark-all/rooms/" + roomId,
-                markedMessages.stream().map(ChatDto::fromEntity).toList());
+                ChatReadDto.builder()
+                        .roomId(roomId)
+                        .readerId(sessionUser.getId())
+                        .lastReadChatId(lastReadChatId)
+                        .build());
     }
 
     @DeleteMapping("/v1/chat/leave/rooms/{roomId}")
@@ -153,12 +174,8 @@ public class ChatController {
     @GetMapping("/v1/chat/list")
     public ResponseEntity<List<ChatRoomDto>> getChatRoomList(Principal principal) {
         User user = userService.findUserByEmail(principal.getName());
-        List<ChatRoom> chatRoomList = chatRoomService.getChatRoomList(user);
 
-        return ResponseEntity.ok(
-                chatRoomList.stream()
-                        .map(chatRoom -> ChatRoomDto.fromEntity(chatRoom, user))
-                        .toList());
+        return ResponseEntity.ok(chatRoomService.getChatRoomList(user));
 
     }
 }
@@ -5,11 +5,11 @@ import com.fasterxml.jackson.annotation.JsonFormat.Shape;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import kr.zb.nengtul.user.domain.entity.User;
 import lombok.AllArgsConstructor;
@@ -25,10 +25,12 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Builder
 @Entity
 @EntityListeners(AuditingEntityListener.class)
+// 채팅방별 이전 메세지 조회 (chat_room_id = ? AND id < ? ORDER BY id DESC)
+@Table(indexes = @Index(name = "idx_chat_chat_room_id_id", columnList = "chat_room_id, id"))
 public class Chat {
 
+    // ChatIdGenerator 가 발급, 저장 전에 브로드캐스트할 수 있도록 DB 에 맡기지 않음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
     @ManyToOne
@@ -42,14 +44,8 @@ public class Chat {
     @Column(columnDefinition = "TEXT")
     private String content;
 
-    private boolean readMark;
-
     @CreatedDate
     @Column(nullable = false, updatable = false)
     @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Seoul")
     private LocalDateTime createdAt;
-
-    public void setReadMark(boolean read) {
-        this.readMark = read;
-    }
 }
\ No newline at end of file
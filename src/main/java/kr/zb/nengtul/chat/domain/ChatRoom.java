@@ -42,13 +42,6 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
                 @NamedAttributeNode(value = "connectedChatRooms", subgraph = "connectedChatRoomsWithUser")
         },
         subgraphs = @NamedSubgraph(name = "connectedChatRoomsWithUser", attributeNodes = @NamedAttributeNode("userId")))
-@NamedEntityGraph(name = "chatRoomWithShareBoardAndConnectedChatRoomsAndChtList",
-        attributeNodes = {
-                @NamedAttributeNode("shareBoard"),
-                @NamedAttributeNode("chatList"),
-                @NamedAttributeNode(value = "connectedChatRooms", subgraph = "connectedChatRoomsWithUser")
-        },
-        subgraphs = @NamedSubgraph(name = "connectedChatRoomsWithUser", attributeNodes = @NamedAttributeNode("userId")))
 
 public class ChatRoom {
 
@@ -76,6 +69,14 @@ public class ChatRoom {
     @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Seoul")
     private LocalDateTime createdAt;
 
+    // 채팅 목록 조회용 마지막 메세지, 메세지 전송 시 갱신
+    private Long lastChatId;
+
+    @Column(length = 100)
+    private String lastMessagePreview;
+
+    private LocalDateTime lastMessageAt;
+
     public ChatRoom(ShareBoard shareBoard) {
         this.roomId = UUID.randomUUID().toString();
         this.shareBoard = shareBoard;
@@ -33,6 +33,9 @@ public class ConnectedChatRoom {
 
     private boolean leaveRoom;
 
+    // 이 참여자가 읽은 마지막 chatId, 이후 상대방 메세지가 안 읽은 메세지
+    private long lastReadChatId;
+
     public void setChatRoom(ChatRoom chatRoom) {
         this.chatRoom = chatRoom;
     }
@@ -4,6 +4,9 @@ CREATE TABLE chat_room
     room_Id         VARCHAR(255),
     share_board_id BIGINT,
     created_at      TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    last_chat_id    BIGINT,
+    last_message_preview VARCHAR(100),
+    last_message_at TIMESTAMP,
     FOREIGN KEY (share_board_id) REFERENCES share_board (id)
 );
 CREATE TABLE connected_chat_room
@@ -12,18 +15,29 @@ CREATE TABLE connected_chat_room
     room_id BIGINT,
     user_id BIGINT,
     leave_room BOOLEAN,
+    last_read_chat_id BIGINT NOT NULL DEFAULT 0,
 
     FOREIGN KEY (room_id) REFERENCES chat_room (id),
     FOREIGN KEY (user_id) REFERENCES user (id)
 );
 CREATE TABLE chat
 (
-    id           BIGINT AUTO_INCREMENT PRIMARY KEY,
+    id           BIGINT PRIMARY KEY, -- ChatIdGenerator 가 발급
     chat_room_id BIGINT,
     sender_id    BIGINT,
     content      TEXT,
-    read_mark       BOOLEAN,
     created_at    TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     FOREIGN KEY (chat_room_id) REFERENCES chat_room (id),
     FOREIGN KEY (sender_id) REFERENCES user (id)
 );
+CREATE INDEX idx_chat_chat_room_id_id ON chat (chat_room_id, id);
+
+-- 기존 DB : 메세지별 read_mark 를 참여자별 last_read_chat_id 로 전환하고 read_mark 에 기본값을 추가하는 작업은
+--           기동 시 ChatSchemaMigration 이 실행 (순차 배포 중 이전 버전 서버가 read_mark 를 쓰므로 삭제하지 않음)
+-- 기존 DB : 모든 서버가 이 버전 이상으로 배포된 뒤 다음 배포에서 read_mark 삭제
+-- ALTER TABLE chat DROP COLUMN read_mark;
+
+-- 기존 DB : 채팅방 마지막 메세지 채우기는 기동 시 ChatSchemaMigration 이 실행
+
+-- 기존 DB : id 는 애플리케이션에서 발급 (AUTO_INCREMENT 가 남아 있어도 동작은 같음)
+-- ALTER TABLE chat MODIFY id BIGINT NOT NULL;
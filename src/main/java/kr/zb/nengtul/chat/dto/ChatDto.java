@@ -22,7 +22,17 @@ public class ChatDto {
     private String content;
     private boolean isRead;
 
-    public static ChatDto fromEntity(Chat chat) {
+    // 이전 메세지 조회, 읽음 여부는 참여자별 읽은 위치로 계산
+    public static ChatDto fromEntity(Chat chat, boolean isRead) {
+        return fromEntity(chat, chat.getSender().getNickname(), isRead);
+    }
+
+    // 새로 보낸 메세지, sender 가 조회되지 않은 참조일 때 세션의 닉네임 사용
+    public static ChatDto fromEntity(Chat chat, String senderNickname) {
+        return fromEntity(chat, senderNickname, false);
+    }
+
+    private static ChatDto fromEntity(Chat chat, String senderNickname, boolean isRead) {
 
         ShareBoard shareBoard = chat.getChatRoom().getShareBoard();
 
@@ -31,9 +41,9 @@ public class ChatDto {
                 .chatId(chat.getId())
                 .shareBoardId(shareBoard.getId())
                 .shareBoardTitle(shareBoard.getTitle())
-                .senderNickname(chat.getSender().getNickname())
+                .senderNickname(senderNickname)
                 .content(chat.getContent())
-                .isRead(chat.isReadMark())
+                .isRead(isRead)
                 .build();
     }
 
@@ -0,0 +1,57 @@
+package kr.zb.nengtul.chat.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import kr.zb.nengtul.chat.domain.Chat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatHistoryDto {
+
+    private String roomId;
+    // 오래된 순으로 정렬
+    private List<ChatDto> messages;
+    // 다음 요청의 beforeChatId, 더 이전 메세지가 없으면 null
+    private Long nextBeforeChatId;
+    private boolean hasNext;
+
+    /**
+     * readWatermarks : 참여자 id - 읽은 마지막 chatId
+     * 보낸 사람이 아닌 참여자가 그 메세지까지 읽었으면 읽은 메세지
+     */
+    public static ChatHistoryDto fromSlice(String roomId, Slice<Chat> chats,
+            Map<Long, Long> readWatermarks) {
+
+        // 최근 순으로 조회한 메세지를 오래된 순으로 뒤집음
+        List<ChatDto> messages = new ArrayList<>(chats.getContent().stream()
+                .map(chat -> ChatDto.fromEntity(chat, isRead(chat, readWatermarks)))
+                .toList());
+        Collections.reverse(messages);
+
+        Long nextBeforeChatId =
+                chats.hasNext() && !messages.isEmpty() ? messages.get(0).getChatId() : null;
+
+        return ChatHistoryDto.builder()
+                .roomId(roomId)
+                .messages(messages)
+                .nextBeforeChatId(nextBeforeChatId)
+                .hasNext(chats.hasNext())
+                .build();
+    }
+
+    private static boolean isRead(Chat chat, Map<Long, Long> readWatermarks) {
+        return readWatermarks.entrySet().stream()
+                .anyMatch(watermark -> !watermark.getKey().equals(chat.getSender().getId())
+                        && watermark.getValue() >= chat.getId());
+    }
+
+}
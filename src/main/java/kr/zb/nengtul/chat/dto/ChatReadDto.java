@@ -0,0 +1,19 @@
+package kr.zb.nengtul.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// readerId 가 lastReadChatId 이하의 상대방 메세지를 모두 읽음
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChatReadDto {
+
+    private String roomId;
+    private Long readerId;
+    private Long lastReadChatId;
+
+}
@@ -0,0 +1,10 @@
+package kr.zb.nengtul.chat.dto;
+
+// 채팅방 참여자별 읽은 마지막 chatId (ConnectedChatRoomRepository.findReadWatermarksByRoomId)
+public interface ChatReadWatermarkDto {
+
+    Long getUserId();
+
+    Long getLastReadChatId();
+
+}
@@ -1,14 +1,8 @@
 package kr.zb.nengtul.chat.dto;
 
-import java.util.Comparator;
-import java.util.Objects;
-import kr.zb.nengtul.chat.domain.Chat;
-import kr.zb.nengtul.chat.domain.ChatRoom;
-import kr.zb.nengtul.chat.domain.ConnectedChatRoom;
-import kr.zb.nengtul.global.exception.CustomException;
-import kr.zb.nengtul.global.exception.ErrorCode;
-import kr.zb.nengtul.shareboard.domain.entity.ShareBoard;
-import kr.zb.nengtul.user.domain.entity.User;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import java.time.LocalDateTime;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,39 +21,32 @@ public class ChatRoomDto {
     private String shareBoardTitle;
     private Long shareBoardPrice;
     private String latestChat;
+    @JsonFormat(shape = Shape.STRING, pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Seoul")
+    private LocalDateTime latestChatAt;
+    private long unreadCount;
 
-    public static ChatRoomDto fromEntity(ChatRoom chatRoom, User sender) {
-
-        User receiver = chatRoom.getConnectedChatRooms().stream()
-                .map(ConnectedChatRoom::getUser)
-                .filter(user -> !user.getId().equals(sender.getId()))
-                .findFirst()
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_OTHER_USER));
-
-        Chat latestChat = chatRoom.getChatList().stream()
-                .max(Comparator.comparing(Chat::getCreatedAt))
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CHAT));
-
-        ShareBoard shareBoard = chatRoom.getShareBoard();
+    public static ChatRoomDto fromSummary(ChatRoomSummaryDto summary) {
 
         String shareImg = "";
         String title = "삭제된 게시물 입니다";
         Long price = 0L;
 
-        if (shareBoard != null) {
-            shareImg = shareBoard.getShareImg();
-            title = shareBoard.getTitle();
-            price = shareBoard.getPrice();
+        if (summary.getShareBoardId() != null) {
+            shareImg = summary.getShareBoardMainPhoto();
+            title = summary.getShareBoardTitle();
+            price = summary.getShareBoardPrice();
         }
 
         return ChatRoomDto.builder()
-                .roomId(chatRoom.getRoomId())
-                .receiverPhoto(receiver.getProfileImageUrl())
-                .receiverNickname(receiver.getNickname())
+                .roomId(summary.getRoomId())
+                .receiverPhoto(summary.getReceiverPhoto())
+                .receiverNickname(summary.getReceiverNickname())
                 .shareBoardMainPhoto(shareImg)
                 .shareBoardTitle(title)
                 .shareBoardPrice(price)
-                .latestChat(Objects.requireNonNull(latestChat).getContent())
+                .latestChat(summary.getLatestChat())
+                .latestChatAt(summary.getLatestChatAt())
+                .unreadCount(summary.getUnreadCount() == null ? 0 : summary.getUnreadCount())
                 .build();
     }
 
@@ -0,0 +1,29 @@
+package kr.zb.nengtul.chat.dto;
+
+import java.time.LocalDateTime;
+
+// 채팅 목록 한 줄 (ConnectedChatRoomRepository.findChatRoomSummariesByUser)
+public interface ChatRoomSummaryDto {
+
+    String getRoomId();
+
+    String getReceiverPhoto();
+
+    String getReceiverNickname();
+
+    // 게시글이 삭제되었으면 null
+    Long getShareBoardId();
+
+    String getShareBoardMainPhoto();
+
+    String getShareBoardTitle();
+
+    Long getShareBoardPrice();
+
+    String getLatestChat();
+
+    LocalDateTime getLatestChatAt();
+
+    Long getUnreadCount();
+
+}
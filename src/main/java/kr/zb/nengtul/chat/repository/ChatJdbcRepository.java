@@ -0,0 +1,71 @@
+package kr.zb.nengtul.chat.repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.zb.nengtul.chat.domain.Chat;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메세지를 JPA 영속성 컨텍스트 없이 JDBC batch INSERT 로 저장한다.
+ * MySQL 에서 한 번의 요청으로 묶이려면 접속 URL 에 rewriteBatchedStatements=true 가 필요하다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatJdbcRepository {
+
+    private static final int MAX_PREVIEW_LENGTH = 100;
+
+    private static final String INSERT_CHAT_SQL =
+            "INSERT INTO chat (id, chat_room_id, sender_id, content, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?)";
+
+    // 마지막 메세지는 앞으로만 갱신 (여러 batch 가 동시에 저장되어도 순서가 바뀌지 않도록)
+    private static final String UPDATE_LAST_MESSAGE_SQL =
+            "UPDATE chat_room SET last_chat_id = ?, last_message_preview = ?, last_message_at = ? "
+                    + "WHERE id = ? AND (last_chat_id IS NULL OR last_chat_id < ?)";
+
+    private static final String SELECT_MAX_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM chat";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public long findMaxId() {
+        Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_ID_SQL, Long.class);
+        return maxId == null ? 0 : maxId;
+    }
+
+    @Transactional
+    public void saveAll(List<Chat> chats) {
+
+        jdbcTemplate.batchUpdate(INSERT_CHAT_SQL, chats, chats.size(), (ps, chat) -> {
+            ps.setLong(1, chat.getId());
+            ps.setLong(2, chat.getChatRoom().getId());
+            ps.setLong(3, chat.getSender().getId());
+            ps.setString(4, chat.getContent());
+            ps.setTimestamp(5, Timestamp.valueOf(chat.getCreatedAt()));
+        });
+
+        // 채팅방마다 가장 최근 메세지만 반영
+        Collection<Chat> lastChats = chats.stream()
+                .collect(Collectors.toMap(chat -> chat.getChatRoom().getId(), Function.identity(),
+                        BinaryOperator.maxBy((a, b) -> Long.compare(a.getId(), b.getId()))))
+                .values();
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_MESSAGE_SQL, lastChats, lastChats.size(),
+                (ps, chat) -> {
+                    ps.setLong(1, chat.getId());
+                    ps.setString(2, StringUtils.abbreviate(chat.getContent(), MAX_PREVIEW_LENGTH));
+                    ps.setTimestamp(3, Timestamp.valueOf(chat.getCreatedAt()));
+                    ps.setLong(4, chat.getChatRoom().getId());
+                    ps.setLong(5, chat.getId());
+                });
+    }
+}
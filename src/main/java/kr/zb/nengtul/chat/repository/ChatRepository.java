@@ -1,20 +1,28 @@
 package kr.zb.nengtul.chat.repository;
 
 
-import java.util.List;
 import java.util.Optional;
 import kr.zb.nengtul.chat.domain.Chat;
 import kr.zb.nengtul.chat.domain.ChatRoom;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface ChatRepository extends JpaRepository<Chat, Long> {
 
-    List<Chat> findByChatRoomRoomIdAndReadMarkIsFalseOrderByCreatedAtAsc(String roomId);
+    @Query("SELECT MAX(c.id) FROM Chat c WHERE c.chatRoom.roomId = :roomId")
+    Optional<Long> findLastChatIdByRoomId(String roomId);
 
-    List<Chat> findByChatRoomRoomIdOrderByCreatedAtAsc(String roomId);
+    // 가장 최근 메세지부터
+    @EntityGraph(attributePaths = {"chatRoom", "chatRoom.shareBoard", "sender"})
+    Slice<Chat> findByChatRoomRoomIdOrderByIdDesc(String roomId, Pageable pageable);
 
-    Optional<Chat> findByIdAndReadMarkIsFalse(Long chatId);
+    // chatId 보다 이전 메세지
+    @EntityGraph(attributePaths = {"chatRoom", "chatRoom.shareBoard", "sender"})
+    Slice<Chat> findByChatRoomRoomIdAndIdLessThanOrderByIdDesc(String roomId, Long chatId,
+            Pageable pageable);
 
     void deleteAllByChatRoom(ChatRoom chatRoom);
 }
-
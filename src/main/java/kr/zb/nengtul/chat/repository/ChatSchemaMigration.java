@@ -0,0 +1,103 @@
+package kr.zb.nengtul.chat.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * ddl-auto update 는 새 컬럼에 기존 데이터를 채우지 않으므로 채팅 테이블 변경에 필요한 작업을 기동 시 실행한다.
+ * 요청을 받기 전에 끝나도록 Hibernate 스키마 갱신 직후 실행하며, 이미 적용된 작업은 건너뛴다.
+ * 순차 배포 중에는 이전 버전 서버가 함께 동작하므로 컬럼 삭제 같은 되돌릴 수 없는 변경은 하지 않는다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class ChatSchemaMigration {
+
+    private static final String COUNT_COLUMN_SQL =
+            "SELECT COUNT(*) FROM information_schema.columns "
+                    + "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?";
+
+    // 상대방 메세지 중 read_mark 가 true 인 가장 큰 id 까지 읽은 것으로 봄
+    private static final String BACKFILL_LAST_READ_CHAT_ID_SQL =
+            "UPDATE connected_chat_room ccr "
+                    + "SET last_read_chat_id = (SELECT COALESCE(MAX(c.id), 0) FROM chat c "
+                    + "WHERE c.chat_room_id = ccr.room_id AND c.sender_id <> ccr.user_id "
+                    + "AND c.read_mark = true) "
+                    + "WHERE ccr.last_read_chat_id = 0";
+
+    private static final String COUNT_COLUMN_WITHOUT_DEFAULT_SQL =
+            "SELECT COUNT(*) FROM information_schema.columns "
+                    + "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ? "
+                    + "AND column_default IS NULL";
+
+    // 새 버전은 read_mark 를 넣지 않으므로 기본값만 추가 (이전 버전 서버는 primitive 로 읽으므로 NOT NULL 유지)
+    // 컬럼 삭제는 모든 서버가 새 버전이 된 다음 배포에서 chat.sql 의 DROP 문으로 실행
+    private static final String DEFAULT_READ_MARK_SQL =
+            "ALTER TABLE chat ALTER COLUMN read_mark SET DEFAULT 0";
+
+    // last_chat_id 도입 전 채팅방은 비어 있으므로 가장 최근 메세지로 채움
+    // 저장 중인 메세지가 먼저 채운 채팅방은 건너뛰도록 한 문장으로 처리
+    private static final String BACKFILL_LAST_MESSAGE_SQL =
+            "UPDATE chat_room cr "
+                    + "SET last_chat_id = (SELECT MAX(c.id) FROM chat c "
+                    + "WHERE c.chat_room_id = cr.id), "
+                    + "last_message_preview = (SELECT LEFT(c.content, 100) FROM chat c "
+                    + "WHERE c.chat_room_id = cr.id ORDER BY c.id DESC LIMIT 1), "
+                    + "last_message_at = (SELECT c.created_at FROM chat c "
+                    + "WHERE c.chat_room_id = cr.id ORDER BY c.id DESC LIMIT 1) "
+                    + "WHERE cr.last_chat_id IS NULL "
+                    + "AND EXISTS (SELECT 1 FROM chat c WHERE c.chat_room_id = cr.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 실패하면 메세지 저장(read_mark 기본값 없음), 채팅 목록이 잘못 동작하므로 기동을 중단
+    @PostConstruct
+    public void migrate() {
+        migrateReadMark();
+        backfillLastMessage();
+    }
+
+    private void migrateReadMark() {
+        if (!hasColumn("chat", "read_mark")) {
+            return;
+        }
+
+        // 메타데이터만 바꾸므로 테이블을 다시 만들지 않고, 여러 서버가 함께 실행해도 결과가 같음
+        if (hasColumnWithoutDefault("chat", "read_mark")) {
+            jdbcTemplate.execute(DEFAULT_READ_MARK_SQL);
+        }
+
+        // 배포 중 이전 버전 서버가 표시한 read_mark 도 반영되도록 컬럼이 남아 있는 동안 기동마다 실행
+        int updated = jdbcTemplate.update(BACKFILL_LAST_READ_CHAT_ID_SQL);
+
+        if (updated > 0) {
+            log.info("** Migrate chat read_mark to last_read_chat_id of {} participants **",
+                    updated);
+        }
+    }
+
+    private void backfillLastMessage() {
+        int updated = jdbcTemplate.update(BACKFILL_LAST_MESSAGE_SQL);
+
+        if (updated > 0) {
+            log.info("** Backfill last message of {} chat rooms **", updated);
+        }
+    }
+
+    private boolean hasColumn(String tableName, String columnName) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_COLUMN_SQL, Integer.class, tableName,
+                columnName);
+        return count != null && count > 0;
+    }
+
+    private boolean hasColumnWithoutDefault(String tableName, String columnName) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_COLUMN_WITHOUT_DEFAULT_SQL, Integer.class,
+                tableName, columnName);
+        return count != null && count > 0;
+    }
+}
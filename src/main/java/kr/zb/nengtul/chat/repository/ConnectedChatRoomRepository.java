@@ -4,8 +4,11 @@ import java.util.List;
 import java.util.Optional;
 import kr.zb.nengtul.chat.domain.ChatRoom;
 import kr.zb.nengtul.chat.domain.ConnectedChatRoom;
+import kr.zb.nengtul.chat.dto.ChatReadWatermarkDto;
+import kr.zb.nengtul.chat.dto.ChatRoomSummaryDto;
 import kr.zb.nengtul.user.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 
 public interface ConnectedChatRoomRepository extends JpaRepository<ConnectedChatRoom, Long> {
@@ -14,4 +17,33 @@ public interface ConnectedChatRoomRepository extends JpaRepository<ConnectedChat
     Optional<ChatRoom> findChatRoomByUsersAndShareBoard(User user1, User user2, Long shareBoardId);
 
     List<ConnectedChatRoom> findByChatRoomRoomId(String roomId);
+
+    // 읽음 위치는 앞으로만 이동
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ConnectedChatRoom ccr SET ccr.lastReadChatId = :chatId "
+            + "WHERE ccr.chatRoom.id = (SELECT cr.id FROM ChatRoom cr WHERE cr.roomId = :roomId) "
+            + "AND ccr.userId.id = :userId AND ccr.lastReadChatId < :chatId")
+    int updateLastReadChatId(String roomId, Long userId, Long chatId);
+
+    @Query("SELECT ccr.userId.id AS userId, ccr.lastReadChatId AS lastReadChatId "
+            + "FROM ConnectedChatRoom ccr WHERE ccr.chatRoom.roomId = :roomId")
+    List<ChatReadWatermarkDto> findReadWatermarksByRoomId(String roomId);
+
+    /**
+     * 참여 중인 채팅방 목록을 상대방, 게시글, 마지막 메세지, 안 읽은 메세지 수와 함께 한 번에 조회
+     * 메세지는 안 읽은 메세지 수만 (chat_room_id, id) 인덱스 범위로 센다.
+     */
+    @Query("SELECT cr.roomId AS roomId, "
+            + "receiver.profileImageUrl AS receiverPhoto, receiver.nickname AS receiverNickname, "
+            + "sb.id AS shareBoardId, sb.shareImg AS shareBoardMainPhoto, "
+            + "sb.title AS shareBoardTitle, sb.price AS shareBoardPrice, "
+            + "cr.lastMessagePreview AS latestChat, cr.lastMessageAt AS latestChatAt, "
+            + "(SELECT COUNT(c) FROM Chat c WHERE c.chatRoom = cr "
+            + "AND c.id > me.lastReadChatId AND c.sender <> me.userId) AS unreadCount "
+            + "FROM ConnectedChatRoom me JOIN me.chatRoom cr LEFT JOIN cr.shareBoard sb "
+            + "JOIN ConnectedChatRoom other ON other.chatRoom = cr AND other.userId <> me.userId "
+            + "JOIN other.userId receiver "
+            + "WHERE me.userId = :user AND me.leaveRoom = false "
+            + "ORDER BY cr.lastChatId DESC")
+    List<ChatRoomSummaryDto> findChatRoomSummariesByUser(User user);
 }
@@ -0,0 +1,94 @@
+package kr.zb.nengtul.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import kr.zb.nengtul.chat.repository.ChatJdbcRepository;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+/**
+ * DB 저장 전에 메세지 id 를 발급한다. 시각(ms) 40비트 + 서버 번호 3비트 + 순번 10비트로
+ * 한 서버 안에서는 항상 증가하고, 자바스크립트 number 로도 정확히 표현되는 53비트 이내다.
+ * 기존 AUTO_INCREMENT id 보다 항상 크므로 id 순 정렬, 읽은 위치 비교가 그대로 동작한다.
+ * 서버 번호가 겹치면 id 가 중복되므로 여러 대로 운영하는 relay 모드에서는 서버 번호를 반드시 지정해야 한다.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+public class ChatIdGenerator {
+
+    private static final String RELAY_MODE = "relay";
+
+    // 2023-01-01T00:00:00Z, 40비트로 약 34년
+    private static final long EPOCH_MILLIS = 1672531200000L;
+
+    private static final int NODE_BITS = 3;
+
+    private static final int SEQUENCE_BITS = 10;
+
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    private final ChatJdbcRepository chatJdbcRepository;
+
+    // 여러 대로 운영할 때 서버마다 다르게 지정 (0 ~ 7)
+    private final long nodeId;
+
+    private long lastMillis = -1;
+
+    private long sequence;
+
+    // 한 대로 운영하는 simple 모드만 서버 번호를 생략할 수 있음 (0)
+    public ChatIdGenerator(@Value("${spring.chat.node-id:}") String nodeId,
+            @Value("${spring.websocket.broker.mode:simple}") String brokerMode,
+            ChatJdbcRepository chatJdbcRepository) {
+        if (StringUtils.isBlank(nodeId) && RELAY_MODE.equalsIgnoreCase(brokerMode)) {
+            throw new IllegalStateException(
+                    "relay 모드는 서버마다 다른 spring.chat.node-id (CHAT_NODE_ID) 지정 필요");
+        }
+
+        long id = StringUtils.isBlank(nodeId) ? 0 : Long.parseLong(nodeId.trim());
+        if (id < 0 || id > MAX_NODE_ID) {
+            throw new IllegalArgumentException("spring.chat.node-id 는 0 ~ " + MAX_NODE_ID);
+        }
+
+        this.nodeId = id;
+        this.chatJdbcRepository = chatJdbcRepository;
+    }
+
+    // 재기동 후 시계가 되돌아가 있어도 이미 저장된 id 를 다시 발급하지 않도록 가장 큰 id 다음 ms 부터 발급
+    @PostConstruct
+    public synchronized void init() {
+        long maxId = chatJdbcRepository.findMaxId();
+        lastMillis = Math.max(lastMillis, (maxId >> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS + 1);
+    }
+
+    public synchronized long nextId() {
+        // 시계가 뒤로 가도 마지막 시각 기준으로 계속 증가
+        long now = Math.max(System.currentTimeMillis(), lastMillis);
+
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & MAX_SEQUENCE;
+            // 1ms 안에 순번을 다 쓰면 다음 ms 로 넘어감
+            if (sequence == 0) {
+                now = lastMillis + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+
+        lastMillis = now;
+
+        return ((now - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | (nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    // millis 시각까지 어느 서버에서든 발급될 수 있는 가장 큰 id
+    public static long maxIdAt(long millis) {
+        return ((millis - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS))
+                | (MAX_NODE_ID << SEQUENCE_BITS)
+                | MAX_SEQUENCE;
+    }
+}
@@ -0,0 +1,50 @@
+package kr.zb.nengtul.chat.service;
+
+import java.util.Collection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 같은 내용을 여러 목적지(채팅방, 참여자별 push)로 보낼 때 payload 를 한 번만 JSON 으로 변환한다.
+ * convertAndSend 는 목적지마다 다시 직렬화하므로, 변환된 메세지를 만들어 두고 헤더만 복사해 전송한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatMessageSender {
+
+    private final SimpMessagingTemplate simpMessagingTemplate;
+
+    public void sendToAll(Object payload, Collection<String> destinations) {
+        if (destinations.isEmpty()) {
+            return;
+        }
+
+        Message<?> message = encode(payload);
+
+        destinations.forEach(destination -> send(message, destination));
+    }
+
+    // convertAndSend 와 같은 브로커 컨버터를 사용해 content-type 등 헤더가 동일하도록 함
+    public Message<?> encode(Object payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(
+                SimpMessageType.MESSAGE);
+
+        Message<?> message = simpMessagingTemplate.getMessageConverter()
+                .toMessage(payload, accessor.getMessageHeaders());
+
+        if (message == null) {
+            throw new IllegalStateException(
+                    "메세지 변환 실패 : " + payload.getClass().getSimpleName());
+        }
+        return message;
+    }
+
+    // 변환된 메세지의 헤더만 복사해 목적지를 붙이고 payload 는 그대로 전송
+    public void send(Message<?> message, String destination) {
+        simpMessagingTemplate.send(destination, message);
+    }
+}
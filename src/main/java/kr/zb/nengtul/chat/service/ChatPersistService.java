@@ -0,0 +1,227 @@
+package kr.zb.nengtul.chat.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import kr.zb.nengtul.chat.domain.Chat;
+import kr.zb.nengtul.chat.repository.ChatJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+
+/**
+ * 메세지 저장을 브로드캐스트와 분리한다.
+ * async 모드는 크기가 정해진 큐에 넣고 바로 반환하며, 저장 스레드가 쌓인 메세지를 모아 batch INSERT 한다.
+ * 큐가 가득 차면 보낸 스레드가 직접 저장하므로 메세지를 버리지 않고 수신 속도가 저장 속도에 맞춰진다.
+ * async 모드에서 서버가 비정상 종료되면 큐에 남은 메세지가 유실될 수 있으므로,
+ * 저장이 끝난 뒤에 전달해야 하면 sync 모드를 사용한다.
+ * id 중복은 서버 번호 설정 오류이므로 재시도하지 않고 경보로 남긴다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ChatPersistService {
+
+    private static final String SYNC_MODE = "sync";
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private static final int MAX_RETRY = 3;
+
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10000;
+
+    private final ChatJdbcRepository chatJdbcRepository;
+
+    private final ChatIdGenerator chatIdGenerator;
+
+    // async, sync
+    @Value("${spring.chat.persist.mode:async}")
+    private String mode;
+
+    @Value("${spring.chat.persist.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${spring.chat.persist.batch-size:500}")
+    private int batchSize;
+
+    // ms, 큐가 가득 찼을 때 기다리는 시간, 지나면 보낸 스레드가 직접 저장
+    @Value("${spring.chat.persist.offer-timeout:100}")
+    private long offerTimeoutMillis;
+
+    private BlockingQueue<Chat> queue;
+
+    private Thread worker;
+
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        if (isSyncMode()) {
+            return;
+        }
+
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        worker = new Thread(this::drainLoop, "chat-persist");
+        worker.start();
+    }
+
+    // 직접 저장할 때는 실패가 보낸 사람에게 전달되도록 예외를 그대로 던짐
+    public void persist(Chat chat) {
+        if (isSyncMode() || !running) {
+            saveDirectly(chat);
+            return;
+        }
+
+        try {
+            if (queue.offer(chat, offerTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        log.warn("메세지 저장 큐가 가득 차 직접 저장 chatId : {}", chat.getId());
+        saveDirectly(chat);
+    }
+
+    private void saveDirectly(Chat chat) {
+        try {
+            chatJdbcRepository.saveAll(List.of(chat));
+        } catch (DuplicateKeyException e) {
+            logDuplicateId(chat.getId());
+            throw e;
+        }
+    }
+
+    // 큐에 남은 메세지를 모두 저장한 뒤 종료
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (worker == null) {
+            return;
+        }
+
+        running = false;
+        worker.join(SHUTDOWN_TIMEOUT_MILLIS);
+
+        if (worker.isAlive()) {
+            log.error("메세지 저장 스레드 종료 대기 시간 초과, 남은 메세지 {}건", queue.size());
+            return;
+        }
+
+        // 종료 직전에 큐에 들어온 메세지
+        List<Chat> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            write(remaining);
+        }
+    }
+
+    private void drainLoop() {
+        List<Chat> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Chat chat = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (chat == null) {
+                    continue;
+                }
+
+                // 기다리지 않고 그동안 쌓인 만큼만 모아서 저장 (한가할 때는 한 건씩, 몰릴 때는 batch 로)
+                batch.add(chat);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Chat> chats) {
+        boolean duplicated = false;
+
+        for (int attempt = 1; attempt <= MAX_RETRY; attempt++) {
+            try {
+                chatJdbcRepository.saveAll(chats);
+                return;
+            } catch (DuplicateKeyException e) {
+                // 같은 id 로는 다시 저장해도 실패하므로 한 건씩 저장하며 중복된 메세지를 찾음
+                duplicated = true;
+                break;
+            } catch (Exception e) {
+                log.warn("메세지 저장 실패 {}건 ({}/{}), {}", chats.size(), attempt, MAX_RETRY,
+                        e.getMessage());
+            }
+
+            if (attempt < MAX_RETRY && !sleep(RETRY_BACKOFF_MILLIS * attempt)) {
+                break;
+            }
+        }
+
+        if (chats.size() == 1 && !duplicated) {
+            log.error("메세지 저장 실패 chatId : {}", chats.get(0).getId());
+            return;
+        }
+
+        // 일부 메세지 때문에 batch 전체를 잃지 않도록 한 건씩 다시 저장
+        for (Chat chat : chats) {
+            try {
+                chatJdbcRepository.saveAll(List.of(chat));
+            } catch (DuplicateKeyException e) {
+                logDuplicateId(chat.getId());
+                saveWithNewId(chat);
+            } catch (Exception e) {
+                log.error("메세지 저장 실패 chatId : {}, {}", chat.getId(), e.getMessage());
+            }
+        }
+    }
+
+    // 이미 전달된 메세지이므로 버리지 않고 새 id 로 저장 (다시 조회하면 전달된 id 와 달라짐)
+    private void saveWithNewId(Chat chat) {
+        Chat reissued = Chat.builder()
+                .id(chatIdGenerator.nextId())
+                .chatRoom(chat.getChatRoom())
+                .sender(chat.getSender())
+                .content(chat.getContent())
+                .createdAt(chat.getCreatedAt())
+                .build();
+
+        try {
+            chatJdbcRepository.saveAll(List.of(reissued));
+            log.error("중복된 메세지를 새 id 로 저장 chatId : {} -> {}", chat.getId(), reissued.getId());
+        } catch (Exception e) {
+            log.error("메세지 저장 실패 chatId : {}, {}", reissued.getId(), e.getMessage());
+        }
+    }
+
+    // 다른 서버와 서버 번호가 겹친 경우이므로 운영자가 바로 확인해야 함
+    private void logDuplicateId(Long chatId) {
+        log.error("[ALARM] 메세지 id 중복 chatId : {}, 서버마다 spring.chat.node-id 가 다른지 확인 필요",
+                chatId);
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private boolean isSyncMode() {
+        return SYNC_MODE.equalsIgnoreCase(mode);
+    }
+}
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Set;
 import kr.zb.nengtul.chat.domain.ChatRoom;
 import kr.zb.nengtul.chat.domain.ConnectedChatRoom;
+import kr.zb.nengtul.chat.dto.ChatRoomDto;
 import kr.zb.nengtul.chat.repository.ChatRepository;
 import kr.zb.nengtul.chat.repository.ChatRoomRepository;
 import kr.zb.nengtul.chat.repository.ConnectedChatRoomRepository;
@@ -92,12 +93,11 @@ public class ChatRoomService {
         }
     }
 
-    public List<ChatRoom> getChatRoomList(User user) {
-
-        return chatRoomRepository
-                .findByConnectedChatRoomsUserIdAndConnectedChatRoomsLeaveRoomIsFalseOrderByChatListCreatedAtDesc(
-                        user
-                );
+    // 메세지를 불러오지 않고 채팅방 목록을 한 번의 쿼리로 조회
+    public List<ChatRoomDto> getChatRoomList(User user) {
+        return connectedChatRoomRepository.findChatRoomSummariesByUser(user).stream()
+                .map(ChatRoomDto::fromSummary)
+                .toList();
     }
 
     public ChatRoom findById(String roomId) {
@@ -1,63 +1,106 @@
 package kr.zb.nengtul.chat.service;
 
 import jakarta.transaction.Transactional;
-import java.util.ArrayList;
-import java.util.List;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
 import kr.zb.nengtul.chat.domain.Chat;
 import kr.zb.nengtul.chat.domain.ChatRoom;
+import kr.zb.nengtul.chat.dto.ChatReadWatermarkDto;
 import kr.zb.nengtul.chat.repository.ChatRepository;
+import kr.zb.nengtul.chat.repository.ConnectedChatRoomRepository;
 import kr.zb.nengtul.global.exception.CustomException;
 import kr.zb.nengtul.global.exception.ErrorCode;
 import kr.zb.nengtul.user.domain.entity.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 public class ChatService {
 
+    private static final int DEFAULT_HISTORY_SIZE = 30;
+    private static final int MAX_HISTORY_SIZE = 100;
+    // 서버 간 시계 차이, 다른 서버가 발급한 id 가 이 서버 시각보다 조금 앞설 수 있음
+    private static final long CLOCK_SKEW_MILLIS = 60000;
+
     private final ChatRepository chatRepository;
+    private final ConnectedChatRoomRepository connectedChatRoomRepository;
+    private final ChatIdGenerator chatIdGenerator;
+    private final ChatPersistService chatPersistService;
 
+    /**
+     * id 를 먼저 발급해 바로 브로드캐스트할 수 있는 메세지를 만들고 저장은 ChatPersistService 에 맡김
+     * 채팅 목록에 보여줄 채팅방의 마지막 메세지도 저장할 때 함께 갱신된다.
+     */
     public Chat createMessage(User sender, ChatRoom chatRoom, String content) {
         Chat chat = Chat.builder()
+                .id(chatIdGenerator.nextId())
                 .sender(sender)
                 .chatRoom(chatRoom)
                 .content(content)
-                .readMark(false)
+                .createdAt(LocalDateTime.now())
                 .build();
-        return chatRepository.save(chat);
+
+        chatPersistService.persist(chat);
+
+        return chat;
     }
 
+    /**
+     * reader 의 읽은 위치를 chatId 로 옮김 (참여자 한 행 UPDATE)
+     * 이미 그 이후까지 읽었으면 null
+     * 아직 발급될 수 없는 id 로 옮기면 이후 메세지가 모두 읽음 처리되므로 거부한다.
+     */
     @Transactional
-    public Chat markAsRead(Long chatId, User reader) {
-        Chat chat = chatRepository.findByIdAndReadMarkIsFalse(chatId)
-                .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_CHAT));
-        if (!chat.getSender().getId().equals(reader.getId())) {
-            chat.setReadMark(true);
-            chatRepository.save(chat);
+    public Long markAsRead(String roomId, Long chatId, User reader) {
+        if (chatId == null || chatId <= 0 || chatId > ChatIdGenerator.maxIdAt(
+                System.currentTimeMillis() + CLOCK_SKEW_MILLIS)) {
+            throw new CustomException(ErrorCode.NOT_FOUND_CHAT);
         }
 
-        return chat;
+        int updated = connectedChatRoomRepository.updateLastReadChatId(roomId, reader.getId(),
+                chatId);
+
+        return updated == 0 ? null : chatId;
     }
 
+    // 채팅방의 가장 최근 메세지까지 읽음 처리, 처리 도중 들어온 메세지는 안 읽은 메세지로 남음
     @Transactional
-    public List<Chat> markAllAsRead(String roomId, User reader) {
-        List<Chat> chats = chatRepository.findByChatRoomRoomIdAndReadMarkIsFalseOrderByCreatedAtAsc(
-                roomId);
-        List<Chat> markedChat = new ArrayList<>();
-        for (Chat chat : chats) {
-            if (!chat.getSender().getId().equals(reader.getId())) {
-                chat.setReadMark(true);
-                markedChat.add(chat);
-            }
+    public Long markAllAsRead(String roomId, User reader) {
+        Long lastChatId = chatRepository.findLastChatIdByRoomId(roomId).orElse(null);
+
+        if (lastChatId == null) {
+            return null;
         }
-        chatRepository.saveAll(markedChat);
 
-        return markedChat;
+        return markAsRead(roomId, lastChatId, reader);
+    }
+
+    // 참여자 id - 읽은 마지막 chatId
+    public Map<Long, Long> getReadWatermarks(String roomId) {
+        return connectedChatRoomRepository.findReadWatermarksByRoomId(roomId).stream()
+                .collect(Collectors.toMap(ChatReadWatermarkDto::getUserId,
+                        ChatReadWatermarkDto::getLastReadChatId));
     }
 
-    public List<Chat> getPreviousMessages(String roomId) {
-        return chatRepository.findByChatRoomRoomIdOrderByCreatedAtAsc(roomId);
+    /**
+     * beforeChatId 보다 이전 메세지를 최근 순으로 size 개 조회 (beforeChatId 가 없으면 가장 최근 메세지부터)
+     * OFFSET 없이 (chat_room_id, id) 인덱스를 따라 읽으므로 오래된 페이지도 조회 비용이 같다.
+     */
+    public Slice<Chat> getPreviousMessages(String roomId, Long beforeChatId, Integer size) {
+        int pageSize = size == null || size <= 0 ? DEFAULT_HISTORY_SIZE
+                : Math.min(size, MAX_HISTORY_SIZE);
+        Pageable pageable = PageRequest.of(0, pageSize);
+
+        if (beforeChatId == null) {
+            return chatRepository.findByChatRoomRoomIdOrderByIdDesc(roomId, pageable);
+        }
+        return chatRepository.findByChatRoomRoomIdAndIdLessThanOrderByIdDesc(roomId, beforeChatId,
+                pageable);
     }
 
 }
@@ -1,23 +1,23 @@
 package kr.zb.nengtul.favorite.controller;
 
-import java.util.List;
 import java.util.Objects;
-import kr.zb.nengtul.favorite.service.FavoriteService;
+import kr.zb.nengtul.favorite.service.FavoritePushService;
 import kr.zb.nengtul.global.exception.CustomException;
 import kr.zb.nengtul.global.exception.ErrorCode;
+import kr.zb.nengtul.notification.domain.constants.NotificationType;
 import kr.zb.nengtul.recipe.domain.dto.PushRecipeDto;
 import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
 import kr.zb.nengtul.recipe.service.RecipeService;
 import kr.zb.nengtul.shareboard.domain.dto.PushShareBoardDto;
 import kr.zb.nengtul.shareboard.domain.entity.ShareBoard;
 import kr.zb.nengtul.shareboard.service.ShareBoardService;
+import kr.zb.nengtul.user.domain.dto.SessionUserDto;
 import kr.zb.nengtul.user.domain.entity.User;
 import kr.zb.nengtul.user.service.UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 
 @Controller
@@ -25,9 +25,8 @@ import org.springframework.stereotype.Controller;
 public class PushFavoriteController {
 
     private final UserService userService;
-    private final FavoriteService favoriteService;
+    private final FavoritePushService favoritePushService;
     private final ShareBoardService shareBoardService;
-    private final SimpMessagingTemplate simpMessagingTemplate;
     private final RecipeService recipeService;
 
     @MessageMapping("/favorite/push/shareboards/{shareBoardId}")
@@ -36,8 +35,8 @@ public class PushFavoriteController {
             @DestinationVariable("shareBoardId") Long shareBoardId
     ) {
 
-        String email = userService.getEmailByAccessor(accessor);
-        User user = userService.findUserByEmail(email);
+        SessionUserDto sessionUser = userService.getSessionUserByAccessor(accessor);
+        User user = userService.getUserReference(sessionUser.getId());
 
         ShareBoard shareBoard = shareBoardService.findById(shareBoardId);
 
@@ -45,14 +44,8 @@ public class PushFavoriteController {
             throw new CustomException(ErrorCode.NOT_OWNER_OF_THE_POST);
         }
 
-        List<Long> subscriberIds = favoriteService.getSubscriberIds(user);
-
-        subscriberIds.forEach(
-                subscriberId -> simpMessagingTemplate.convertAndSend(
-                        "/sub/favorite/push/shareboard/users/" + subscriberId,
-                        PushShareBoardDto.fromEntity(shareBoard)
-                )
-        );
+        favoritePushService.push(user.getId(), "/sub/favorite/push/shareboard/users/",
+                NotificationType.SHARE_BOARD, PushShareBoardDto.fromEntity(shareBoard));
     }
 
     @MessageMapping("/favorite/push/recipe/{recipeId}")
@@ -61,8 +54,8 @@ public class PushFavoriteController {
             @DestinationVariable("recipeId") String recipeId
     ) {
 
-        String email = userService.getEmailByAccessor(accessor);
-        User user = userService.findUserByEmail(email);
+        SessionUserDto sessionUser = userService.getSessionUserByAccessor(accessor);
+        User user = userService.getUserReference(sessionUser.getId());
 
         RecipeDocument recipe = recipeService.findById(recipeId);
 
@@ -70,13 +63,8 @@ public class PushFavoriteController {
             throw new CustomException(ErrorCode.NOT_OWNER_OF_THE_POST);
         }
 
-        List<Long> subscriberIds = favoriteService.getSubscriberIds(user);
-
-        subscriberIds.forEach(
-                subscriberId -> simpMessagingTemplate.convertAndSend(
-                        "/sub/favorite/push/recipe/users/" + subscriberId,
-                        PushRecipeDto.fromEntity(recipe, user)
-                )
-        );
+        favoritePushService.push(user.getId(), "/sub/favorite/push/recipe/users/",
+                NotificationType.RECIPE,
+                PushRecipeDto.fromEntity(recipe, sessionUser.getNickname()));
     }
 }
@@ -0,0 +1,25 @@
+package kr.zb.nengtul.favorite.domain.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@Builder
+@ToString
+public class FavoritePushResultDto {
+
+    private Long publisherId;
+
+    private int subscriberCount;
+
+    private int sentCount;
+
+    // 실시간으로 받았는지 확인할 수 없어 보관함에 저장한 구독자 수
+    private int offlineCount;
+
+    private int failedCount;
+
+    private long elapsedMillis;
+
+}
@@ -18,6 +18,8 @@ import java.time.LocalDateTime;
 @Entity
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+// 알림 대상 구독자 id 조회 (publisher_id = ? AND user_id > ? ORDER BY user_id)
+@Table(indexes = @Index(name = "idx_favorite_publisher_id_user_id", columnList = "publisher_id, user_id"))
 public class Favorite {
 
     @Id
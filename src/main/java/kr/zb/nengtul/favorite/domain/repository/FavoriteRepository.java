@@ -3,11 +3,11 @@ package kr.zb.nengtul.favorite.domain.repository;
 import java.util.List;
 import java.util.Optional;
 import kr.zb.nengtul.favorite.domain.entity.Favorite;
-import kr.zb.nengtul.user.domain.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,7 +18,11 @@ public interface FavoriteRepository extends JpaRepository<Favorite, Long> {
 
   Optional<Favorite> findByUserIdAndPublisherId(Long userId, Long publisherId);
 
-  List<Favorite> findByPublisher(User publisher);
+  // 알림 대상 구독자 id 만 afterUserId 이후부터 조회 (회원 엔티티를 읽지 않음)
+  @Query("SELECT f.user.id FROM Favorite f "
+      + "WHERE f.publisher.id = :publisherId AND f.user.id > :afterUserId "
+      + "ORDER BY f.user.id")
+  List<Long> findSubscriberIds(Long publisherId, Long afterUserId, Pageable pageable);
 
   int countByUserId(Long userId);
 }
@@ -0,0 +1,201 @@
+package kr.zb.nengtul.favorite.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import kr.zb.nengtul.chat.config.OnlineUserRegistry;
+import kr.zb.nengtul.chat.service.ChatMessageSender;
+import kr.zb.nengtul.favorite.domain.dto.FavoritePushResultDto;
+import kr.zb.nengtul.favorite.domain.repository.FavoriteRepository;
+import kr.zb.nengtul.notification.domain.constants.NotificationType;
+import kr.zb.nengtul.notification.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.Message;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * 즐겨찾기한 구독자에게 새 글 알림을 보낸다.
+ * 구독자 id 만 페이지 단위로 읽어 전용 스레드 풀에서 batch 별로 나눠 보내므로 구독자가 많아도
+ * STOMP 처리 스레드를 붙잡지 않으며, 실시간으로 받았는지 확인할 수 없는 구독자는 알림 보관함에 저장한다.
+ * 구독자를 읽어 batch 를 나누는 작업은 별도 스레드 풀에서 실행하고, 대기열이 가득 차면 요청을 거절한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class FavoritePushService {
+
+  private final FavoriteRepository favoriteRepository;
+
+  private final ChatMessageSender chatMessageSender;
+
+  private final OnlineUserRegistry onlineUserRegistry;
+
+  private final NotificationService notificationService;
+
+  @Value("${spring.favorite.push.pool-size:4}")
+  private int poolSize;
+
+  // 동시에 구독자를 읽어 batch 를 나누는 알림 수
+  @Value("${spring.favorite.push.fan-out-pool-size:2}")
+  private int fanOutPoolSize;
+
+  // 대기할 수 있는 알림 수, 넘치면 거절
+  @Value("${spring.favorite.push.fan-out-queue-capacity:100}")
+  private int fanOutQueueCapacity;
+
+  // 한 번에 조회할 구독자 id 수
+  @Value("${spring.favorite.push.page-size:1000}")
+  private int pageSize;
+
+  // 스레드 하나가 이어서 보낼 구독자 수
+  @Value("${spring.favorite.push.batch-size:200}")
+  private int batchSize;
+
+  private ThreadPoolTaskExecutor fanOutExecutor;
+
+  private ThreadPoolTaskExecutor executor;
+
+  // 스레드 풀을 빈으로 등록하면 스프링 기본 TaskExecutor 를 대체하므로 내부에서만 생성
+  @PostConstruct
+  public void init() {
+    // 요청한 STOMP 스레드에서 실행되지 않도록 큐가 가득 차면 거절 (AbortPolicy)
+    fanOutExecutor = new ThreadPoolTaskExecutor();
+    fanOutExecutor.setCorePoolSize(fanOutPoolSize);
+    fanOutExecutor.setMaxPoolSize(fanOutPoolSize);
+    fanOutExecutor.setQueueCapacity(fanOutQueueCapacity);
+    fanOutExecutor.setThreadNamePrefix("favorite-fan-out-");
+    fanOutExecutor.initialize();
+
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(poolSize);
+    executor.setMaxPoolSize(poolSize);
+    executor.setQueueCapacity(poolSize * 100);
+    executor.setThreadNamePrefix("favorite-push-");
+    // 큐가 가득 차면 batch 를 제출한 fan-out 스레드에서 보내 알림을 버리지 않음
+    executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    executor.initialize();
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    fanOutExecutor.shutdown();
+    executor.shutdown();
+  }
+
+  /**
+   * destinationPrefix + 구독자 id 로 payload 를 보낸다. payload 는 한 번만 변환한다.
+   */
+  public CompletableFuture<FavoritePushResultDto> push(Long publisherId, String destinationPrefix,
+      NotificationType type, Object payload) {
+
+    Message<?> message = chatMessageSender.encode(payload);
+    CompletableFuture<CompletableFuture<FavoritePushResultDto>> fanOut;
+
+    try {
+      fanOut = CompletableFuture.supplyAsync(
+          () -> fanOut(publisherId, destinationPrefix, type, payload, message), fanOutExecutor);
+    } catch (RejectedExecutionException e) {
+      log.error("즐겨찾기 알림 대기열 초과로 거절 publisherId : {}", publisherId);
+      return CompletableFuture.completedFuture(null);
+    }
+
+    return fanOut
+        .thenCompose(result -> result)
+        .exceptionally(e -> {
+          log.error("즐겨찾기 알림 전송 실패 publisherId : {}, {}", publisherId, e.getMessage());
+          return null;
+        });
+  }
+
+  private CompletableFuture<FavoritePushResultDto> fanOut(Long publisherId,
+      String destinationPrefix, NotificationType type, Object payload, Message<?> message) {
+
+    long startedAt = System.currentTimeMillis();
+
+    AtomicInteger sentCount = new AtomicInteger();
+    AtomicInteger failedCount = new AtomicInteger();
+    int subscriberCount = 0;
+    int offlineCount = 0;
+
+    List<CompletableFuture<Void>> batches = new ArrayList<>();
+    Long afterUserId = 0L;
+
+    while (true) {
+      List<Long> subscriberIds = favoriteRepository.findSubscriberIds(publisherId, afterUserId,
+          PageRequest.of(0, pageSize));
+
+      if (subscriberIds.isEmpty()) {
+        break;
+      }
+
+      subscriberCount += subscriberIds.size();
+      afterUserId = subscriberIds.get(subscriberIds.size() - 1);
+
+      List<String> destinations = subscriberIds.stream()
+          .filter(onlineUserRegistry::isOnline)
+          .map(subscriberId -> destinationPrefix + subscriberId)
+          .toList();
+
+      // relay 모드는 전송한 구독자도 저장
+      List<Long> offlineIds = subscriberIds.stream()
+          .filter(onlineUserRegistry::needsInbox)
+          .toList();
+      offlineCount += offlineIds.size();
+      notificationService.saveAll(offlineIds, type, payload);
+
+      for (int from = 0; from < destinations.size(); from += batchSize) {
+        List<String> batch = destinations.subList(from,
+            Math.min(from + batchSize, destinations.size()));
+
+        batches.add(CompletableFuture.runAsync(
+            () -> send(message, batch, sentCount, failedCount), executor));
+      }
+
+      if (subscriberIds.size() < pageSize) {
+        break;
+      }
+    }
+
+    int subscribers = subscriberCount;
+    int offline = offlineCount;
+
+    return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+        .thenApply(v -> {
+          FavoritePushResultDto result = FavoritePushResultDto.builder()
+              .publisherId(publisherId)
+              .subscriberCount(subscribers)
+              .sentCount(sentCount.get())
+              .offlineCount(offline)
+              .failedCount(failedCount.get())
+              .elapsedMillis(System.currentTimeMillis() - startedAt)
+              .build();
+
+          log.info("즐겨찾기 알림 전송 {}", result);
+          return result;
+        });
+  }
+
+  private void send(Message<?> message, List<String> destinations, AtomicInteger sentCount,
+      AtomicInteger failedCount) {
+
+    for (String destination : destinations) {
+      try {
+        chatMessageSender.send(message, destination);
+        sentCount.incrementAndGet();
+      } catch (Exception e) {
+        failedCount.incrementAndGet();
+        log.warn("즐겨찾기 알림 전송 실패 {}, {}", destination, e.getMessage());
+      }
+    }
+  }
+
+}
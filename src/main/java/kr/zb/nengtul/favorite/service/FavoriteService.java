@@ -1,19 +1,27 @@
 package kr.zb.nengtul.favorite.service;
 
+import static org.elasticsearch.index.query.QueryBuilders.termQuery;
+
 import java.security.Principal;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import kr.zb.nengtul.favorite.domain.dto.FavoriteDto;
 import kr.zb.nengtul.favorite.domain.entity.Favorite;
 import kr.zb.nengtul.favorite.domain.repository.FavoriteRepository;
 import kr.zb.nengtul.global.exception.CustomException;
 import kr.zb.nengtul.global.exception.ErrorCode;
-import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
+import kr.zb.nengtul.recipe.config.ElasticsearchAsyncOperations;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import kr.zb.nengtul.recipe.service.RecipeDetailCache;
 import kr.zb.nengtul.user.domain.constants.UserPoint;
 import kr.zb.nengtul.user.domain.entity.User;
 import kr.zb.nengtul.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,7 +32,8 @@ public class FavoriteService {
   private final FavoriteRepository favoriteRepository;
 
   private final UserRepository userRepository;
-  private final RecipeSearchRepository recipeSearchRepository;
+  private final ElasticsearchAsyncOperations elasticsearchAsyncOperations;
+  private final RecipeDetailCache recipeDetailCache;
 
   @Transactional
   public void addFavorite(Principal principal, Long publisherId) {
@@ -43,6 +52,7 @@ public class FavoriteService {
     publisher.setPlusPoint(UserPoint.FAVORITE);
 
     userRepository.save(publisher);
+    recipeDetailCache.evictAuthor(publisher.getId());
 
     favoriteRepository.save(Favorite.builder()
         .user(user)
@@ -56,15 +66,31 @@ public class FavoriteService {
     User user = userRepository.findByEmail(principal.getName())
         .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
 
-    return favoriteRepository.findAllByUserId(user.getId(), pageable)
-        .map(favorite -> FavoriteDto.builder()
-            .id(favorite.getId())
-            .publisherId(favorite.getPublisher().getId())
-            .publisherNickName(favorite.getPublisher().getNickname())
-            .publisherPoint(favorite.getPublisher().getPoint())
-            .publisherRecipeCount(recipeSearchRepository.countByUserId(favorite.getPublisher().getId()))
-            .publisherProfilePhotoUrl(favorite.getPublisher().getProfileImageUrl())
-            .build());
+    Page<Favorite> favorites = favoriteRepository.findAllByUserId(user.getId(), pageable);
+
+    // 작성자별 레시피 수는 서로 관계없으므로 한 번에 요청하고 모두 끝날 때까지 기다림
+    Map<Long, CompletableFuture<Long>> recipeCounts = favorites.stream()
+        .map(favorite -> favorite.getPublisher().getId())
+        .distinct()
+        .collect(Collectors.toMap(Function.identity(), this::countRecipes));
+
+    CompletableFuture.allOf(recipeCounts.values().toArray(CompletableFuture[]::new)).join();
+
+    return favorites.map(favorite -> FavoriteDto.builder()
+        .id(favorite.getId())
+        .publisherId(favorite.getPublisher().getId())
+        .publisherNickName(favorite.getPublisher().getNickname())
+        .publisherPoint(favorite.getPublisher().getPoint())
+        .publisherRecipeCount(
+            recipeCounts.get(favorite.getPublisher().getId()).join().intValue())
+        .publisherProfilePhotoUrl(favorite.getPublisher().getProfileImageUrl())
+        .build());
+  }
+
+  private CompletableFuture<Long> countRecipes(Long publisherId) {
+    return elasticsearchAsyncOperations.count(new NativeSearchQueryBuilder()
+        .withQuery(termQuery("userId", publisherId))
+        .build(), RecipeDocument.class);
   }
 
   @Transactional
@@ -83,16 +109,10 @@ public class FavoriteService {
     favorite.getPublisher().setMinusPoint(UserPoint.FAVORITE);
 
     userRepository.save(favorite.getPublisher());
+    recipeDetailCache.evictAuthor(favorite.getPublisher().getId());
 
     favoriteRepository.delete(favorite);
 
   }
 
-  public List<Long> getSubscriberIds(User user) {
-    return favoriteRepository.findByPublisher(user)
-        .stream()
-        .map(favorite -> favorite.getUser().getId())
-        .toList();
-  }
-
 }
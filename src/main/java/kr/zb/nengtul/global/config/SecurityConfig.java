@@ -75,6 +75,7 @@ public class SecurityConfig {
 //        .authorizeHttpRequests(m -> methodSecurityExpressionHandler(new RoleHierarchy()))
         .authorizeHttpRequests(authorizationHttpRequests -> authorizationHttpRequests
             .requestMatchers("/v1/notices/**").hasRole("ADMIN")
+            .requestMatchers("/v1/recipe/index/**").hasRole("ADMIN")//레시피 인덱스 재색인
             .requestMatchers(HttpMethod.GET, "/v1/noticelist/**").permitAll()//공지사항 조회
             .requestMatchers(HttpMethod.GET, "/v1/recipe/**").permitAll()
             .requestMatchers(HttpMethod.GET, "/v1/recipes/**").permitAll() //댓글
@@ -111,7 +112,8 @@ public class SecurityConfig {
                 "/v1/likes/**",
                 "/v1/favorite/**",
                 "/v1/saved-recipe/**",
-                "/v1/chat/**"
+                "/v1/chat/**",
+                "/v1/notifications/**"
             ).hasRole("USER")
             .anyRequest().authenticated()) // 위의 경로 이외에는 모두 인증된 사용자만 접근 가능
         .logout(logout -> logout.logoutSuccessUrl("/"))
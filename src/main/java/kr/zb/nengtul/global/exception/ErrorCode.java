@@ -29,6 +29,9 @@ public enum ErrorCode {
 
   //게시판
   NOT_FOUND_RECIPE(HttpStatus.NOT_FOUND, "레시피를 찾을 수 없습니다."),
+  INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
+  ALREADY_CURRENT_RECIPE_INDEX(HttpStatus.BAD_REQUEST, "레시피 인덱스가 이미 현재 버전입니다."),
+  ALREADY_MIGRATING_RECIPE_INDEX(HttpStatus.CONFLICT, "이미 레시피 인덱스를 재색인 중입니다."),
 
   //공지사항
   NOT_FOUND_NOTICE(HttpStatus.NOT_FOUND, "공지를 찾을 수 없습니다."),
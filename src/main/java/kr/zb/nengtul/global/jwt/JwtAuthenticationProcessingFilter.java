@@ -4,11 +4,13 @@ package kr.zb.nengtul.global.jwt;
 import static kr.zb.nengtul.global.exception.ErrorCode.ALREADY_LOGOUT_TOKEN;
 
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.util.Optional;
 import java.util.UUID;
 import kr.zb.nengtul.auth.entity.BlacklistToken;
 import kr.zb.nengtul.auth.repository.BlacklistTokenRepository;
@@ -110,8 +112,9 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     String accessToken = jwtTokenProvider.extractAccessToken(request).orElse(null);
     if (accessToken != null) {
       try {
-        if (jwtTokenProvider.isTokenValid(accessToken)) {
-          jwtTokenProvider.extractEmail(accessToken)
+        Optional<DecodedJWT> decodedJWT = jwtTokenProvider.verifyToken(accessToken);
+        if (decodedJWT.isPresent()) {
+          jwtTokenProvider.extractEmail(decodedJWT.get())
               .flatMap(userRepository::findByEmail)
               .ifPresent(this::saveAuthentication);
         } else {
@@ -4,12 +4,16 @@ import com.auth0.jwt.JWT;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Date;
 import java.util.Optional;
 import kr.zb.nengtul.user.domain.repository.UserRepository;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -49,6 +53,19 @@ public class JwtTokenProvider {
 
   private final UserRepository userRepository;
 
+  // 알고리즘과 verifier 는 불변이라 여러 스레드에서 공유, 요청마다 새로 만들지 않음
+  @Getter(AccessLevel.NONE)
+  private Algorithm algorithm;
+
+  @Getter(AccessLevel.NONE)
+  private JWTVerifier jwtVerifier;
+
+  @PostConstruct
+  public void init() {
+    algorithm = Algorithm.HMAC512(secretKey);
+    jwtVerifier = JWT.require(algorithm).build();
+  }
+
   public String createAccessToken(String email) {
     Date now = new Date();
     return JWT.create() // JWT 토큰을 생성하는 빌더 반환
@@ -56,8 +73,7 @@ public class JwtTokenProvider {
         .withExpiresAt(new Date(now.getTime() + accessTokenExpirationPeriod)) // 토큰 만료 시간 설정
 
         .withClaim(EMAIL_CLAIM, email)
-        .sign(Algorithm.HMAC512(
-            secretKey)); // HMAC512 알고리즘 사용, application-jwt.yml에서 지정한 secret 키로 암호화
+        .sign(algorithm); // HMAC512 알고리즘 사용, application-jwt.yml에서 지정한 secret 키로 암호화
   }
 
 
@@ -66,7 +82,7 @@ public class JwtTokenProvider {
     return JWT.create()
         .withSubject(REFRESH_TOKEN_SUBJECT)
         .withExpiresAt(new Date(now.getTime() + refreshTokenExpirationPeriod))
-        .sign(Algorithm.HMAC512(secretKey));
+        .sign(algorithm);
   }
 
   public void sendAccessToken(HttpServletResponse response, String accessToken) {
@@ -106,17 +122,12 @@ public class JwtTokenProvider {
   }
 
   public Optional<String> extractEmail(String accessToken) {
-    try {
-      // 토큰 유효성 검사하는 데에 사용할 알고리즘이 있는 JWT verifier builder 반환
-      return Optional.ofNullable(JWT.require(Algorithm.HMAC512(secretKey))
-          .build() // 반환된 빌더로 JWT verifier 생성
-          .verify(accessToken) // accessToken을 검증하고 유효하지 않다면 예외 발생
-          .getClaim(EMAIL_CLAIM) // claim(Emial) 가져오기
-          .asString());
-    } catch (Exception e) {
-      log.error("액세스 토큰이 유효하지 않습니다.");
-      return Optional.empty();
-    }
+    return verifyToken(accessToken).flatMap(this::extractEmail);
+  }
+
+  // 이미 검증한 토큰에서 claim(Email) 가져오기
+  public Optional<String> extractEmail(DecodedJWT decodedJWT) {
+    return Optional.ofNullable(decodedJWT.getClaim(EMAIL_CLAIM).asString());
   }
   public void setAccessTokenHeader(HttpServletResponse response, String accessToken) {
     response.setHeader(accessHeader, accessToken);
@@ -135,9 +146,15 @@ public class JwtTokenProvider {
   }
 
   public boolean isTokenValid(String token) {
+    return verifyToken(token).isPresent();
+  }
+
+  /**
+   * 토큰을 한 번만 검증하고 claim 을 반환, 유효하지 않으면 empty
+   */
+  public Optional<DecodedJWT> verifyToken(String token) {
     try {
-      JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
-      return true;
+      return Optional.of(jwtVerifier.verify(token));
     } catch (SignatureVerificationException e) {
       log.error("Signature verification failed: {}", e.getMessage());
     } catch (TokenExpiredException e) {
@@ -145,6 +162,6 @@ public class JwtTokenProvider {
     } catch (Exception e) {
       log.error("Invalid token: {}", e.getMessage());
     }
-    return false;
+    return Optional.empty();
   }
 }
@@ -0,0 +1,26 @@
+package kr.zb.nengtul.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+  /**
+   * 트랜잭션 안에서 호출하면 커밋된 뒤에 실행하고 롤백되면 실행하지 않는다. 트랜잭션 밖이면 바로 실행한다.
+   * 커밋 전에 ES 반영, 캐시 삭제를 하면 롤백된 값이 남거나 다른 요청이 커밋 전 값을 다시 캐시할 수 있다.
+   */
+  public static void afterCommit(Runnable task) {
+
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      task.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        task.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,9 @@
+package kr.zb.nengtul.likes.domain.dto;
+
+public interface LikesCountDto {
+
+  String getRecipeId();
+
+  Long getLikeCount();
+
+}
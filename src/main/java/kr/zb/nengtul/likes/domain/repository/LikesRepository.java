@@ -1,10 +1,14 @@
 package kr.zb.nengtul.likes.domain.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import kr.zb.nengtul.likes.domain.dto.LikesCountDto;
 import kr.zb.nengtul.likes.domain.entity.Likes;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -16,4 +20,7 @@ public interface LikesRepository extends JpaRepository<Likes, Long> {
 
   Long countByRecipeId(String recipeId);
   int countByUserId(Long userId);
+
+  @Query("SELECT l.recipeId AS recipeId, COUNT(l) AS likeCount FROM Likes l WHERE l.recipeId IN :recipeIds GROUP BY l.recipeId")
+  List<LikesCountDto> countAllByRecipeIdIn(Collection<String> recipeIds);
 }
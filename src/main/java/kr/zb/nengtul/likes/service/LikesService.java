@@ -8,6 +8,8 @@ import kr.zb.nengtul.likes.domain.entity.Likes;
 import kr.zb.nengtul.likes.domain.repository.LikesRepository;
 import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
 import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
+import kr.zb.nengtul.recipe.service.RecipeDetailCache;
+import kr.zb.nengtul.recipe.service.RecipeLikeCountService;
 import kr.zb.nengtul.user.domain.constants.UserPoint;
 import kr.zb.nengtul.user.domain.entity.User;
 import kr.zb.nengtul.user.domain.repository.UserRepository;
@@ -27,6 +29,10 @@ public class LikesService {
 
   private final RecipeSearchRepository recipeSearchRepository;
 
+  private final RecipeLikeCountService recipeLikeCountService;
+
+  private final RecipeDetailCache recipeDetailCache;
+
   @Transactional
   public void addLikes(Principal principal, String recipeId) {
 
@@ -47,11 +53,14 @@ public class LikesService {
     publisher.setPlusPoint(UserPoint.LIKES);
 
     userRepository.save(publisher);
+    recipeDetailCache.evictAuthor(publisher.getId());
 
     likesRepository.save(Likes.builder()
         .recipeId(recipeId)
         .user(user)
         .build());
+
+    recipeLikeCountService.increaseLikeCount(recipeId);
   }
 
   public Page<LikesDto> getLikes(Principal principal, Pageable pageable) {
@@ -78,7 +87,7 @@ public class LikesService {
               .recipeId(recipeDocument.getId())
               .title(recipeDocument.getTitle())
               .thumbnailUrl(recipeDocument.getThumbnailUrl())
-              .likeCount(likesRepository.countByRecipeId(recipeDocument.getId()))
+              .likeCount(recipeDocument.getLikeCount() == null ? 0L : recipeDocument.getLikeCount())
               .recipeUserNickName(recipeUser.getNickname())
               .viewCount(recipeDocument.getViewCount())
               .build();
@@ -105,6 +114,9 @@ public class LikesService {
 
           publisher.setMinusPoint(UserPoint.LIKES);
           userRepository.save(publisher);
+          recipeDetailCache.evictAuthor(publisher.getId());
+
+          recipeLikeCountService.decreaseLikeCount(recipe.getId());
         });
 
     likesRepository.delete(likes);
@@ -0,0 +1,43 @@
+package kr.zb.nengtul.notification.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.security.Principal;
+import kr.zb.nengtul.notification.domain.dto.NotificationSyncDto;
+import kr.zb.nengtul.notification.service.NotificationService;
+import kr.zb.nengtul.user.domain.entity.User;
+import kr.zb.nengtul.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "NOTIFICATION API", description = "알림 보관함 API")
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/v1/notifications")
+public class NotificationController {
+
+  private final NotificationService notificationService;
+
+  private final UserService userService;
+
+  @Operation(summary = "알림 동기화",
+      description = "since 이후 받지 못한 알림을 오래된 순으로 조회합니다. "
+          + "응답의 nextCursor 를 다음 since 로 사용하며, truncated 가 true 면 목록을 새로 조회합니다. "
+          + "채팅 메세지는 포함하지 않으며 (채팅방 목록과 이전 메세지 조회 사용), "
+          + "저장에 실패한 알림은 보관함에 남지 않습니다.")
+  @GetMapping
+  public ResponseEntity<NotificationSyncDto> syncNotifications(
+      Principal principal,
+      @RequestParam(required = false) Long since,
+      @RequestParam(required = false) Integer size
+  ) {
+    User user = userService.findUserByEmail(principal.getName());
+
+    return ResponseEntity.ok(notificationService.sync(user.getId(), since, size));
+  }
+
+}
@@ -0,0 +1,7 @@
+package kr.zb.nengtul.notification.domain.constants;
+
+public enum NotificationType {
+  SHARE_BOARD, // 즐겨찾기한 회원의 나눔 글
+  RECIPE, // 즐겨찾기한 회원의 레시피
+  CHAT // 채팅 메세지, 더 이상 저장하지 않으며 기존 알림은 보관 기간이 지나면 삭제
+}
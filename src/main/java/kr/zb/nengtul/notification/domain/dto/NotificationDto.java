@@ -0,0 +1,35 @@
+package kr.zb.nengtul.notification.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import java.time.LocalDateTime;
+import kr.zb.nengtul.notification.domain.constants.NotificationType;
+import kr.zb.nengtul.notification.domain.entity.Notification;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class NotificationDto {
+
+  private Long id;
+
+  private NotificationType type;
+
+  // 저장된 JSON 을 문자열이 아닌 객체로 내려줌
+  @JsonRawValue
+  private String payload;
+
+  @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd HH:mm", timezone = "Asia/Seoul")
+  private LocalDateTime createdAt;
+
+  public static NotificationDto fromEntity(Notification notification) {
+    return NotificationDto.builder()
+        .id(notification.getId())
+        .type(notification.getType())
+        .payload(notification.getPayload())
+        .createdAt(notification.getCreatedAt())
+        .build();
+  }
+
+}
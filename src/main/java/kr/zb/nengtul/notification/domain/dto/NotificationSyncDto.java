@@ -0,0 +1,22 @@
+package kr.zb.nengtul.notification.domain.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class NotificationSyncDto {
+
+  // 오래된 순
+  private List<NotificationDto> notifications;
+
+  // 다음 동기화 때 since 로 보낼 값
+  private Long nextCursor;
+
+  private boolean hasNext;
+
+  // since 이후 알림 중 보관함 용량을 넘어 삭제된 알림이 있을 수 있음, 목록을 새로 조회해야 함
+  private boolean truncated;
+
+}
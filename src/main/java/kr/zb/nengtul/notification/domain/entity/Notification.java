@@ -0,0 +1,50 @@
+package kr.zb.nengtul.notification.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import kr.zb.nengtul.notification.domain.constants.NotificationType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Builder
+// 회원별 since 이후 조회 (user_id = ? AND id > ? ORDER BY id), 보관 기간 정리 (created_at < ?)
+@Table(indexes = {
+    @Index(name = "idx_notification_user_id_id", columnList = "user_id, id"),
+    @Index(name = "idx_notification_created_at", columnList = "created_at")})
+public class Notification {
+
+  // 동기화 cursor
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  // 알림을 받을 회원, 회원 엔티티를 읽지 않도록 id 만 저장
+  @Column(name = "user_id", nullable = false)
+  private Long userId;
+
+  @Enumerated(EnumType.STRING)
+  @Column(nullable = false, length = 20)
+  private NotificationType type;
+
+  // 실시간 알림과 같은 JSON
+  @Column(columnDefinition = "TEXT", nullable = false)
+  private String payload;
+
+  @Column(name = "created_at", nullable = false)
+  private LocalDateTime createdAt;
+
+}
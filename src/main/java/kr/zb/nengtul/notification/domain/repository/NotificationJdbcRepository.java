@@ -0,0 +1,59 @@
+package kr.zb.nengtul.notification.domain.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import kr.zb.nengtul.notification.domain.constants.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 같은 알림을 여러 회원에게 저장할 때 JDBC batch INSERT 로 한 번에 저장하고,
+ * 저장한 회원들의 보관함 용량을 넘은 알림을 한 문장으로 삭제한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class NotificationJdbcRepository {
+
+  private static final String INSERT_NOTIFICATION_SQL =
+      "INSERT INTO notification (user_id, type, payload, created_at) VALUES (?, ?, ?, ?)";
+
+  // 회원별 최근 순 capacity 번째보다 오래된 알림 (MySQL 은 삭제 대상 테이블을 파생 테이블로 감싸야 참조 가능)
+  private static final String TRIM_NOTIFICATION_SQL =
+      "DELETE FROM notification WHERE id IN (SELECT id FROM ("
+          + "SELECT id, ROW_NUMBER() OVER (PARTITION BY user_id ORDER BY id DESC) AS rn "
+          + "FROM notification WHERE user_id IN (%s)) ranked WHERE ranked.rn > ?)";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  public void saveAll(List<Long> userIds, NotificationType type, String payload,
+      LocalDateTime createdAt) {
+
+    Timestamp timestamp = Timestamp.valueOf(createdAt);
+
+    jdbcTemplate.batchUpdate(INSERT_NOTIFICATION_SQL, userIds, userIds.size(),
+        (ps, userId) -> {
+          ps.setLong(1, userId);
+          ps.setString(2, type.name());
+          ps.setString(3, payload);
+          ps.setTimestamp(4, timestamp);
+        });
+  }
+
+  public int trim(List<Long> userIds, int capacity) {
+
+    String sql = String.format(TRIM_NOTIFICATION_SQL,
+        String.join(", ", Collections.nCopies(userIds.size(), "?")));
+
+    Object[] args = new Object[userIds.size() + 1];
+    for (int i = 0; i < userIds.size(); i++) {
+      args[i] = userIds.get(i);
+    }
+    args[userIds.size()] = capacity;
+
+    return jdbcTemplate.update(sql, args);
+  }
+
+}
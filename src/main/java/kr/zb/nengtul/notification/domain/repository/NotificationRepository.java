@@ -0,0 +1,25 @@
+package kr.zb.nengtul.notification.domain.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import kr.zb.nengtul.notification.domain.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+  Slice<Notification> findByUserIdAndIdGreaterThanOrderByIdAsc(Long userId, Long id,
+      Pageable pageable);
+
+  @Query("SELECT MIN(n.id) FROM Notification n WHERE n.userId = :userId")
+  Optional<Long> findOldestIdByUserId(Long userId);
+
+  long countByUserId(Long userId);
+
+  @Modifying
+  @Query("DELETE FROM Notification n WHERE n.createdAt < :createdAt")
+  int deleteByCreatedAtBefore(LocalDateTime createdAt);
+}
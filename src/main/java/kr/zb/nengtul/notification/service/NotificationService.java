@@ -0,0 +1,112 @@
+package kr.zb.nengtul.notification.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import kr.zb.nengtul.notification.domain.constants.NotificationType;
+import kr.zb.nengtul.notification.domain.dto.NotificationDto;
+import kr.zb.nengtul.notification.domain.dto.NotificationSyncDto;
+import kr.zb.nengtul.notification.domain.entity.Notification;
+import kr.zb.nengtul.notification.domain.repository.NotificationJdbcRepository;
+import kr.zb.nengtul.notification.domain.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 접속하지 않아 실시간으로 받지 못한 알림을 회원별 보관함에 저장하고,
+ * 재접속한 클라이언트는 마지막으로 받은 알림 id(since) 이후만 조회한다.
+ * 보관함은 저장할 때마다 회원별 최근 inboxCapacity 개만 남기며 (링 버퍼), 보관 기간이 지난 알림은 매일 삭제한다.
+ * relay 모드는 실시간으로 받은 회원도 저장하므로 클라이언트는 payload 의 id 로 중복을 거른다.
+ * 채팅은 채팅방 목록의 안 읽은 수와 이전 메세지 조회로 받으므로 저장하지 않는다.
+ * 저장은 실시간 전송을 막지 않도록 실패해도 버리므로, 보관함에 없는 알림이 있을 수 있다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class NotificationService {
+
+  private static final int DEFAULT_SYNC_SIZE = 50;
+  private static final int MAX_SYNC_SIZE = 100;
+
+  private final NotificationRepository notificationRepository;
+
+  private final NotificationJdbcRepository notificationJdbcRepository;
+
+  private final ObjectMapper objectMapper;
+
+  @Value("${spring.notification.inbox-capacity:200}")
+  private int inboxCapacity;
+
+  @Value("${spring.notification.retention-days:30}")
+  private int retentionDays;
+
+  /**
+   * 같은 알림을 userIds 의 보관함에 저장하고 용량을 넘은 알림을 삭제한다. payload 는 한 번만 JSON 으로 변환한다.
+   * 저장에 실패해도 실시간 알림 전송에는 영향을 주지 않도록 예외를 던지지 않는다.
+   */
+  public void saveAll(List<Long> userIds, NotificationType type, Object payload) {
+
+    if (userIds.isEmpty()) {
+      return;
+    }
+
+    try {
+      notificationJdbcRepository.saveAll(userIds, type, objectMapper.writeValueAsString(payload),
+          LocalDateTime.now());
+      notificationJdbcRepository.trim(userIds, inboxCapacity);
+    } catch (Exception e) {
+      log.error("알림 보관함 저장 실패 {} {}건, {}", type, userIds.size(), e.getMessage());
+    }
+  }
+
+  @Transactional(readOnly = true)
+  public NotificationSyncDto sync(Long userId, Long since, Integer size) {
+
+    long cursor = since == null || since < 0 ? 0 : since;
+    int pageSize = size == null || size <= 0 ? DEFAULT_SYNC_SIZE : Math.min(size, MAX_SYNC_SIZE);
+
+    Slice<Notification> notifications = notificationRepository
+        .findByUserIdAndIdGreaterThanOrderByIdAsc(userId, cursor, PageRequest.of(0, pageSize));
+
+    List<NotificationDto> notificationDtos = notifications.stream()
+        .map(NotificationDto::fromEntity)
+        .toList();
+
+    return NotificationSyncDto.builder()
+        .notifications(notificationDtos)
+        .nextCursor(notificationDtos.isEmpty() ? cursor
+            : notificationDtos.get(notificationDtos.size() - 1).getId())
+        .hasNext(notifications.hasNext())
+        .truncated(cursor > 0 && isTruncated(userId, cursor))
+        .build();
+  }
+
+  // 보관함이 가득 찬 상태에서 cursor 가 남아 있는 가장 오래된 알림보다 이전이면 그 사이 알림이 밀려났을 수 있음
+  private boolean isTruncated(Long userId, long cursor) {
+
+    if (notificationRepository.countByUserId(userId) < inboxCapacity) {
+      return false;
+    }
+
+    return notificationRepository.findOldestIdByUserId(userId)
+        .map(oldestId -> oldestId > cursor)
+        .orElse(false);
+  }
+
+  //매일 4시 30분 0초에 보관 기간이 지난 알림 삭제
+  @Scheduled(cron = "0 30 4 * * ?")
+  @Transactional
+  public void purgeExpired() {
+    int deletedCount = notificationRepository.deleteByCreatedAtBefore(
+        LocalDateTime.now().minusDays(retentionDays));
+
+    log.info("** Purge {} Notification **", deletedCount);
+  }
+
+}
@@ -6,15 +6,19 @@ import org.springframework.data.elasticsearch.config.ElasticsearchConfigurationS
 import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
 import org.springframework.data.elasticsearch.core.ElasticsearchRestTemplate;
 import org.springframework.data.elasticsearch.core.convert.ElasticsearchConverter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 public abstract class AbstractElasticsearchConfig extends ElasticsearchConfigurationSupport {
 
     @Bean
     public abstract RestHighLevelClient elasticsearchClient();
 
+    // ElasticsearchAsyncOperations 스레드 수
+    protected abstract int asyncPoolSize();
+
     @Bean(name = {"elasticsearchOperations", "elasticsearchTemplate"})
     public ElasticsearchOperations elasticsearchOperations(
-            ElasticsearchConverter elasticsearchConverter, RestHighLevelClient restHighLevelClient,
+            ElasticsearchConverter elasticsearchConverter,
             RestHighLevelClient elasticsearchClient) {
 
         ElasticsearchRestTemplate template =
@@ -25,4 +29,19 @@ public abstract class AbstractElasticsearchConfig extends ElasticsearchConfigura
         return template;
     }
 
+    // 스레드 풀을 빈으로 등록하면 스프링 기본 TaskExecutor 를 대체하므로 내부에서만 생성
+    @Bean(destroyMethod = "shutdown")
+    public ElasticsearchAsyncOperations elasticsearchAsyncOperations(
+            ElasticsearchOperations elasticsearchOperations) {
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(asyncPoolSize());
+        executor.setMaxPoolSize(asyncPoolSize());
+        executor.setQueueCapacity(asyncPoolSize() * 100);
+        executor.setThreadNamePrefix("es-async-");
+        executor.initialize();
+
+        return new ElasticsearchAsyncOperations(elasticsearchOperations, executor);
+    }
+
 }
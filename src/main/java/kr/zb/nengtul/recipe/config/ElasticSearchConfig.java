@@ -3,14 +3,11 @@ package kr.zb.nengtul.recipe.config;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.data.elasticsearch.client.ClientConfiguration;
-import org.springframework.data.elasticsearch.client.RestClients;
-import org.springframework.data.elasticsearch.config.AbstractElasticsearchConfiguration;
 import org.springframework.data.elasticsearch.repository.config.EnableElasticsearchRepositories;
 
 @Configuration
 @EnableElasticsearchRepositories
-public class ElasticSearchConfig extends AbstractElasticsearchConfiguration {
+public class ElasticSearchConfig extends AbstractElasticsearchConfig {
 
     @Value("${spring.elasticsearch.uris}")
     private String elasticSearchHostUri;
@@ -21,16 +18,50 @@ public class ElasticSearchConfig extends AbstractElasticsearchConfiguration {
     @Value("${spring.elasticsearch.password}")
     private String password;
 
+    @Value("${spring.elasticsearch.client.connect-timeout:1000}")
+    private int connectTimeout;
+
+    @Value("${spring.elasticsearch.client.socket-timeout:10000}")
+    private int socketTimeout;
+
+    @Value("${spring.elasticsearch.client.connection-request-timeout:1000}")
+    private int connectionRequestTimeout;
+
+    @Value("${spring.elasticsearch.client.max-conn-total:100}")
+    private int maxConnTotal;
+
+    @Value("${spring.elasticsearch.client.max-conn-per-route:50}")
+    private int maxConnPerRoute;
+
+    @Value("${spring.elasticsearch.client.keep-alive:60000}")
+    private long keepAlive;
+
+    @Value("${spring.elasticsearch.client.compression:true}")
+    private boolean compression;
+
+    @Value("${spring.elasticsearch.client.async-pool-size:8}")
+    private int asyncPoolSize;
 
     @Override
     public RestHighLevelClient elasticsearchClient() {
 
-        ClientConfiguration configuration = ClientConfiguration.builder()
-                .connectedTo(elasticSearchHostUri)
-                .withBasicAuth(userName, password)
-                .build();
+        return ElasticsearchClientFactory.builder()
+                .uris(elasticSearchHostUri)
+                .username(userName)
+                .password(password)
+                .connectTimeoutMillis(connectTimeout)
+                .socketTimeoutMillis(socketTimeout)
+                .connectionRequestTimeoutMillis(connectionRequestTimeout)
+                .maxConnTotal(maxConnTotal)
+                .maxConnPerRoute(maxConnPerRoute)
+                .keepAliveMillis(keepAlive)
+                .compressionEnabled(compression)
+                .build()
+                .create();
+    }
 
-        return RestClients.create(configuration).rest();
+    @Override
+    protected int asyncPoolSize() {
+        return asyncPoolSize;
     }
 }
-
@@ -0,0 +1,39 @@
+package kr.zb.nengtul.recipe.config;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 서로 의존하지 않는 ES 호출을 동시에 보내기 위한 ElasticsearchOperations 래퍼.
+ * 요청 스레드가 아닌 ES 전용 스레드 풀에서 실행하며, 풀 크기는 라우트당 커넥션 수를 넘지 않게 설정한다.
+ */
+@RequiredArgsConstructor
+public class ElasticsearchAsyncOperations {
+
+    private final ElasticsearchOperations elasticsearchOperations;
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public <T> CompletableFuture<T> execute(Function<ElasticsearchOperations, T> callback) {
+        return CompletableFuture.supplyAsync(
+                () -> callback.apply(elasticsearchOperations), executor);
+    }
+
+    public <T> CompletableFuture<SearchHits<T>> search(Query query, Class<T> clazz) {
+        return execute(operations -> operations.search(query, clazz));
+    }
+
+    public CompletableFuture<Long> count(Query query, Class<?> clazz) {
+        return execute(operations -> operations.count(query, clazz));
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+}
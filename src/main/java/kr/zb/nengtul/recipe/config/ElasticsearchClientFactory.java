@@ -0,0 +1,76 @@
+package kr.zb.nengtul.recipe.config;
+
+import java.util.Arrays;
+import lombok.Builder;
+import org.apache.http.HttpHost;
+import org.apache.http.auth.AuthScope;
+import org.apache.http.auth.UsernamePasswordCredentials;
+import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestClientBuilder;
+import org.elasticsearch.client.RestHighLevelClient;
+
+/**
+ * 커넥션 풀 크기, 타임아웃, 요청 압축, keep-alive 를 설정한 RestHighLevelClient 를 만든다.
+ * 기본 설정은 라우트(노드)당 커넥션이 적고 응답을 무한정 기다리므로 ES 가 느려지면 요청 스레드가 모두 묶인다.
+ */
+@Builder
+public class ElasticsearchClientFactory {
+
+    // "host:port" 또는 "https://host:port", 여러 노드는 콤마로 구분
+    private String uris;
+
+    private String username;
+
+    private String password;
+
+    private int connectTimeoutMillis;
+
+    private int socketTimeoutMillis;
+
+    // 풀에서 커넥션을 얻기까지 기다리는 시간
+    private int connectionRequestTimeoutMillis;
+
+    private int maxConnTotal;
+
+    private int maxConnPerRoute;
+
+    // 유휴 커넥션 재사용 시간, ES/로드밸런서가 먼저 끊기 전에 닫도록 그보다 짧게 설정
+    private long keepAliveMillis;
+
+    // 요청 본문 gzip 압축 (bulk, 긴 쿼리)
+    private boolean compressionEnabled;
+
+    public RestHighLevelClient create() {
+
+        HttpHost[] hosts = Arrays.stream(uris.split(","))
+                .map(String::trim)
+                .map(HttpHost::create)
+                .toArray(HttpHost[]::new);
+
+        RestClientBuilder builder = RestClient.builder(hosts)
+                .setCompressionEnabled(compressionEnabled)
+                .setRequestConfigCallback(requestConfig -> requestConfig
+                        .setConnectTimeout(connectTimeoutMillis)
+                        .setSocketTimeout(socketTimeoutMillis)
+                        .setConnectionRequestTimeout(connectionRequestTimeoutMillis))
+                .setHttpClientConfigCallback(httpClient -> {
+                    BasicCredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+                    credentialsProvider.setCredentials(AuthScope.ANY,
+                            new UsernamePasswordCredentials(username, password));
+
+                    return httpClient
+                            .setDefaultCredentialsProvider(credentialsProvider)
+                            .setMaxConnTotal(maxConnTotal)
+                            .setMaxConnPerRoute(maxConnPerRoute)
+                            .setKeepAliveStrategy((response, context) -> keepAliveMillis)
+                            .setDefaultIOReactorConfig(IOReactorConfig.custom()
+                                    .setSoKeepAlive(true)
+                                    .build());
+                });
+
+        return new RestHighLevelClient(builder);
+    }
+
+}
@@ -5,14 +5,23 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import kr.zb.nengtul.recipe.domain.constants.RecipeCategory;
 import kr.zb.nengtul.recipe.domain.dto.RecipeAddDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeCursorPageDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeFridgeMatchDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeFridgeSearchDto;
 import kr.zb.nengtul.recipe.domain.dto.RecipeGetDetailDto;
 import kr.zb.nengtul.recipe.domain.dto.RecipeGetListDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeSearchDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeSearchResultDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeSuggestDto;
 import kr.zb.nengtul.recipe.domain.dto.RecipeUpdateDto;
+import kr.zb.nengtul.recipe.service.RecipeIndexManager;
 import kr.zb.nengtul.recipe.service.RecipeService;
+import kr.zb.nengtul.recipe.service.RecipeSuggestService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -27,6 +36,10 @@ public class RecipeController {
 
     private final RecipeService recipeService;
 
+    private final RecipeSuggestService recipeSuggestService;
+
+    private final RecipeIndexManager recipeIndexManager;
+
     @Operation(summary = "레시피 작성", description = "토큰을 통해 유저 여부 확인 후 레시피를 작성합니다.")
     @PostMapping
     ResponseEntity<String> addRecipe(Principal principal,
@@ -52,6 +65,26 @@ public class RecipeController {
         return ResponseEntity.ok(recipeService.getAllRecipe(pageable));
     }
 
+    @Operation(summary = "레시피 커서 조회", description = "무한 스크롤용으로 최신순 레시피를 조회합니다. 카테고리, 제목, 재료 조건은 선택이며 응답의 nextCursor 로 다음 페이지를 조회합니다.")
+    @GetMapping("/cursor")
+    ResponseEntity<RecipeCursorPageDto> getRecipeByCursor(
+            @RequestParam(required = false) RecipeCategory category,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String ingredient,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        return ResponseEntity.ok(
+                recipeService.getRecipeByCursor(category, title, ingredient, cursor, size));
+    }
+
+    @Operation(summary = "인기 레시피 조회", description = "조회수, 좋아요 수, 작성일을 함께 반영한 순서로 조회합니다.")
+    @GetMapping("/trending")
+    ResponseEntity<Page<RecipeGetListDto>> getTrendingRecipe(Pageable pageable) {
+
+        return ResponseEntity.ok(recipeService.getTrendingRecipe(pageable));
+    }
+
     @Operation(summary = "레시피 상세 조회")
     @GetMapping("/detail/{recipeId}")
     ResponseEntity<RecipeGetDetailDto> getRecipeById(@PathVariable String recipeId,
@@ -60,6 +93,21 @@ public class RecipeController {
         return ResponseEntity.ok(recipeService.getRecipeDetailById(recipeId, principal));
     }
 
+    @Operation(summary = "레시피 자동완성", description = "입력한 글자로 시작하는 레시피 제목과 재료명을 최대 10개씩 조회합니다.")
+    @GetMapping("/suggest")
+    ResponseEntity<RecipeSuggestDto> getSuggest(@RequestParam String prefix) {
+
+        return ResponseEntity.ok(recipeSuggestService.getSuggest(prefix));
+    }
+
+    @Operation(summary = "레시피 통합 검색", description = "검색어, 카테고리, 조리 시간, 인분, 재료 조건을 한 번에 적용해 조회하고 카테고리, 조리 시간별 개수를 함께 반환합니다.")
+    @GetMapping("/search")
+    ResponseEntity<RecipeSearchResultDto> searchRecipe(@ModelAttribute RecipeSearchDto recipeSearchDto,
+                                                       Pageable pageable) {
+
+        return ResponseEntity.ok(recipeService.searchRecipe(recipeSearchDto, pageable));
+    }
+
     @Operation(summary = "레시피 카테고리별 조회")
     @GetMapping("/category/{category}")
     ResponseEntity<Page<RecipeGetListDto>> getRecipeByCategory(@PathVariable RecipeCategory category,
@@ -84,6 +132,14 @@ public class RecipeController {
         return ResponseEntity.ok(recipeService.getRecipeByIngredient(ingredient, pageable));
     }
 
+    @Operation(summary = "냉장고 재료로 레시피 조회", description = "가진 재료 목록으로 레시피를 조회하며, 재료 충족 비율이 높은 순으로 정렬합니다.")
+    @PostMapping("/fridge")
+    ResponseEntity<Page<RecipeFridgeMatchDto>> getRecipeByFridge(
+            @RequestBody @Valid RecipeFridgeSearchDto recipeFridgeSearchDto, Pageable pageable) {
+
+        return ResponseEntity.ok(recipeService.getRecipeByFridge(recipeFridgeSearchDto, pageable));
+    }
+
     @Operation(summary = "레시피 수정", description = "토큰을 통해 유저 여부 확인 후 레시피를 수정합니다.")
     @PutMapping("/{recipeId}")
     ResponseEntity<Void> updateRecipe(Principal principal,
@@ -107,4 +163,14 @@ public class RecipeController {
         return ResponseEntity.ok(null);
     }
 
+    @Operation(summary = "레시피 인덱스 재색인", description = "관리자 전용, 모든 서버를 새 버전으로 배포한 뒤 호출합니다. 재색인은 한 서버에서만 백그라운드로 진행됩니다.")
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    @PostMapping("/index/migration")
+    ResponseEntity<Void> migrateRecipeIndex() {
+
+        recipeIndexManager.startMigration();
+
+        return ResponseEntity.ok(null);
+    }
+
 }
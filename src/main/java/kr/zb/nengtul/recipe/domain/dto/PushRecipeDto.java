@@ -1,7 +1,6 @@
 package kr.zb.nengtul.recipe.domain.dto;
 
 import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
-import kr.zb.nengtul.user.domain.entity.User;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,11 +16,11 @@ public class PushRecipeDto {
     private String title;
     private String publisherNickname;
 
-    public static PushRecipeDto fromEntity(RecipeDocument recipe, User user){
+    public static PushRecipeDto fromEntity(RecipeDocument recipe, String publisherNickname){
         return PushRecipeDto.builder()
                 .recipeId(recipe.getId())
                 .title(recipe.getTitle())
-                .publisherNickname(user.getNickname())
+                .publisherNickname(publisherNickname)
                 .build();
     }
 }
@@ -0,0 +1,30 @@
+package kr.zb.nengtul.recipe.domain.dto;
+
+import kr.zb.nengtul.user.domain.entity.User;
+import lombok.Builder;
+import lombok.Getter;
+
+// 레시피 상세 조회 시 함께 내려주는 작성자 프로필
+@Builder
+@Getter
+public class RecipeAuthorDto {
+
+    private Long userId;
+
+    private String nickName;
+
+    private String profileImageUrl;
+
+    private int point;
+
+    public static RecipeAuthorDto fromUser(User user) {
+
+        return RecipeAuthorDto.builder()
+                .userId(user.getId())
+                .nickName(user.getNickname())
+                .profileImageUrl(user.getProfileImageUrl())
+                .point(user.getPoint())
+                .build();
+    }
+
+}
@@ -0,0 +1,18 @@
+package kr.zb.nengtul.recipe.domain.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class RecipeCursorPageDto {
+
+    private List<RecipeGetListDto> content;
+
+    // 다음 페이지 조회 시 cursor 로 그대로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+
+    private boolean hasNext;
+
+}
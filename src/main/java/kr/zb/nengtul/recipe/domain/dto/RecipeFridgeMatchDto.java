@@ -0,0 +1,61 @@
+package kr.zb.nengtul.recipe.domain.dto;
+
+import java.util.Collection;
+import java.util.List;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+@Builder
+@Setter
+@Getter
+public class RecipeFridgeMatchDto {
+
+    private String recipeId;
+
+    private String title;
+
+    private String nickName;
+
+    private Long viewCount;
+
+    private Long likeCount;
+
+    private String thumbnailUrl;
+
+    // 레시피 재료 중 냉장고에 있는 재료 비율 (0 ~ 1)
+    private double coverage;
+
+    private int matchedCount;
+
+    private int missingCount;
+
+    private List<String> missingIngredients;
+
+    public static RecipeFridgeMatchDto fromRecipeDocument(RecipeDocument recipeDocument,
+                                                          Collection<String> fridgeIngredients) {
+
+        List<String> ingredientNames = recipeDocument.getIngredientNames() == null ?
+                List.of() : recipeDocument.getIngredientNames();
+
+        List<String> missingIngredients = ingredientNames.stream()
+                .filter(name -> !fridgeIngredients.contains(name))
+                .toList();
+
+        int matchedCount = ingredientNames.size() - missingIngredients.size();
+
+        return RecipeFridgeMatchDto.builder()
+                .recipeId(recipeDocument.getId())
+                .title(recipeDocument.getTitle())
+                .viewCount(recipeDocument.getViewCount())
+                .likeCount(recipeDocument.getLikeCount() == null ? 0L : recipeDocument.getLikeCount())
+                .thumbnailUrl(recipeDocument.getThumbnailUrl())
+                .coverage(ingredientNames.isEmpty() ? 0 : (double) matchedCount / ingredientNames.size())
+                .matchedCount(matchedCount)
+                .missingCount(missingIngredients.size())
+                .missingIngredients(missingIngredients)
+                .build();
+    }
+
+}
@@ -0,0 +1,26 @@
+package kr.zb.nengtul.recipe.domain.dto;
+
+import static kr.zb.nengtul.global.exception.ErrorCode.INGREDIENT_NOT_NULL_MESSAGE;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeFridgeSearchDto {
+
+    @NotEmpty(message = INGREDIENT_NOT_NULL_MESSAGE)
+    private List<String> ingredients;
+
+    // 최소 몇 개의 재료가 겹쳐야 하는지 (기본 1개)
+    @Min(1)
+    private Integer minimumMatch;
+
+}
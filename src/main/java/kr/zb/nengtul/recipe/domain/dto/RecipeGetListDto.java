@@ -27,6 +27,7 @@ public class RecipeGetListDto {
                 .recipeId(recipeDocument.getId())
                 .title(recipeDocument.getTitle())
                 .viewCount(recipeDocument.getViewCount())
+                .likeCount(recipeDocument.getLikeCount() == null ? 0L : recipeDocument.getLikeCount())
                 .thumbnailUrl(recipeDocument.getThumbnailUrl())
                 .build();
 
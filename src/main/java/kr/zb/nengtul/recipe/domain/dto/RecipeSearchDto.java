@@ -0,0 +1,33 @@
+package kr.zb.nengtul.recipe.domain.dto;
+
+import java.util.List;
+import kr.zb.nengtul.recipe.domain.constants.RecipeCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 통합 검색 조건 (모두 선택)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeSearchDto {
+
+    // 제목, 재료 검색어
+    private String keyword;
+
+    private List<RecipeCategory> categories;
+
+    // ex) "30분 이내"
+    private List<String> cookingTimes;
+
+    // ex) "2인분"
+    private List<String> servings;
+
+    // 모두 포함해야 하는 재료
+    private List<String> ingredients;
+
+}
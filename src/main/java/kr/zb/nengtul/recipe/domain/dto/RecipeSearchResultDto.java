@@ -0,0 +1,20 @@
+package kr.zb.nengtul.recipe.domain.dto;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+
+@Builder
+@Getter
+public class RecipeSearchResultDto {
+
+    private Page<RecipeGetListDto> recipes;
+
+    // 카테고리별 레시피 수 (카테고리 조건을 제외한 나머지 조건 기준)
+    private Map<String, Long> categoryFacets;
+
+    // 조리 시간별 레시피 수 (조리 시간 조건을 제외한 나머지 조건 기준)
+    private Map<String, Long> cookingTimeFacets;
+
+}
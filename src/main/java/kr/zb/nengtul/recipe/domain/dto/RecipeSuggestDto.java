@@ -0,0 +1,25 @@
+package kr.zb.nengtul.recipe.domain.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class RecipeSuggestDto {
+
+    private List<RecipeTitleSuggestDto> titles;
+
+    private List<String> ingredients;
+
+    @Builder
+    @Getter
+    public static class RecipeTitleSuggestDto {
+
+        private String recipeId;
+
+        private String title;
+
+    }
+
+}
@@ -0,0 +1,40 @@
+package kr.zb.nengtul.recipe.domain.dto;
+
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+import org.elasticsearch.client.tasks.GetTaskResponse;
+import org.elasticsearch.tasks.RawTaskStatus;
+
+// ES 로 제출한 _update_by_query 태스크 진행 상황
+@Builder
+@Getter
+public class RecipeTaskStatusDto {
+
+    private boolean completed;
+
+    private long total;
+
+    private long updated;
+
+    private long versionConflicts;
+
+    public static RecipeTaskStatusDto fromTaskResponse(GetTaskResponse taskResponse) {
+
+        Map<String, Object> status =
+                taskResponse.getTaskInfo().getStatus() instanceof RawTaskStatus rawTaskStatus ?
+                        rawTaskStatus.toMap() : Map.of();
+
+        return RecipeTaskStatusDto.builder()
+                .completed(taskResponse.isCompleted())
+                .total(getLong(status, "total"))
+                .updated(getLong(status, "updated"))
+                .versionConflicts(getLong(status, "version_conflicts"))
+                .build();
+    }
+
+    private static long getLong(Map<String, Object> status, String key) {
+        return status.get(key) instanceof Number number ? number.longValue() : 0L;
+    }
+
+}
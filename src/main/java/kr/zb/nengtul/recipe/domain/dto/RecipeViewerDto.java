@@ -0,0 +1,12 @@
+package kr.zb.nengtul.recipe.domain.dto;
+
+// 상세 조회한 사용자의 좋아요, 작성자 즐겨찾기 여부 (UserRepository.findRecipeViewerByEmail)
+public interface RecipeViewerDto {
+
+    Long getUserId();
+
+    Boolean getLikes();
+
+    Boolean getFavorite();
+
+}
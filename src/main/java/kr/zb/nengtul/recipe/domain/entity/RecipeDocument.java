@@ -5,8 +5,12 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import java.time.LocalDateTime;
+import java.util.List;
 import kr.zb.nengtul.recipe.domain.constants.RecipeCategory;
 import kr.zb.nengtul.recipe.domain.dto.RecipeUpdateDto;
+import kr.zb.nengtul.recipe.domain.ingredient.IngredientNormalizer;
+import kr.zb.nengtul.recipe.domain.ingredient.IngredientParser;
+import kr.zb.nengtul.recipe.domain.ingredient.RecipeIngredient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -22,7 +26,7 @@ import org.springframework.data.elasticsearch.annotations.Setting;
 @NoArgsConstructor
 @Builder
 @Getter
-@Document(indexName = "recipe")
+@Document(indexName = "recipe", createIndex = false)
 @Setting(settingPath = "elasticsearch/elasticsearch-settings.json")
 @Mapping(mappingPath = "elasticsearch/recipe-mappings.json")
 public class RecipeDocument {
@@ -44,6 +48,14 @@ public class RecipeDocument {
   @Field(type = FieldType.Text)
   private String ingredient;
 
+  // ingredient 를 재료 단위로 파싱한 결과 (이름, 수량, 단위)
+  @Field(type = FieldType.Object)
+  private List<RecipeIngredient> ingredientDetails;
+
+  // 냉장고 재료 매칭, 재료 필터/집계용 대표 재료명
+  @Field(type = FieldType.Keyword)
+  private List<String> ingredientNames;
+
   @Field(type = FieldType.Keyword, index = false)
   private String cookingStep;
 
@@ -68,20 +80,19 @@ public class RecipeDocument {
   @Field(type = FieldType.Integer)
   private Long viewCount;
 
+  @Field(type = FieldType.Long)
+  private Long likeCount;
+
   @Field(type = FieldType.Date, format = DateFormat.date_hour_minute)
   private LocalDateTime createdAt;
 
   @Field(type = FieldType.Date, format = DateFormat.date_hour_minute)
   private LocalDateTime modifiedAt;
 
-  public void updateViewCount() {
-    this.viewCount += 1;
-  }
-
   public void updateRecipe(RecipeUpdateDto recipeUpdateDto) {
     this.title = recipeUpdateDto.getTitle();
     this.intro = recipeUpdateDto.getIntro();
-    this.ingredient = recipeUpdateDto.getIngredient();
+    updateIngredient(recipeUpdateDto.getIngredient());
     this.cookingStep = recipeUpdateDto.getCookingStep();
     this.cookingTime = recipeUpdateDto.getCookingTime();
     this.serving = recipeUpdateDto.getServing();
@@ -89,6 +100,12 @@ public class RecipeDocument {
     this.videoUrl = recipeUpdateDto.getVideoUrl();
   }
 
+  public void updateIngredient(String ingredient) {
+    this.ingredient = ingredient;
+    this.ingredientDetails = IngredientParser.parse(ingredient);
+    this.ingredientNames = IngredientNormalizer.toNames(this.ingredientDetails);
+  }
+
   public void setUserId(Long userId) {
     this.userId = userId;
   }
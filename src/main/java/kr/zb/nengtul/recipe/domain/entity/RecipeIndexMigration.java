@@ -0,0 +1,41 @@
+package kr.zb.nengtul.recipe.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 진행 중인 레시피 인덱스 재색인, 한 서버만 재색인하도록 alias 당 한 행만 저장 (재색인 잠금)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Builder
+public class RecipeIndexMigration {
+
+  @Id
+  private String aliasName;
+
+  @Column(nullable = false)
+  private String sourceIndex;
+
+  @Column(nullable = false)
+  private String targetIndex;
+
+  // alias 도입 전 인덱스에서 재색인하는지 여부
+  @Column(nullable = false)
+  private boolean legacyIndex;
+
+  // 재색인 중인 서버
+  @Column(nullable = false)
+  private String owner;
+
+  // 재색인 중인 서버가 주기적으로 갱신, 오래 갱신되지 않으면 다른 서버가 잠금을 가져갈 수 있음
+  @Column(nullable = false)
+  private LocalDateTime heartbeatAt;
+
+}
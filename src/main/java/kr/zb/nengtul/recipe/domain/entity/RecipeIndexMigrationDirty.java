@@ -0,0 +1,19 @@
+package kr.zb.nengtul.recipe.domain.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 재색인 중 변경된 레시피, 모든 서버의 변경을 모아 재색인이 끝난 뒤 기존 인덱스에서 다시 복사
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+public class RecipeIndexMigrationDirty {
+
+  @Id
+  private String recipeId;
+
+}
@@ -0,0 +1,35 @@
+package kr.zb.nengtul.recipe.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+// 끝나지 않은 레시피 작성자 변경 작업, 재기동 후에도 이어서 진행하기 위해 저장
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class RecipeOwnerReassign {
+
+  // 탈퇴한 회원 id
+  @Id
+  private Long fromUserId;
+
+  @Column(nullable = false)
+  private Long toUserId;
+
+  @CreatedDate
+  @Column(nullable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+}
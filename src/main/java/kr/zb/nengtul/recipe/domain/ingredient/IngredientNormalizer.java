@@ -0,0 +1,64 @@
+package kr.zb.nengtul.recipe.domain.ingredient;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * 재료명을 검색용 대표 재료명으로 정규화한다.
+ * ES 의 ingredientNames 필드(ingredient_normalizer)와 같은 규칙(공백 정리, 소문자)에
+ * 손질 방법 제거와 동의어 치환을 더한다.
+ */
+public final class IngredientNormalizer {
+
+  // "다진 마늘" -> "마늘"
+  private static final Pattern PREPARATION_PATTERN =
+      Pattern.compile("^(다진|채썬|채 썬|삶은|데친|볶은)\\s*");
+
+  private static final Map<String, String> SYNONYMS = Map.of(
+      "계란", "달걀",
+      "쪽파", "파",
+      "대파", "파",
+      "청양 고추", "청양고추"
+  );
+
+  private IngredientNormalizer() {
+  }
+
+  public static List<String> toNames(String ingredient) {
+    return toNames(IngredientParser.parse(ingredient));
+  }
+
+  public static List<String> toNames(List<RecipeIngredient> recipeIngredients) {
+
+    return recipeIngredients.stream()
+        .map(RecipeIngredient::getName)
+        .distinct()
+        .toList();
+  }
+
+  // 사용자가 입력한 냉장고 재료 정규화
+  public static List<String> normalizeAll(Collection<String> names) {
+
+    return names.stream()
+        .filter(Objects::nonNull)
+        .map(IngredientNormalizer::canonicalize)
+        .filter(name -> !name.isEmpty())
+        .distinct()
+        .toList();
+  }
+
+  public static String canonicalize(String name) {
+
+    String normalized = PREPARATION_PATTERN.matcher(normalize(name)).replaceFirst("");
+
+    return SYNONYMS.getOrDefault(normalized, normalized);
+  }
+
+  public static String normalize(String name) {
+    return name.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+  }
+}
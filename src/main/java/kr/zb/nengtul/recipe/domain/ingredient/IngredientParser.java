@@ -0,0 +1,64 @@
+package kr.zb.nengtul.recipe.domain.ingredient;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 쉼표로 이어진 재료 문자열을 재료 단위로 나누어 이름, 수량, 단위로 파싱한다.
+ * 크롤러(crawling 모듈)에도 같은 규칙의 파서가 있으므로 함께 수정해야 한다.
+ */
+public final class IngredientParser {
+
+  private static final String INGREDIENT_DELIMITER = ",";
+
+  // 괄호 안의 부가 설명 (ex: "물 2컵(400ml)", "[양념]")
+  private static final Pattern NOTE_PATTERN = Pattern.compile("\\(.*?\\)|\\[.*?]");
+
+  private static final Pattern QUANTITY_PATTERN = Pattern.compile(
+      "^(.+?)\\s*(\\d+(?:\\.\\d+)?(?:\\s*[/~-]\\s*\\d+(?:\\.\\d+)?)?|약간|적당량|적당히|조금|소량)\\s*(.*)$");
+
+  private IngredientParser() {
+  }
+
+  public static List<RecipeIngredient> parse(String ingredient) {
+
+    if (ingredient == null || ingredient.isBlank()) {
+      return List.of();
+    }
+
+    return Arrays.stream(ingredient.split(INGREDIENT_DELIMITER))
+        .map(IngredientParser::parseEntry)
+        .filter(Objects::nonNull)
+        .toList();
+  }
+
+  private static RecipeIngredient parseEntry(String entry) {
+
+    String text = NOTE_PATTERN.matcher(entry).replaceAll(" ").trim();
+
+    if (text.isEmpty()) {
+      return null;
+    }
+
+    Matcher matcher = QUANTITY_PATTERN.matcher(text);
+
+    String name = matcher.matches() ? matcher.group(1) : text;
+    String quantity = matcher.matches() ? matcher.group(2).replaceAll("\\s+", "") : null;
+    String unit = matcher.matches() && !matcher.group(3).isBlank() ? matcher.group(3).trim() : null;
+
+    String canonicalName = IngredientNormalizer.canonicalize(name);
+
+    if (canonicalName.isEmpty()) {
+      return null;
+    }
+
+    return RecipeIngredient.builder()
+        .name(canonicalName)
+        .quantity(quantity)
+        .unit(unit)
+        .build();
+  }
+}
@@ -0,0 +1,113 @@
+package kr.zb.nengtul.recipe.domain.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import kr.zb.nengtul.recipe.domain.entity.RecipeIndexMigration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 레시피 인덱스 재색인 잠금과 재색인 중 변경된 레시피 id 를 저장한다.
+ * 잠금은 alias 를 PK 로 INSERT 해 한 서버만 얻고, 잠금을 가진 서버만 갱신/해제할 수 있다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecipeIndexMigrationJdbcRepository {
+
+  private static final String INSERT_MIGRATION_SQL =
+      "INSERT INTO recipe_index_migration "
+          + "(alias_name, source_index, target_index, legacy_index, owner, heartbeat_at) "
+          + "VALUES (?, ?, ?, ?, ?, ?)";
+
+  private static final String SELECT_MIGRATION_SQL =
+      "SELECT alias_name, source_index, target_index, legacy_index, owner, heartbeat_at "
+          + "FROM recipe_index_migration WHERE alias_name = ?";
+
+  private static final String DELETE_EXPIRED_MIGRATION_SQL =
+      "DELETE FROM recipe_index_migration WHERE alias_name = ? AND heartbeat_at < ?";
+
+  private static final String UPDATE_HEARTBEAT_SQL =
+      "UPDATE recipe_index_migration SET heartbeat_at = ? WHERE alias_name = ? AND owner = ?";
+
+  private static final String DELETE_MIGRATION_SQL =
+      "DELETE FROM recipe_index_migration WHERE alias_name = ? AND owner = ?";
+
+  private static final String INSERT_DIRTY_SQL =
+      "INSERT IGNORE INTO recipe_index_migration_dirty (recipe_id) VALUES (?)";
+
+  private static final String SELECT_DIRTY_SQL =
+      "SELECT recipe_id FROM recipe_index_migration_dirty";
+
+  private static final String DELETE_DIRTY_SQL =
+      "DELETE FROM recipe_index_migration_dirty WHERE recipe_id = ?";
+
+  private static final String DELETE_ALL_DIRTY_SQL =
+      "DELETE FROM recipe_index_migration_dirty";
+
+  private final JdbcTemplate jdbcTemplate;
+
+  // 먼저 heartbeat 가 expiredBefore 이전인 잠금(재색인 중 종료된 서버)을 지운 뒤 잠금을 얻음
+  public boolean tryLock(RecipeIndexMigration migration, LocalDateTime expiredBefore) {
+
+    jdbcTemplate.update(DELETE_EXPIRED_MIGRATION_SQL, migration.getAliasName(),
+        Timestamp.valueOf(expiredBefore));
+
+    try {
+      jdbcTemplate.update(INSERT_MIGRATION_SQL, migration.getAliasName(),
+          migration.getSourceIndex(), migration.getTargetIndex(), migration.isLegacyIndex(),
+          migration.getOwner(), Timestamp.valueOf(migration.getHeartbeatAt()));
+      return true;
+    } catch (DuplicateKeyException e) {
+      return false;
+    }
+  }
+
+  public Optional<RecipeIndexMigration> find(String aliasName) {
+
+    return jdbcTemplate.query(SELECT_MIGRATION_SQL, (rs, rowNum) -> RecipeIndexMigration.builder()
+            .aliasName(rs.getString("alias_name"))
+            .sourceIndex(rs.getString("source_index"))
+            .targetIndex(rs.getString("target_index"))
+            .legacyIndex(rs.getBoolean("legacy_index"))
+            .owner(rs.getString("owner"))
+            .heartbeatAt(rs.getTimestamp("heartbeat_at").toLocalDateTime())
+            .build(), aliasName)
+        .stream()
+        .findFirst();
+  }
+
+  // 잠금을 다른 서버가 가져갔으면 false
+  public boolean heartbeat(String aliasName, String owner, LocalDateTime heartbeatAt) {
+    return jdbcTemplate.update(UPDATE_HEARTBEAT_SQL, Timestamp.valueOf(heartbeatAt), aliasName,
+        owner) > 0;
+  }
+
+  public void unlock(String aliasName, String owner) {
+    jdbcTemplate.update(DELETE_MIGRATION_SQL, aliasName, owner);
+  }
+
+  // 여러 서버가 같은 레시피를 함께 표시할 수 있으므로 이미 있으면 무시
+  public void saveDirtyRecipeIds(Collection<String> recipeIds) {
+    jdbcTemplate.batchUpdate(INSERT_DIRTY_SQL, recipeIds, recipeIds.size(),
+        (ps, recipeId) -> ps.setString(1, recipeId));
+  }
+
+  public List<String> findDirtyRecipeIds() {
+    return jdbcTemplate.queryForList(SELECT_DIRTY_SQL, String.class);
+  }
+
+  public void deleteDirtyRecipeIds(List<String> recipeIds) {
+    jdbcTemplate.batchUpdate(DELETE_DIRTY_SQL, recipeIds, recipeIds.size(),
+        (ps, recipeId) -> ps.setString(1, recipeId));
+  }
+
+  public void deleteAllDirtyRecipeIds() {
+    jdbcTemplate.update(DELETE_ALL_DIRTY_SQL);
+  }
+
+}
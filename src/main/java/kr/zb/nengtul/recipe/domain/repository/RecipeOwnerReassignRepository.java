@@ -0,0 +1,10 @@
+package kr.zb.nengtul.recipe.domain.repository;
+
+import kr.zb.nengtul.recipe.domain.entity.RecipeOwnerReassign;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RecipeOwnerReassignRepository extends JpaRepository<RecipeOwnerReassign, Long> {
+
+}
@@ -0,0 +1,61 @@
+package kr.zb.nengtul.recipe.domain.repository;
+
+import java.util.List;
+import java.util.Optional;
+import kr.zb.nengtul.recipe.domain.constants.RecipeCategory;
+import kr.zb.nengtul.recipe.domain.dto.RecipeSearchDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeTaskStatusDto;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+// 파생 쿼리로 표현하기 어려운 ES 쿼리 (function_score 등)
+public interface RecipeSearchCustomRepository {
+
+  String SUGGEST_INGREDIENT_AGGREGATION = "suggestIngredient";
+
+  String CATEGORY_AGGREGATION = "category";
+
+  String COOKING_TIME_AGGREGATION = "cookingTime";
+
+  // 목록 조회는 RecipeGetListDto 에 필요한 필드(id, title, viewCount, likeCount, thumbnailUrl, userId)만
+  // _source 로 가져오므로 반환된 문서를 저장하거나 상세 조회에 쓰지 않는다
+  Page<RecipeDocument> findAllForList(Pageable pageable);
+
+  Page<RecipeDocument> findAllByCategory(RecipeCategory category, Pageable pageable);
+
+  Page<RecipeDocument> findAllByTitle(String title, Pageable pageable);
+
+  Page<RecipeDocument> findAllByIngredient(String ingredient, Pageable pageable);
+
+  Page<RecipeDocument> findAllByUserId(Long userId, Pageable pageable);
+
+  Page<RecipeDocument> findAllTrending(Pageable pageable);
+
+  Page<RecipeDocument> findAllByIngredientNames(List<String> ingredientNames, int minimumMatch,
+      Pageable pageable);
+
+  // search_after 커서 조회 : createdAt, id 내림차순 정렬값을 그대로 돌려주기 위해 SearchHits 반환
+  SearchHits<RecipeDocument> findAllByCursor(RecipeCategory category, String title,
+      String ingredient, List<Object> searchAfter, int size);
+
+  // 자동완성 : 제목이 prefix 로 시작하는 레시피 + 재료명 집계(SUGGEST_INGREDIENT_AGGREGATION)
+  SearchHits<RecipeDocument> findAllByPrefix(String prefix, int size);
+
+  // 통합 검색 : 검색 결과 + 카테고리, 조리 시간 집계(CATEGORY_AGGREGATION, COOKING_TIME_AGGREGATION)
+  SearchHits<RecipeDocument> findAllBySearchCondition(RecipeSearchDto recipeSearchDto,
+      Pageable pageable);
+
+  // 작성자 변경 : _update_by_query 를 태스크로 제출하고 완료를 기다리지 않고 태스크 id 반환
+  String submitUserIdUpdateTask(Long userId, Long newUserId);
+
+  // 재색인 중인 새 인덱스처럼 alias 가 아닌 인덱스의 작성자 변경
+  String submitUserIdUpdateTask(Long userId, Long newUserId, String indexName);
+
+  // 제출한 태스크 진행 상황 (태스크를 찾을 수 없으면 empty)
+  Optional<RecipeTaskStatusDto> findTaskStatus(String taskId);
+
+  // 인덱스 버전 변경 : 원본 인덱스 문서를 새 인덱스로 복사하는 _reindex 태스크 제출 후 태스크 id 반환
+  String submitReindexTask(String sourceIndex, String destIndex);
+}
@@ -0,0 +1,410 @@
+package kr.zb.nengtul.recipe.domain.repository;
+
+import static org.elasticsearch.index.query.QueryBuilders.boolQuery;
+import static org.elasticsearch.index.query.QueryBuilders.constantScoreQuery;
+import static org.elasticsearch.index.query.QueryBuilders.functionScoreQuery;
+import static org.elasticsearch.index.query.QueryBuilders.matchAllQuery;
+import static org.elasticsearch.index.query.QueryBuilders.matchQuery;
+import static org.elasticsearch.index.query.QueryBuilders.multiMatchQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termQuery;
+import static org.elasticsearch.index.query.QueryBuilders.termsQuery;
+import static org.elasticsearch.index.query.functionscore.ScoreFunctionBuilders.fieldValueFactorFunction;
+import static org.elasticsearch.index.query.functionscore.ScoreFunctionBuilders.gaussDecayFunction;
+import static org.elasticsearch.index.query.functionscore.ScoreFunctionBuilders.scriptFunction;
+import static org.elasticsearch.index.query.functionscore.ScoreFunctionBuilders.weightFactorFunction;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import kr.zb.nengtul.recipe.domain.constants.RecipeCategory;
+import kr.zb.nengtul.recipe.domain.dto.RecipeSearchDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeTaskStatusDto;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import lombok.RequiredArgsConstructor;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.tasks.GetTaskRequest;
+import org.elasticsearch.common.lucene.search.function.CombineFunction;
+import org.elasticsearch.common.lucene.search.function.FieldValueFactorFunction.Modifier;
+import org.elasticsearch.common.lucene.search.function.FunctionScoreQuery.ScoreMode;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.Operator;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.TermsSetQueryBuilder;
+import org.elasticsearch.index.query.functionscore.FunctionScoreQueryBuilder.FilterFunctionBuilder;
+import org.elasticsearch.index.reindex.AbstractBulkByScrollRequest;
+import org.elasticsearch.index.reindex.ReindexRequest;
+import org.elasticsearch.index.reindex.UpdateByQueryRequest;
+import org.elasticsearch.script.Script;
+import org.elasticsearch.script.ScriptType;
+import org.elasticsearch.search.aggregations.AggregationBuilders;
+import org.elasticsearch.search.aggregations.bucket.terms.IncludeExclude;
+import org.elasticsearch.search.sort.ScriptSortBuilder;
+import org.elasticsearch.search.sort.ScriptSortBuilder.ScriptSortType;
+import org.elasticsearch.search.sort.SortBuilders;
+import org.elasticsearch.search.sort.SortOrder;
+import org.elasticsearch.tasks.TaskId;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQuery;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+
+@RequiredArgsConstructor
+public class RecipeSearchCustomRepositoryImpl implements RecipeSearchCustomRepository {
+
+  // 좋아요는 조회보다 드물게 일어나므로 가중치를 더 줌
+  private static final float VIEW_COUNT_FACTOR = 1.0f;
+  private static final float LIKE_COUNT_FACTOR = 3.0f;
+
+  // 작성 후 3일까지는 감점 없이, 이후 2주가 지나면 점수 절반
+  private static final String RECENCY_OFFSET = "3d";
+  private static final String RECENCY_SCALE = "14d";
+  private static final double RECENCY_DECAY = 0.5;
+
+  // 냉장고 재료 매칭 : 레시피 재료 중 냉장고에 있는 재료 비율, 부족한 재료 수
+  private static final String MINIMUM_MATCH_SCRIPT =
+      "Math.min(params.num_terms, params.minimumMatch)";
+  private static final String COVERAGE_SCRIPT =
+      "int total = doc['ingredientNames'].size(); if (total == 0) { return 0; } "
+          + "int matched = 0; for (def name : doc['ingredientNames']) { "
+          + "if (params.ingredientNames.contains(name)) { matched++; } } "
+          + "return (double) matched / total;";
+  private static final String MISSING_COUNT_SCRIPT =
+      "int missing = 0; for (def name : doc['ingredientNames']) { "
+          + "if (!params.ingredientNames.contains(name)) { missing++; } } "
+          + "return missing;";
+
+  // 조리 시간 선택지 ("5분 이내" ~ "2시간 이상") 보다 넉넉하게
+  private static final int COOKING_TIME_FACET_SIZE = 20;
+
+  // 목록 응답(RecipeGetListDto)에 필요한 필드, 재료/조리 순서 등 큰 필드는 제외
+  private static final String[] LIST_FIELDS =
+      {"id", "title", "viewCount", "likeCount", "thumbnailUrl", "userId"};
+  private static final FetchSourceFilter LIST_SOURCE_FILTER =
+      new FetchSourceFilter(LIST_FIELDS, null);
+  // 냉장고 재료 매칭은 부족한 재료 계산에 재료명이 필요
+  private static final FetchSourceFilter FRIDGE_SOURCE_FILTER = new FetchSourceFilter(
+      Stream.concat(Arrays.stream(LIST_FIELDS), Stream.of("ingredientNames"))
+          .toArray(String[]::new), null);
+
+  private static final String UPDATE_USER_ID_SCRIPT = "ctx._source.userId = params.userId";
+
+  private static final int REINDEX_BATCH_SIZE = 1000;
+
+  private final ElasticsearchOperations elasticsearchOperations;
+
+  private final RestHighLevelClient elasticsearchClient;
+
+  @Override
+  public Page<RecipeDocument> findAllForList(Pageable pageable) {
+    return searchList(matchAllQuery(), pageable);
+  }
+
+  @Override
+  public Page<RecipeDocument> findAllByCategory(RecipeCategory category, Pageable pageable) {
+    return searchList(termQuery("category", category.name()), pageable);
+  }
+
+  @Override
+  public Page<RecipeDocument> findAllByTitle(String title, Pageable pageable) {
+    return searchList(matchQuery("title", title).operator(Operator.AND), pageable);
+  }
+
+  @Override
+  public Page<RecipeDocument> findAllByIngredient(String ingredient, Pageable pageable) {
+    return searchList(matchQuery("ingredient", ingredient).operator(Operator.AND), pageable);
+  }
+
+  @Override
+  public Page<RecipeDocument> findAllByUserId(Long userId, Pageable pageable) {
+    return searchList(termQuery("userId", userId), pageable);
+  }
+
+  /**
+   * (1 + log1p(조회수) + 3 * log1p(좋아요 수)) * 작성일 gauss 감쇠 순으로 정렬.
+   * 조회수, 좋아요 수가 0 인 새 레시피도 점수가 0 이 되지 않도록 기본 가중치 1 을 더한다.
+   */
+  @Override
+  public Page<RecipeDocument> findAllTrending(Pageable pageable) {
+
+    QueryBuilder popularityQuery = functionScoreQuery(matchAllQuery(), new FilterFunctionBuilder[]{
+        new FilterFunctionBuilder(weightFactorFunction(1)),
+        new FilterFunctionBuilder(fieldValueFactorFunction("viewCount")
+            .modifier(Modifier.LOG1P).factor(VIEW_COUNT_FACTOR).missing(0)),
+        new FilterFunctionBuilder(fieldValueFactorFunction("likeCount")
+            .modifier(Modifier.LOG1P).factor(LIKE_COUNT_FACTOR).missing(0))
+    }).scoreMode(ScoreMode.SUM).boostMode(CombineFunction.REPLACE);
+
+    QueryBuilder trendingQuery = functionScoreQuery(popularityQuery,
+        gaussDecayFunction("createdAt", "now", RECENCY_SCALE, RECENCY_OFFSET, RECENCY_DECAY))
+        .boostMode(CombineFunction.MULTIPLY);
+
+    SearchHits<RecipeDocument> searchHits = elasticsearchOperations.search(
+        new NativeSearchQueryBuilder()
+            .withQuery(trendingQuery)
+            .withSourceFilter(LIST_SOURCE_FILTER)
+            .withPageable(pageable)
+            .build(),
+        RecipeDocument.class);
+
+    return toPage(searchHits, pageable);
+  }
+
+  /**
+   * 냉장고 재료 목록으로 한 번의 terms_set 쿼리를 보내고
+   * 재료 충족 비율 > 부족한 재료 수 > 좋아요 수 순으로 정렬.
+   */
+  @Override
+  public Page<RecipeDocument> findAllByIngredientNames(List<String> ingredientNames,
+      int minimumMatch, Pageable pageable) {
+
+    Map<String, Object> params = Map.of("ingredientNames", ingredientNames);
+
+    QueryBuilder matchQuery = new TermsSetQueryBuilder("ingredientNames", ingredientNames)
+        .setMinimumShouldMatchScript(painless(MINIMUM_MATCH_SCRIPT,
+            Map.of("minimumMatch", minimumMatch)));
+
+    QueryBuilder coverageQuery = functionScoreQuery(matchQuery,
+        scriptFunction(painless(COVERAGE_SCRIPT, params)))
+        .boostMode(CombineFunction.REPLACE);
+
+    SearchHits<RecipeDocument> searchHits = elasticsearchOperations.search(
+        new NativeSearchQueryBuilder()
+            .withQuery(coverageQuery)
+            .withSort(SortBuilders.scoreSort())
+            .withSort(new ScriptSortBuilder(painless(MISSING_COUNT_SCRIPT, params),
+                ScriptSortType.NUMBER).order(SortOrder.ASC))
+            .withSort(SortBuilders.fieldSort("likeCount").order(SortOrder.DESC).missing("_last"))
+            .withSourceFilter(FRIDGE_SOURCE_FILTER)
+            .withPageable(pageable)
+            .build(),
+        RecipeDocument.class);
+
+    return toPage(searchHits, pageable);
+  }
+
+  /**
+   * from/size 대신 search_after 로 다음 페이지를 조회해 깊은 페이지도 같은 비용으로 가져온다.
+   * 정렬은 createdAt, id 내림차순으로 고정 (id 로 같은 시각에 작성된 레시피 순서 보장)
+   */
+  @Override
+  public SearchHits<RecipeDocument> findAllByCursor(RecipeCategory category, String title,
+      String ingredient, List<Object> searchAfter, int size) {
+
+    BoolQueryBuilder query = boolQuery().must(matchAllQuery());
+
+    if (category != null) {
+      query.filter(termQuery("category", category.name()));
+    }
+
+    if (title != null && !title.isBlank()) {
+      query.must(matchQuery("title", title));
+    }
+
+    if (ingredient != null && !ingredient.isBlank()) {
+      query.must(matchQuery("ingredient", ingredient));
+    }
+
+    NativeSearchQuery searchQuery = new NativeSearchQueryBuilder()
+        .withQuery(query)
+        .withSort(SortBuilders.fieldSort("createdAt").order(SortOrder.DESC).missing("_last"))
+        .withSort(SortBuilders.fieldSort("id").order(SortOrder.DESC))
+        .withSourceFilter(LIST_SOURCE_FILTER)
+        .withPageable(PageRequest.of(0, size))
+        .withTrackTotalHits(false)
+        .build();
+
+    if (searchAfter != null) {
+      searchQuery.setSearchAfter(searchAfter);
+    }
+
+    return elasticsearchOperations.search(searchQuery, RecipeDocument.class);
+  }
+
+  /**
+   * title.autocomplete, ingredientNames.autocomplete (edge-ngram) 로 prefix 를 한 번에 조회.
+   * 제목 후보는 post_filter 로 제목이 일치하는 문서만 남기고,
+   * 재료명은 재료가 일치하는 문서에서 prefix 로 시작하는 값만 terms 집계로 뽑는다.
+   */
+  @Override
+  public SearchHits<RecipeDocument> findAllByPrefix(String prefix, int size) {
+
+    QueryBuilder titleQuery = matchQuery("title.autocomplete", prefix).operator(Operator.AND);
+
+    NativeSearchQuery searchQuery = new NativeSearchQueryBuilder()
+        // 재료 조건은 집계 대상에만 포함되도록 점수에 영향을 주지 않음
+        .withQuery(boolQuery()
+            .should(titleQuery)
+            .should(constantScoreQuery(
+                matchQuery("ingredientNames.autocomplete", prefix).operator(Operator.AND))
+                .boost(0)))
+        .withFilter(titleQuery)
+        .withSourceFilter(new FetchSourceFilter(new String[]{"id", "title"}, null))
+        .addAggregation(AggregationBuilders.terms(SUGGEST_INGREDIENT_AGGREGATION)
+            .field("ingredientNames")
+            .includeExclude(new IncludeExclude(escapeRegex(prefix) + ".*", null))
+            .size(size))
+        .withPageable(PageRequest.of(0, size))
+        .withTrackTotalHits(false)
+        .build();
+
+    return elasticsearchOperations.search(searchQuery, RecipeDocument.class);
+  }
+
+  /**
+   * 검색어, 인분, 재료 조건은 query 로, 카테고리, 조리 시간 조건은 post_filter 로 적용한다.
+   * 각 집계는 자기 자신을 제외한 조건만 걸어서 다른 카테고리/조리 시간 선택지의 개수도 함께 내려준다.
+   */
+  @Override
+  public SearchHits<RecipeDocument> findAllBySearchCondition(RecipeSearchDto recipeSearchDto,
+      Pageable pageable) {
+
+    BoolQueryBuilder query = boolQuery().must(matchAllQuery());
+
+    if (recipeSearchDto.getKeyword() != null && !recipeSearchDto.getKeyword().isBlank()) {
+      query.must(multiMatchQuery(recipeSearchDto.getKeyword(), "title^2", "ingredient"));
+    }
+
+    if (isNotEmpty(recipeSearchDto.getServings())) {
+      query.filter(termsQuery("serving", recipeSearchDto.getServings()));
+    }
+
+    if (isNotEmpty(recipeSearchDto.getIngredients())) {
+      recipeSearchDto.getIngredients().forEach(ingredientName ->
+          query.filter(termQuery("ingredientNames", ingredientName)));
+    }
+
+    BoolQueryBuilder categoryFilter = boolQuery();
+    if (isNotEmpty(recipeSearchDto.getCategories())) {
+      categoryFilter.filter(termsQuery("category",
+          recipeSearchDto.getCategories().stream().map(Enum::name).toList()));
+    }
+
+    BoolQueryBuilder cookingTimeFilter = boolQuery();
+    if (isNotEmpty(recipeSearchDto.getCookingTimes())) {
+      cookingTimeFilter.filter(termsQuery("cookingTime", recipeSearchDto.getCookingTimes()));
+    }
+
+    NativeSearchQuery searchQuery = new NativeSearchQueryBuilder()
+        .withQuery(query)
+        .withFilter(boolQuery().filter(categoryFilter).filter(cookingTimeFilter))
+        .addAggregation(AggregationBuilders.filter(CATEGORY_AGGREGATION, cookingTimeFilter)
+            .subAggregation(AggregationBuilders.terms(CATEGORY_AGGREGATION)
+                .field("category").size(RecipeCategory.values().length)))
+        .addAggregation(AggregationBuilders.filter(COOKING_TIME_AGGREGATION, categoryFilter)
+            .subAggregation(AggregationBuilders.terms(COOKING_TIME_AGGREGATION)
+                .field("cookingTime").size(COOKING_TIME_FACET_SIZE)))
+        .withSourceFilter(LIST_SOURCE_FILTER)
+        .withPageable(pageable)
+        .build();
+
+    return elasticsearchOperations.search(searchQuery, RecipeDocument.class);
+  }
+
+  /**
+   * 조회수, 좋아요 수 반영과 겹쳐 버전 충돌이 난 문서는 건너뛰고(conflicts=proceed) 진행하며,
+   * 건너뛴 문서는 다시 제출하면 남은 문서만 대상이 된다.
+   */
+  @Override
+  public String submitUserIdUpdateTask(Long userId, Long newUserId) {
+    return submitUserIdUpdateTask(userId, newUserId,
+        elasticsearchOperations.getIndexCoordinatesFor(RecipeDocument.class).getIndexName());
+  }
+
+  @Override
+  public String submitUserIdUpdateTask(Long userId, Long newUserId, String indexName) {
+
+    UpdateByQueryRequest request = new UpdateByQueryRequest(indexName);
+    request.setQuery(termQuery("userId", userId));
+    request.setScript(painless(UPDATE_USER_ID_SCRIPT, Map.of("userId", newUserId)));
+    request.setConflicts("proceed");
+    request.setSlices(AbstractBulkByScrollRequest.AUTO_SLICES);
+    request.setRefresh(true);
+
+    try {
+      return elasticsearchClient.submitUpdateByQueryTask(request, RequestOptions.DEFAULT)
+          .getTask();
+    } catch (IOException e) {
+      throw new DataAccessResourceFailureException(e.getMessage(), e);
+    }
+  }
+
+  /**
+   * 재색인 중에는 새 인덱스에도 같은 문서를 함께 쓰므로(op_type=create) 이미 있는 문서는 덮어쓰지 않고 건너뛴다.
+   */
+  @Override
+  public String submitReindexTask(String sourceIndex, String destIndex) {
+
+    ReindexRequest request = new ReindexRequest()
+        .setSourceIndices(sourceIndex)
+        .setDestIndex(destIndex)
+        .setDestOpType("create")
+        .setSourceBatchSize(REINDEX_BATCH_SIZE);
+    request.setConflicts("proceed");
+    request.setSlices(AbstractBulkByScrollRequest.AUTO_SLICES);
+    request.setRefresh(true);
+
+    try {
+      return elasticsearchClient.submitReindexTask(request, RequestOptions.DEFAULT).getTask();
+    } catch (IOException e) {
+      throw new DataAccessResourceFailureException(e.getMessage(), e);
+    }
+  }
+
+  @Override
+  public Optional<RecipeTaskStatusDto> findTaskStatus(String taskId) {
+
+    TaskId id = new TaskId(taskId);
+
+    try {
+      return elasticsearchClient.tasks()
+          .get(new GetTaskRequest(id.getNodeId(), id.getId()), RequestOptions.DEFAULT)
+          .map(RecipeTaskStatusDto::fromTaskResponse);
+    } catch (IOException e) {
+      throw new DataAccessResourceFailureException(e.getMessage(), e);
+    }
+  }
+
+  private Page<RecipeDocument> searchList(QueryBuilder query, Pageable pageable) {
+
+    SearchHits<RecipeDocument> searchHits = elasticsearchOperations.search(
+        new NativeSearchQueryBuilder()
+            .withQuery(query)
+            .withSourceFilter(LIST_SOURCE_FILTER)
+            .withPageable(pageable)
+            .build(),
+        RecipeDocument.class);
+
+    return toPage(searchHits, pageable);
+  }
+
+  private boolean isNotEmpty(List<?> values) {
+    return values != null && !values.isEmpty();
+  }
+
+  private String escapeRegex(String value) {
+    return value.replaceAll("([.?+*|{}\\[\\]()\"\\\\#@&<>~])", "\\\\$1");
+  }
+
+  private Page<RecipeDocument> toPage(SearchHits<RecipeDocument> searchHits, Pageable pageable) {
+
+    return new PageImpl<>(
+        searchHits.stream().map(SearchHit::getContent).toList(),
+        pageable,
+        searchHits.getTotalHits());
+  }
+
+  private Script painless(String source, Map<String, Object> params) {
+    return new Script(ScriptType.INLINE, "painless", source, params);
+  }
+}
@@ -0,0 +1,67 @@
+package kr.zb.nengtul.recipe.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import kr.zb.nengtul.global.util.TransactionUtil;
+import kr.zb.nengtul.recipe.domain.dto.RecipeAuthorDto;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 상세 조회에서 조회하는 사람과 관계없는 부분(레시피 문서, 작성자 프로필)을 캐싱한다.
+ * 레시피 수정/삭제, 회원 정보 수정, 작성자 포인트 변경, 조회수 반영, 탈퇴 회원 레시피 작성자 변경 시 해당 항목을 지운다.
+ * 커밋 전에 지우면 다른 요청이 커밋 전 값을 다시 캐싱할 수 있으므로 트랜잭션 안에서는 커밋된 뒤에 지운다.
+ */
+@Component
+public class RecipeDetailCache {
+
+  private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+  private final Cache<String, RecipeDocument> recipeCache = Caffeine.newBuilder()
+      .expireAfterWrite(EXPIRE_AFTER_WRITE)
+      .maximumSize(10_000)
+      .build();
+
+  private final Cache<Long, RecipeAuthorDto> authorCache = Caffeine.newBuilder()
+      .expireAfterWrite(EXPIRE_AFTER_WRITE)
+      .maximumSize(10_000)
+      .build();
+
+  // 없는 레시피(empty)는 캐싱하지 않음
+  public Optional<RecipeDocument> getRecipe(String recipeId,
+      Function<String, Optional<RecipeDocument>> loader) {
+
+    return Optional.ofNullable(
+        recipeCache.get(recipeId, id -> loader.apply(id).orElse(null)));
+  }
+
+  public Optional<RecipeAuthorDto> getAuthor(Long userId,
+      Function<Long, Optional<RecipeAuthorDto>> loader) {
+
+    return Optional.ofNullable(
+        authorCache.get(userId, id -> loader.apply(id).orElse(null)));
+  }
+
+  public void evictRecipe(String recipeId) {
+    TransactionUtil.afterCommit(() -> recipeCache.invalidate(recipeId));
+  }
+
+  public void evictRecipes(Collection<String> recipeIds) {
+    TransactionUtil.afterCommit(() -> recipeCache.invalidateAll(recipeIds));
+  }
+
+  // 작성자가 바뀐 레시피는 id 를 모르므로 캐시 전체에서 찾아 제거
+  public void evictRecipesByUserId(Long userId) {
+    TransactionUtil.afterCommit(() -> recipeCache.asMap().values()
+        .removeIf(recipeDocument -> Objects.equals(recipeDocument.getUserId(), userId)));
+  }
+
+  public void evictAuthor(Long userId) {
+    TransactionUtil.afterCommit(() -> authorCache.invalidate(userId));
+  }
+}
@@ -0,0 +1,456 @@
+package kr.zb.nengtul.recipe.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import kr.zb.nengtul.global.exception.CustomException;
+import kr.zb.nengtul.global.exception.ErrorCode;
+import kr.zb.nengtul.recipe.domain.dto.RecipeTaskStatusDto;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import kr.zb.nengtul.recipe.domain.entity.RecipeIndexMigration;
+import kr.zb.nengtul.recipe.domain.entity.RecipeOwnerReassign;
+import kr.zb.nengtul.recipe.domain.repository.RecipeIndexMigrationJdbcRepository;
+import kr.zb.nengtul.recipe.domain.repository.RecipeOwnerReassignRepository;
+import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 레시피 인덱스는 recipe_v{버전} 으로 만들고 recipe alias 로 조회/저장한다.
+ * 매핑, 설정이 바뀌어 RECIPE_INDEX_VERSION 을 올리면 모든 서버를 배포한 뒤 관리자가 재색인을 요청하고,
+ * DB 잠금을 얻은 한 서버만 백그라운드에서 새 인덱스를 만들어 재색인한다.
+ * 재색인 중에는 모든 서버가 DB 의 재색인 상태를 읽어 쓰기를 새 인덱스에도 함께 반영하고 변경된 레시피를 DB 에 남기며,
+ * 변경된 레시피는 재색인이 끝난 뒤 기존 인덱스에서 다시 복사하고, 끝나지 않은 작성자 변경을 새 인덱스에도 적용한 다음
+ * alias 를 한 번에 옮긴다.
+ * 재색인 중에도 조회는 기존 인덱스에서 처리된다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RecipeIndexManager {
+
+  // recipe-mappings.json, elasticsearch-settings.json 변경 시 1 올림
+  public static final int RECIPE_INDEX_VERSION = 1;
+
+  public static final String RECIPE_ALIAS = "recipe";
+
+  private static final String CURRENT_INDEX = RECIPE_ALIAS + "_v" + RECIPE_INDEX_VERSION;
+
+  private static final long REINDEX_CHECK_INTERVAL_MILLIS = 5000;
+
+  // 재색인 중인 서버가 종료되어 잠금이 갱신되지 않으면 이 시간 뒤에 다른 서버가 다시 재색인할 수 있음
+  private static final long LOCK_EXPIRE_MINUTES = 5;
+
+  private static final int RECOPY_CHUNK_SIZE = 500;
+
+  // 다시 복사하는 동안 또 바뀐 문서가 있으면 반복, 그래도 남으면 alias 변경 후 새 인덱스에 직접 반영됨
+  private static final int MAX_RECOPY_ROUND = 3;
+
+  private final ElasticsearchOperations elasticsearchOperations;
+
+  private final RecipeSearchRepository recipeSearchRepository;
+
+  private final RecipeIndexMigrationJdbcRepository recipeIndexMigrationJdbcRepository;
+
+  private final RecipeOwnerReassignRepository recipeOwnerReassignRepository;
+
+  // 모든 서버가 재색인 상태를 읽을 때까지(refreshMigratingIndex 주기보다 길게) 재색인 시작을 미룸
+  @Value("${spring.elasticsearch.migration-start-delay-millis:15000}")
+  private long migrationStartDelayMillis;
+
+  // 재색인 잠금을 가진 서버 구분용
+  private final String nodeId = UUID.randomUUID().toString();
+
+  private ThreadPoolTaskExecutor executor;
+
+  // 재색인 중인 새 인덱스, 재색인 중이 아니면 null
+  private volatile IndexCoordinates migratingIndex;
+
+  // 스레드 풀을 빈으로 등록하면 스프링 기본 TaskExecutor 를 대체하므로 내부에서만 생성
+  @PostConstruct
+  public void init() {
+    executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(1);
+    executor.setMaxPoolSize(1);
+    executor.setQueueCapacity(0);
+    executor.setThreadNamePrefix("recipe-index-migration-");
+    executor.initialize();
+  }
+
+  // 진행 중인 재색인은 중단되고 잠금을 해제함, 다시 요청하면 새 인덱스로 처음부터 재색인
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  /**
+   * 인덱스가 없을 때만 만들고, 이전 버전 인덱스는 기동 중에 재색인하지 않는다.
+   * 배포 중에는 이전 버전 서버가 새 인덱스에 쓰지 않으므로 모든 서버 배포 후 startMigration 으로 재색인한다.
+   * 다른 기동 작업이 인덱스가 있는 상태에서 동작하도록 가장 먼저 실행한다.
+   */
+  @Order(Ordered.HIGHEST_PRECEDENCE)
+  @EventListener(ApplicationReadyEvent.class)
+  public void initRecipeIndex() {
+
+    Set<String> aliasedIndexes = indexOps(RECIPE_ALIAS).getAliases(RECIPE_ALIAS).keySet();
+
+    if (aliasedIndexes.stream().anyMatch(this::isCurrentVersion)) {
+      return;
+    }
+
+    if (aliasedIndexes.isEmpty() && !isLegacyIndex(aliasedIndexes)) {
+      try {
+        createIndex(CURRENT_INDEX);
+        indexOps(RECIPE_ALIAS).alias(new AliasActions(new AliasAction.Add(
+            AliasActionParameters.builder().withIndices(CURRENT_INDEX).withAliases(RECIPE_ALIAS)
+                .build())));
+      } catch (Exception e) {
+        // 함께 기동한 다른 서버가 먼저 만든 경우
+        log.warn("레시피 인덱스 생성 실패 {}, {}", CURRENT_INDEX, e.getMessage());
+        return;
+      }
+
+      log.info("** Create recipe index {} **", CURRENT_INDEX);
+      return;
+    }
+
+    log.warn("레시피 인덱스가 이전 버전임 {}, 모든 서버 배포 후 재색인 요청 필요 (버전 : {})",
+        aliasedIndexes, RECIPE_INDEX_VERSION);
+  }
+
+  /**
+   * 잠금을 얻고 새 인덱스를 만든 뒤 바로 반환하며, 재색인은 내부 스레드에서 진행한다.
+   * 새 인덱스는 시도마다 다른 이름으로 만들어 다른 서버가 채우던 인덱스를 지우지 않는다.
+   */
+  public void startMigration() {
+
+    Set<String> aliasedIndexes = indexOps(RECIPE_ALIAS).getAliases(RECIPE_ALIAS).keySet();
+
+    boolean legacyIndex = isLegacyIndex(aliasedIndexes);
+
+    if (aliasedIndexes.stream().anyMatch(this::isCurrentVersion)
+        || (aliasedIndexes.isEmpty() && !legacyIndex)) {
+      throw new CustomException(ErrorCode.ALREADY_CURRENT_RECIPE_INDEX);
+    }
+
+    String sourceIndex = legacyIndex ? RECIPE_ALIAS : aliasedIndexes.iterator().next();
+    String targetIndex = CURRENT_INDEX + "_" + System.currentTimeMillis();
+    LocalDateTime now = LocalDateTime.now();
+
+    if (!recipeIndexMigrationJdbcRepository.tryLock(RecipeIndexMigration.builder()
+        .aliasName(RECIPE_ALIAS)
+        .sourceIndex(sourceIndex)
+        .targetIndex(targetIndex)
+        .legacyIndex(legacyIndex)
+        .owner(nodeId)
+        .heartbeatAt(now)
+        .build(), now.minusMinutes(LOCK_EXPIRE_MINUTES))) {
+      throw new CustomException(ErrorCode.ALREADY_MIGRATING_RECIPE_INDEX);
+    }
+
+    try {
+      // 이전 시도에서 남은 변경 기록은 새 재색인에 이미 포함됨
+      recipeIndexMigrationJdbcRepository.deleteAllDirtyRecipeIds();
+      createIndex(targetIndex);
+      migratingIndex = IndexCoordinates.of(targetIndex);
+
+      executor.execute(() -> migrate(sourceIndex, targetIndex, legacyIndex));
+    } catch (TaskRejectedException e) {
+      // 이전 재색인 스레드가 아직 끝나지 않은 경우
+      unlock();
+      throw new CustomException(ErrorCode.ALREADY_MIGRATING_RECIPE_INDEX);
+    } catch (RuntimeException e) {
+      unlock();
+      throw e;
+    }
+
+    log.info("** Start migrate recipe index {} -> {} **", sourceIndex, targetIndex);
+  }
+
+  private void migrate(String sourceIndex, String targetIndex, boolean legacyIndex) {
+
+    try {
+      Thread.sleep(migrationStartDelayMillis);
+
+      waitForTask(recipeSearchRepository.submitReindexTask(sourceIndex, targetIndex));
+
+      recopyDirtyRecipes(sourceIndex, targetIndex);
+
+      reassignOwners(targetIndex);
+
+      heartbeat();
+
+      // 기존 인덱스 제거와 새 인덱스 추가를 한 요청으로 처리해 alias 가 비는 순간이 없도록 함
+      AliasAction removeSource = legacyIndex ?
+          new AliasAction.RemoveIndex(
+              AliasActionParameters.builder().withIndices(sourceIndex).build()) :
+          new AliasAction.Remove(
+              AliasActionParameters.builder().withIndices(sourceIndex).withAliases(RECIPE_ALIAS)
+                  .build());
+
+      indexOps(RECIPE_ALIAS).alias(new AliasActions(removeSource, new AliasAction.Add(
+          AliasActionParameters.builder().withIndices(targetIndex).withAliases(RECIPE_ALIAS)
+              .build())));
+
+      log.info("** Migrate recipe index {} -> {} **", sourceIndex, targetIndex);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      log.warn("레시피 인덱스 재색인 중단 {} -> {}, 새 인덱스는 확인 후 삭제 필요", sourceIndex, targetIndex);
+    } catch (Exception e) {
+      // alias 는 기존 인덱스에 그대로 두고, 재색인 태스크가 남아 있을 수 있으므로 새 인덱스는 지우지 않음
+      log.error("레시피 인덱스 재색인 실패 {} -> {}, 새 인덱스는 확인 후 삭제 필요, {}",
+          sourceIndex, targetIndex, e.getMessage());
+    } finally {
+      unlock();
+    }
+  }
+
+  private void recopyDirtyRecipes(String sourceIndex, String targetIndex) {
+
+    for (int round = 0; round < MAX_RECOPY_ROUND; round++) {
+
+      heartbeat();
+
+      List<String> recipeIds = recipeIndexMigrationJdbcRepository.findDirtyRecipeIds();
+
+      if (recipeIds.isEmpty()) {
+        return;
+      }
+
+      // 다시 복사하는 동안 변경되면 다시 기록되도록 복사 전에 지움
+      recipeIndexMigrationJdbcRepository.deleteDirtyRecipeIds(recipeIds);
+
+      for (int from = 0; from < recipeIds.size(); from += RECOPY_CHUNK_SIZE) {
+        List<String> chunk =
+            recipeIds.subList(from, Math.min(from + RECOPY_CHUNK_SIZE, recipeIds.size()));
+
+        List<RecipeDocument> recipeDocuments = elasticsearchOperations.multiGet(
+                new NativeSearchQueryBuilder().withIds(chunk).build(), RecipeDocument.class,
+                IndexCoordinates.of(sourceIndex))
+            .stream()
+            .filter(MultiGetItem::hasItem)
+            .map(MultiGetItem::getItem)
+            .toList();
+
+        if (!recipeDocuments.isEmpty()) {
+          elasticsearchOperations.save(recipeDocuments, IndexCoordinates.of(targetIndex));
+        }
+
+        // 기존 인덱스에서 삭제된 문서는 재색인이 이미 복사했을 수 있으므로 새 인덱스에서도 삭제
+        Set<String> deletedRecipeIds = new HashSet<>(chunk);
+        recipeDocuments.forEach(recipeDocument -> deletedRecipeIds.remove(recipeDocument.getId()));
+        deletedRecipeIds.forEach(recipeId -> elasticsearchOperations.delete(recipeId,
+            IndexCoordinates.of(targetIndex)));
+      }
+
+      log.info("레시피 인덱스 재색인 중 변경된 문서 {}건 다시 복사", recipeIds.size());
+    }
+  }
+
+  /**
+   * 작성자 변경(_update_by_query)은 alias 가 가리키는 기존 인덱스에만 적용되므로
+   * 끝나지 않은 작성자 변경 작업을 alias 변경 전에 새 인덱스에도 적용한다.
+   * 재색인 중에는 RecipeOwnerReassignService 가 작업을 끝내지 않고 alias 변경 뒤 다시 제출하므로 여기서 실패해도 반영된다.
+   */
+  private void reassignOwners(String targetIndex) throws InterruptedException {
+
+    for (RecipeOwnerReassign recipeOwnerReassign : recipeOwnerReassignRepository.findAll()) {
+      try {
+        waitForTask(recipeSearchRepository.submitUserIdUpdateTask(
+            recipeOwnerReassign.getFromUserId(), recipeOwnerReassign.getToUserId(), targetIndex));
+      } catch (RuntimeException e) {
+        log.error("재색인 중인 인덱스 작성자 변경 실패 userId : {}, {}",
+            recipeOwnerReassign.getFromUserId(), e.getMessage());
+      }
+    }
+  }
+
+  private void waitForTask(String taskId) throws InterruptedException {
+
+    while (true) {
+      heartbeat();
+
+      RecipeTaskStatusDto taskStatus = recipeSearchRepository.findTaskStatus(taskId)
+          .orElseThrow(() -> new IllegalStateException("재색인 태스크를 찾을 수 없음 : " + taskId));
+
+      if (taskStatus.isCompleted()) {
+        return;
+      }
+
+      log.info("레시피 인덱스 재색인 진행 중 {} / {}", taskStatus.getUpdated(), taskStatus.getTotal());
+      Thread.sleep(REINDEX_CHECK_INTERVAL_MILLIS);
+    }
+  }
+
+  // 잠금이 만료되어 다른 서버가 가져갔으면 alias 를 옮기지 않고 중단
+  private void heartbeat() {
+    if (!recipeIndexMigrationJdbcRepository.heartbeat(RECIPE_ALIAS, nodeId,
+        LocalDateTime.now())) {
+      throw new IllegalStateException("레시피 인덱스 재색인 잠금 만료");
+    }
+  }
+
+  // 잠금을 먼저 해제해 refreshMigratingIndex 가 재색인 중인 인덱스를 다시 설정하지 않도록 함
+  private void unlock() {
+    try {
+      recipeIndexMigrationJdbcRepository.unlock(RECIPE_ALIAS, nodeId);
+    } catch (Exception e) {
+      log.error("레시피 인덱스 재색인 잠금 해제 실패, {}분 뒤 만료됨, {}", LOCK_EXPIRE_MINUTES,
+          e.getMessage());
+    }
+    migratingIndex = null;
+  }
+
+  // 재색인 중인 서버가 있는지 DB 에서 확인
+  public boolean isMigrating() {
+    return recipeIndexMigrationJdbcRepository.find(RECIPE_ALIAS).isPresent();
+  }
+
+  // 5초마다 재색인 상태를 읽어 다른 서버가 재색인 중이면 쓰기를 새 인덱스에도 반영
+  @Scheduled(fixedDelay = 5000)
+  public void refreshMigratingIndex() {
+    try {
+      migratingIndex = recipeIndexMigrationJdbcRepository.find(RECIPE_ALIAS)
+          .map(migration -> IndexCoordinates.of(migration.getTargetIndex()))
+          .orElse(null);
+    } catch (Exception e) {
+      log.error("레시피 인덱스 재색인 상태 조회 실패, {}", e.getMessage());
+    }
+  }
+
+  /**
+   * 재색인 중일 때만 DB 의 잠금을 다시 확인해, alias 를 옮긴 뒤 다음 상태 확인 전까지
+   * 새 인덱스(이제 alias 대상)에 같은 부분 업데이트가 두 번 반영되지 않도록 한다.
+   */
+  private IndexCoordinates currentMigratingIndex() {
+
+    IndexCoordinates index = migratingIndex;
+
+    if (index == null) {
+      return null;
+    }
+
+    try {
+      boolean migrating = recipeIndexMigrationJdbcRepository.find(RECIPE_ALIAS)
+          .filter(migration -> index.getIndexName().equals(migration.getTargetIndex()))
+          .isPresent();
+
+      return migrating ? index : null;
+    } catch (Exception e) {
+      log.error("레시피 인덱스 재색인 상태 조회 실패, {}", e.getMessage());
+      return index;
+    }
+  }
+
+  private void markDirty(Collection<String> recipeIds) {
+    try {
+      recipeIndexMigrationJdbcRepository.saveDirtyRecipeIds(recipeIds);
+    } catch (Exception e) {
+      log.error("재색인 중 변경된 레시피 기록 실패 recipeId : {}, {}", recipeIds, e.getMessage());
+    }
+  }
+
+  private boolean isCurrentVersion(String indexName) {
+    return indexName.equals(CURRENT_INDEX) || indexName.startsWith(CURRENT_INDEX + "_");
+  }
+
+  // alias 도입 전 recipe 이름으로 만들어진 인덱스
+  private boolean isLegacyIndex(Set<String> aliasedIndexes) {
+    return aliasedIndexes.isEmpty() && indexOps(RECIPE_ALIAS).exists();
+  }
+
+  private void createIndex(String indexName) {
+
+    IndexOperations recipeIndexOps = elasticsearchOperations.indexOps(RecipeDocument.class);
+
+    indexOps(indexName).create(recipeIndexOps.createSettings(), recipeIndexOps.createMapping());
+  }
+
+  private IndexOperations indexOps(String indexName) {
+    return elasticsearchOperations.indexOps(IndexCoordinates.of(indexName));
+  }
+
+  public void saveToMigratingIndex(RecipeDocument recipeDocument) {
+
+    IndexCoordinates index = currentMigratingIndex();
+
+    if (index == null) {
+      return;
+    }
+
+    markDirty(List.of(recipeDocument.getId()));
+
+    try {
+      elasticsearchOperations.save(recipeDocument, index);
+    } catch (Exception e) {
+      log.error("재색인 중인 인덱스 저장 실패 recipeId : {}, {}", recipeDocument.getId(), e.getMessage());
+    }
+  }
+
+  // 재색인이 이미 읽어간 문서일 수 있으므로 변경 기록을 남겨 alias 변경 전에 다시 삭제
+  public void deleteFromMigratingIndex(String recipeId) {
+
+    IndexCoordinates index = currentMigratingIndex();
+
+    if (index == null) {
+      return;
+    }
+
+    markDirty(List.of(recipeId));
+
+    try {
+      elasticsearchOperations.delete(recipeId, index);
+    } catch (Exception e) {
+      log.error("재색인 중인 인덱스 삭제 실패 recipeId : {}, {}", recipeId, e.getMessage());
+    }
+  }
+
+  /**
+   * 아직 복사되지 않은 문서는 실패하고, 재색인이 이미 읽어간 이전 값으로 덮어쓸 수 있으므로
+   * 문서 id 를 남겨 두고 재색인이 끝난 뒤 기존 인덱스에서 다시 복사한다.
+   */
+  public void updateMigratingIndex(List<UpdateQuery> updateQueries) {
+
+    if (updateQueries.isEmpty()) {
+      return;
+    }
+
+    IndexCoordinates index = currentMigratingIndex();
+
+    if (index == null) {
+      return;
+    }
+
+    markDirty(updateQueries.stream().map(UpdateQuery::getId).toList());
+
+    try {
+      elasticsearchOperations.bulkUpdate(updateQueries, index);
+    } catch (Exception e) {
+      log.warn("재색인 중인 인덱스 부분 업데이트 실패 : {}", e.getMessage());
+    }
+  }
+
+}
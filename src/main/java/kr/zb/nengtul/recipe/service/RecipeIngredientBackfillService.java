@@ -0,0 +1,117 @@
+package kr.zb.nengtul.recipe.service;
+
+import static org.elasticsearch.index.query.QueryBuilders.boolQuery;
+import static org.elasticsearch.index.query.QueryBuilders.existsQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import kr.zb.nengtul.recipe.domain.ingredient.IngredientNormalizer;
+import kr.zb.nengtul.recipe.domain.ingredient.IngredientParser;
+import kr.zb.nengtul.recipe.domain.ingredient.RecipeIngredient;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.stereotype.Service;
+
+/**
+ * ingredientDetails, ingredientNames 도입 전에 저장된 문서는 두 필드가 비어 있어 재료 검색에 걸리지 않는다.
+ * 기동 시 인덱스 재색인이 끝난 뒤 ingredient 만 있는 문서를 찾아 파싱 결과를 채운다.
+ * 이미 채워진 문서는 조회 대상에서 빠지므로 여러 번 실행해도 결과가 같다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RecipeIngredientBackfillService {
+
+  private static final int BACKFILL_CHUNK_SIZE = 500;
+
+  private final ElasticsearchOperations elasticsearchOperations;
+
+  private final RecipeIndexManager recipeIndexManager;
+
+  // RecipeIndexManager.initRecipeIndex 이후에 실행
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillIngredient() {
+
+    Query query = new NativeSearchQueryBuilder()
+        .withQuery(boolQuery()
+            .must(existsQuery("ingredient"))
+            .mustNot(existsQuery("ingredientNames")))
+        .withSourceFilter(new FetchSourceFilter(new String[]{"ingredient"}, null))
+        .withPageable(PageRequest.of(0, BACKFILL_CHUNK_SIZE))
+        .build();
+
+    int backfilledCount = 0;
+
+    try (SearchHitsIterator<RecipeDocument> searchHits =
+        elasticsearchOperations.searchForStream(query, RecipeDocument.class)) {
+
+      List<UpdateQuery> chunk = new ArrayList<>(BACKFILL_CHUNK_SIZE);
+
+      while (searchHits.hasNext()) {
+        chunk.add(toUpdateQuery(searchHits.next().getContent()));
+
+        if (chunk.size() == BACKFILL_CHUNK_SIZE) {
+          backfilledCount += bulkUpdate(chunk);
+          chunk.clear();
+        }
+      }
+
+      if (!chunk.isEmpty()) {
+        backfilledCount += bulkUpdate(chunk);
+      }
+    } catch (Exception e) {
+      // 채우지 못한 문서는 다음 기동 시 다시 조회됨
+      log.error("레시피 재료 필드 채우기 실패, {}", e.getMessage());
+    }
+
+    log.info("** Backfill {} RecipeDocument ingredientNames **", backfilledCount);
+  }
+
+  private UpdateQuery toUpdateQuery(RecipeDocument recipeDocument) {
+
+    List<RecipeIngredient> ingredientDetails = IngredientParser.parse(
+        recipeDocument.getIngredient());
+
+    Map<String, Object> document = new HashMap<>();
+    document.put("ingredientDetails", ingredientDetails.stream().map(this::toMap).toList());
+    document.put("ingredientNames", IngredientNormalizer.toNames(ingredientDetails));
+
+    return UpdateQuery.builder(recipeDocument.getId())
+        .withDocument(Document.from(document))
+        .build();
+  }
+
+  private Map<String, Object> toMap(RecipeIngredient recipeIngredient) {
+
+    Map<String, Object> map = new HashMap<>();
+    map.put("name", recipeIngredient.getName());
+    map.put("quantity", recipeIngredient.getQuantity());
+    map.put("unit", recipeIngredient.getUnit());
+    return map;
+  }
+
+  private int bulkUpdate(List<UpdateQuery> updateQueries) {
+
+    elasticsearchOperations.bulkUpdate(updateQueries, RecipeDocument.class);
+    recipeIndexManager.updateMigratingIndex(updateQueries);
+
+    return updateQueries.size();
+  }
+
+}
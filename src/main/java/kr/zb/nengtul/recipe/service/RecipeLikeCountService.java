@@ -0,0 +1,236 @@
+package kr.zb.nengtul.recipe.service;
+
+import static org.elasticsearch.index.query.QueryBuilders.boolQuery;
+import static org.elasticsearch.index.query.QueryBuilders.existsQuery;
+import static org.elasticsearch.index.query.QueryBuilders.matchAllQuery;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import kr.zb.nengtul.global.util.TransactionUtil;
+import kr.zb.nengtul.likes.domain.dto.LikesCountDto;
+import kr.zb.nengtul.likes.domain.repository.LikesRepository;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.FetchSourceFilter;
+import org.springframework.data.elasticsearch.core.query.NativeSearchQueryBuilder;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * RecipeDocument 의 likeCount 를 좋아요 등록/취소 트랜잭션이 커밋된 뒤 부분 업데이트로 유지한다.
+ * likeCount 가 없는 기존 문서는 기동 시 MySQL 좋아요 수로 채우고, 채워지기 전에는 증감하지 않는다.
+ * ES 반영이 실패해 MySQL 과 어긋난 값은 매일 새벽 다시 맞추며, 읽은 뒤 바뀐 문서는 덮어쓰지 않는다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RecipeLikeCountService {
+
+  // 채워지지 않은 문서에 1 을 더하면 실제 좋아요 수와 달라지므로 채우기 전까지는 변경하지 않음
+  private static final String UPDATE_LIKE_COUNT_SCRIPT =
+      "if (ctx._source.likeCount == null) { ctx.op = 'noop'; } "
+          + "else { ctx._source.likeCount = Math.max(0, ctx._source.likeCount + params.count); }";
+
+  // 채우는 동안 증감되지 않도록 likeCount 가 없을 때만 설정
+  private static final String BACKFILL_LIKE_COUNT_SCRIPT =
+      "if (ctx._source.likeCount == null) { ctx._source.likeCount = params.count; } "
+          + "else { ctx.op = 'noop'; }";
+
+  // 조회한 뒤 좋아요로 바뀐 문서는 덮어쓰지 않고 다음 보정에 맡김
+  private static final String RECONCILE_LIKE_COUNT_SCRIPT =
+      "if (ctx._source.likeCount == params.expected) { ctx._source.likeCount = params.count; } "
+          + "else { ctx.op = 'noop'; }";
+
+  private static final int RETRY_ON_CONFLICT = 3;
+
+  private static final int RECONCILE_CHUNK_SIZE = 500;
+
+  private final ElasticsearchOperations elasticsearchOperations;
+
+  private final LikesRepository likesRepository;
+
+  private final RecipeIndexManager recipeIndexManager;
+
+  // 좋아요 트랜잭션이 롤백되면 반영하지 않음
+  public void increaseLikeCount(String recipeId) {
+    TransactionUtil.afterCommit(() -> updateLikeCount(recipeId, 1));
+  }
+
+  public void decreaseLikeCount(String recipeId) {
+    TransactionUtil.afterCommit(() -> updateLikeCount(recipeId, -1));
+  }
+
+  private void updateLikeCount(String recipeId, int count) {
+    UpdateQuery updateQuery = UpdateQuery.builder(recipeId)
+        .withScript(UPDATE_LIKE_COUNT_SCRIPT)
+        .withLang("painless")
+        .withParams(Map.of("count", count))
+        .withRetryOnConflict(RETRY_ON_CONFLICT)
+        .build();
+
+    try {
+      elasticsearchOperations.update(updateQuery,
+          elasticsearchOperations.getIndexCoordinatesFor(RecipeDocument.class));
+      recipeIndexManager.updateMigratingIndex(List.of(updateQuery));
+    } catch (Exception e) {
+      // 좋아요 자체는 성공시키고, 어긋난 좋아요 수는 reconcileLikeCount 에서 보정
+      log.error("좋아요 수 반영 실패 recipeId : {}, {}", recipeId, e.getMessage());
+    }
+  }
+
+  // likeCount 도입 전 문서를 MySQL 좋아요 수로 채움, 재색인 후 실행되도록 가장 나중에 실행
+  @Order(Ordered.LOWEST_PRECEDENCE)
+  @EventListener(ApplicationReadyEvent.class)
+  public void backfillLikeCount() {
+
+    int backfilledCount = processInChunks(boolQuery().mustNot(existsQuery("likeCount")),
+        this::backfillChunk);
+
+    if (backfilledCount > 0) {
+      log.info("** Backfill {} RecipeDocument likeCount **", backfilledCount);
+    }
+  }
+
+  //매일 4시 0분 0초에 MySQL 좋아요 수 기준으로 ES 좋아요 수 보정
+  @Scheduled(cron = "0 0 4 * * ?")
+  public void reconcileLikeCount() {
+
+    int reconciledCount = processInChunks(matchAllQuery(), this::reconcileChunk);
+
+    log.info("** Reconcile {} RecipeDocument likeCount **", reconciledCount);
+  }
+
+  // 한 chunk 가 실패해도 나머지 chunk 는 계속 처리
+  private int processInChunks(QueryBuilder queryBuilder,
+      Function<List<RecipeDocument>, Integer> chunkProcessor) {
+
+    Query query = new NativeSearchQueryBuilder()
+        .withQuery(queryBuilder)
+        .withSourceFilter(new FetchSourceFilter(new String[]{"likeCount"}, null))
+        .withPageable(PageRequest.of(0, RECONCILE_CHUNK_SIZE))
+        .build();
+
+    int processedCount = 0;
+
+    try (SearchHitsIterator<RecipeDocument> searchHits =
+        elasticsearchOperations.searchForStream(query, RecipeDocument.class)) {
+
+      List<RecipeDocument> chunk = new ArrayList<>(RECONCILE_CHUNK_SIZE);
+
+      while (searchHits.hasNext()) {
+        SearchHit<RecipeDocument> searchHit = searchHits.next();
+        chunk.add(searchHit.getContent());
+
+        if (chunk.size() == RECONCILE_CHUNK_SIZE) {
+          processedCount += processChunk(chunk, chunkProcessor);
+          chunk.clear();
+        }
+      }
+
+      if (!chunk.isEmpty()) {
+        processedCount += processChunk(chunk, chunkProcessor);
+      }
+    } catch (Exception e) {
+      log.error("좋아요 수 문서 조회 실패, {}", e.getMessage());
+    }
+
+    return processedCount;
+  }
+
+  private int processChunk(List<RecipeDocument> chunk,
+      Function<List<RecipeDocument>, Integer> chunkProcessor) {
+
+    try {
+      return chunkProcessor.apply(chunk);
+    } catch (Exception e) {
+      log.error("좋아요 수 반영 실패 {}건, {}", chunk.size(), e.getMessage());
+      return 0;
+    }
+  }
+
+  private int backfillChunk(List<RecipeDocument> recipeDocuments) {
+
+    Map<String, Long> likeCountMap = countLikes(recipeDocuments);
+
+    return bulkUpdate(recipeDocuments.stream()
+        .map(RecipeDocument::getId)
+        .map(recipeId -> UpdateQuery.builder(recipeId)
+            .withScript(BACKFILL_LIKE_COUNT_SCRIPT)
+            .withLang("painless")
+            .withParams(Map.of("count", likeCountMap.getOrDefault(recipeId, 0L)))
+            .withRetryOnConflict(RETRY_ON_CONFLICT)
+            .build())
+        .toList());
+  }
+
+  private int reconcileChunk(List<RecipeDocument> recipeDocuments) {
+
+    Map<String, Long> likeCountMap = countLikes(recipeDocuments);
+
+    return bulkUpdate(recipeDocuments.stream()
+        .filter(recipeDocument -> !Objects.equals(recipeDocument.getLikeCount(),
+            likeCountMap.getOrDefault(recipeDocument.getId(), 0L)))
+        .map(recipeDocument -> {
+          // 채워지지 않은 문서는 expected 가 null
+          Map<String, Object> params = new HashMap<>();
+          params.put("expected", recipeDocument.getLikeCount());
+          params.put("count", likeCountMap.getOrDefault(recipeDocument.getId(), 0L));
+
+          return UpdateQuery.builder(recipeDocument.getId())
+              .withScript(RECONCILE_LIKE_COUNT_SCRIPT)
+              .withLang("painless")
+              .withParams(params)
+              .withRetryOnConflict(RETRY_ON_CONFLICT)
+              .build();
+        })
+        .toList());
+  }
+
+  private Map<String, Long> countLikes(List<RecipeDocument> recipeDocuments) {
+    return likesRepository.countAllByRecipeIdIn(
+            recipeDocuments.stream().map(RecipeDocument::getId).toList())
+        .stream()
+        .collect(Collectors.toMap(LikesCountDto::getRecipeId, LikesCountDto::getLikeCount));
+  }
+
+  // 일부 문서가 실패해도 성공한 문서는 재색인 중인 인덱스에 반영
+  private int bulkUpdate(List<UpdateQuery> updateQueries) {
+
+    if (updateQueries.isEmpty()) {
+      return 0;
+    }
+
+    try {
+      elasticsearchOperations.bulkUpdate(updateQueries, RecipeDocument.class);
+      recipeIndexManager.updateMigratingIndex(updateQueries);
+      return updateQueries.size();
+    } catch (BulkFailureException e) {
+      List<UpdateQuery> succeeded = updateQueries.stream()
+          .filter(updateQuery -> !e.getFailedDocuments().containsKey(updateQuery.getId()))
+          .toList();
+
+      log.warn("좋아요 수 반영 실패 레시피 : {}", e.getFailedDocuments().keySet());
+      recipeIndexManager.updateMigratingIndex(succeeded);
+      return succeeded.size();
+    }
+  }
+
+}
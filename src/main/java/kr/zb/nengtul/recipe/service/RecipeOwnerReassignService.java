@@ -0,0 +1,187 @@
+package kr.zb.nengtul.recipe.service;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import kr.zb.nengtul.global.util.TransactionUtil;
+import kr.zb.nengtul.recipe.domain.dto.RecipeTaskStatusDto;
+import kr.zb.nengtul.recipe.domain.entity.RecipeOwnerReassign;
+import kr.zb.nengtul.recipe.domain.repository.RecipeOwnerReassignRepository;
+import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 탈퇴한 회원의 레시피 작성자를 탈퇴 계정으로 옮긴다.
+ * 문서를 하나씩 저장하지 않고 _update_by_query 를 ES 태스크로 제출한 뒤 바로 반환하며,
+ * 진행 상황은 주기적으로 태스크를 조회해 확인하고 버전 충돌로 남은 문서는 다시 제출한다.
+ * 작업은 탈퇴 트랜잭션에서 함께 저장하고 커밋된 뒤에 제출하며, 완료 시 지운다.
+ * 재시도 후에도 남은 작업, 재기동 전에 끝나지 않은 작업은 저장된 작업을 주기적으로 다시 불러와 제출한다.
+ * 인덱스 재색인 중에는 재색인이 변경 전 문서를 복사했을 수 있으므로 작업을 끝내지 않고 alias 변경 뒤 다시 제출한다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RecipeOwnerReassignService {
+
+  private static final int MAX_RETRY_COUNT = 3;
+
+  private final RecipeSearchRepository recipeSearchRepository;
+
+  private final RecipeOwnerReassignRepository recipeOwnerReassignRepository;
+
+  private final RecipeDetailCache recipeDetailCache;
+
+  private final RecipeIndexManager recipeIndexManager;
+
+  // 탈퇴한 회원 id - 진행 중인 작성자 변경 작업
+  private final Map<Long, ReassignTask> reassignTasks = new ConcurrentHashMap<>();
+
+  // 호출한 트랜잭션(회원 탈퇴)과 함께 커밋되도록 작업을 저장하고, 롤백되면 제출하지 않음
+  public void reassignOwner(Long fromUserId, Long toUserId) {
+    recipeOwnerReassignRepository.save(RecipeOwnerReassign.builder()
+        .fromUserId(fromUserId)
+        .toUserId(toUserId)
+        .build());
+
+    TransactionUtil.afterCommit(() -> {
+      ReassignTask reassignTask = new ReassignTask(toUserId);
+      if (!isMigrating()) {
+        submit(fromUserId, reassignTask);
+      }
+      reassignTasks.put(fromUserId, reassignTask);
+    });
+  }
+
+  // 기동 시, 이후 10분마다 추적 중이 아닌 저장된 작업을 다음 주기에 다시 제출 (이미 변경된 문서는 대상에서 빠짐)
+  @EventListener(ApplicationReadyEvent.class)
+  @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+  public void loadReassignTasks() {
+    int loadedCount = 0;
+
+    for (RecipeOwnerReassign recipeOwnerReassign : recipeOwnerReassignRepository.findAll()) {
+      if (reassignTasks.putIfAbsent(recipeOwnerReassign.getFromUserId(),
+          new ReassignTask(recipeOwnerReassign.getToUserId())) == null) {
+        loadedCount++;
+      }
+    }
+
+    if (loadedCount > 0) {
+      log.info("** Resume {} recipe owner reassign task **", loadedCount);
+    }
+  }
+
+  //10초마다 작성자 변경 작업 진행 상황 확인
+  @Scheduled(fixedDelay = 10000)
+  public void checkReassignTasks() {
+
+    if (reassignTasks.isEmpty()) {
+      return;
+    }
+
+    // 재색인 중에는 완료 처리하지 않고 제출 실패로 두어 alias 변경 뒤 새 인덱스에 다시 제출
+    if (isMigrating()) {
+      reassignTasks.values().forEach(reassignTask -> reassignTask.taskId = null);
+      return;
+    }
+
+    reassignTasks.forEach(this::checkReassignTask);
+  }
+
+  private boolean isMigrating() {
+    try {
+      return recipeIndexManager.isMigrating();
+    } catch (Exception e) {
+      // 확인할 수 없으면 재색인 중으로 보고 다음 주기에 다시 확인
+      log.error("레시피 인덱스 재색인 상태 조회 실패, {}", e.getMessage());
+      return true;
+    }
+  }
+
+  private void checkReassignTask(Long fromUserId, ReassignTask reassignTask) {
+
+    // 제출에 실패한 작업은 다시 제출
+    if (reassignTask.taskId == null) {
+      submit(fromUserId, reassignTask);
+      return;
+    }
+
+    Optional<RecipeTaskStatusDto> taskStatus;
+
+    try {
+      taskStatus = recipeSearchRepository.findTaskStatus(reassignTask.taskId);
+    } catch (Exception e) {
+      log.error("레시피 작성자 변경 진행 상황 조회 실패 userId : {}, {}", fromUserId, e.getMessage());
+      return;
+    }
+
+    // 노드 재시작 등으로 태스크를 찾을 수 없으면 남은 문서를 대상으로 다시 제출
+    if (taskStatus.isEmpty()) {
+      submit(fromUserId, reassignTask);
+      return;
+    }
+
+    RecipeTaskStatusDto status = taskStatus.get();
+
+    if (!status.isCompleted()) {
+      log.info("레시피 작성자 변경 진행 중 userId : {}, {} / {}",
+          fromUserId, status.getUpdated(), status.getTotal());
+      return;
+    }
+
+    if (status.getVersionConflicts() > 0 && reassignTask.retryCount < MAX_RETRY_COUNT) {
+      reassignTask.retryCount++;
+      submit(fromUserId, reassignTask);
+      return;
+    }
+
+    reassignTasks.remove(fromUserId);
+    recipeDetailCache.evictRecipesByUserId(fromUserId);
+
+    // 재시도 후에도 남은 문서가 있으면 저장된 작업을 지우지 않고 loadReassignTasks 에서 다시 진행
+    if (status.getVersionConflicts() > 0) {
+      log.error("레시피 작성자 변경 실패 userId : {}, 변경되지 않은 문서 {}건",
+          fromUserId, status.getVersionConflicts());
+      return;
+    }
+
+    try {
+      recipeOwnerReassignRepository.deleteById(fromUserId);
+    } catch (Exception e) {
+      // 다음 기동 시 다시 제출되지만 변경할 문서가 없으므로 바로 끝남
+      log.error("레시피 작성자 변경 작업 삭제 실패 userId : {}, {}", fromUserId, e.getMessage());
+    }
+
+    log.info("** Reassign {} RecipeDocument userId {} -> {} **", status.getUpdated(), fromUserId,
+        reassignTask.toUserId);
+  }
+
+  private void submit(Long fromUserId, ReassignTask reassignTask) {
+    try {
+      reassignTask.taskId =
+          recipeSearchRepository.submitUserIdUpdateTask(fromUserId, reassignTask.toUserId);
+    } catch (Exception e) {
+      // 탈퇴는 성공시키고 다음 주기에 다시 제출
+      reassignTask.taskId = null;
+      log.error("레시피 작성자 변경 제출 실패 userId : {}, {}", fromUserId, e.getMessage());
+    }
+  }
+
+  private static class ReassignTask {
+
+    private final Long toUserId;
+
+    private volatile String taskId;
+
+    private int retryCount;
+
+    private ReassignTask(Long toUserId) {
+      this.toUserId = toUserId;
+    }
+  }
+
+}
@@ -1,27 +1,53 @@
 package kr.zb.nengtul.recipe.service;
 
+import static kr.zb.nengtul.recipe.domain.repository.RecipeSearchCustomRepository.CATEGORY_AGGREGATION;
+import static kr.zb.nengtul.recipe.domain.repository.RecipeSearchCustomRepository.COOKING_TIME_AGGREGATION;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
-import kr.zb.nengtul.favorite.domain.repository.FavoriteRepository;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import kr.zb.nengtul.global.entity.RoleType;
 import kr.zb.nengtul.global.exception.CustomException;
 import kr.zb.nengtul.global.exception.ErrorCode;
-import kr.zb.nengtul.likes.domain.repository.LikesRepository;
 import kr.zb.nengtul.recipe.domain.constants.RecipeCategory;
 import kr.zb.nengtul.recipe.domain.dto.RecipeAddDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeAuthorDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeCursorPageDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeFridgeMatchDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeFridgeSearchDto;
 import kr.zb.nengtul.recipe.domain.dto.RecipeGetDetailDto;
 import kr.zb.nengtul.recipe.domain.dto.RecipeGetListDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeSearchDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeSearchResultDto;
 import kr.zb.nengtul.recipe.domain.dto.RecipeUpdateDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeViewerDto;
 import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import kr.zb.nengtul.recipe.domain.ingredient.IngredientNormalizer;
 import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
 import kr.zb.nengtul.user.domain.entity.User;
 import kr.zb.nengtul.user.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.aggregations.bucket.filter.Filter;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -31,15 +57,29 @@ import s3bucket.service.AmazonS3Service;
 @RequiredArgsConstructor
 public class RecipeService {
 
+  private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
+  private static final String CURSOR_DELIMITER = ":";
+
+  // 홈 화면 인기 레시피 첫 페이지는 잠깐 캐싱 (페이지 크기별)
+  private static final Duration TRENDING_CACHE_TTL = Duration.ofSeconds(30);
+
   private final RecipeSearchRepository recipeSearchRepository;
 
   private final UserRepository userRepository;
 
-  private final LikesRepository likesRepository;
+  private final AmazonS3Service amazonS3Service;
+
+  private final RecipeViewCountService recipeViewCountService;
 
-  private final FavoriteRepository favoriteRepository;
+  private final RecipeDetailCache recipeDetailCache;
 
-  private final AmazonS3Service amazonS3Service;
+  private final RecipeIndexManager recipeIndexManager;
+
+  private final Cache<Integer, Page<RecipeGetListDto>> trendingFirstPageCache = Caffeine.newBuilder()
+      .expireAfterWrite(TRENDING_CACHE_TTL)
+      .maximumSize(10)
+      .build();
 
   public String addRecipe(Principal principal, RecipeAddDto recipeAddDto,
       List<MultipartFile> images, MultipartFile thumbnail) {
@@ -66,50 +106,87 @@ public class RecipeService {
         .category(recipeAddDto.getCategory())
         .videoUrl(recipeAddDto.getVideoUrl())
         .viewCount(0L)
+        .likeCount(0L)
         .createdAt(LocalDateTime.now())
         .modifiedAt(LocalDateTime.now())
         .build();
 
+    recipeDocument.updateIngredient(recipeAddDto.getIngredient());
+
     recipeSearchRepository.save(recipeDocument);
+    recipeIndexManager.saveToMigratingIndex(recipeDocument);
 
     return recipeDocument.getId();
   }
 
   public Page<RecipeGetListDto> getAllRecipe(Pageable pageable) {
 
-    return recipeSearchRepository.findAll(pageable)
-        .map(this::settingRecipeGetListDto);
+    return settingRecipeGetListDto(recipeSearchRepository.findAllForList(pageable));
+  }
+
+  public Page<RecipeGetListDto> getTrendingRecipe(Pageable pageable) {
+
+    if (pageable.getPageNumber() != 0 || pageable.getSort().isSorted()) {
+      return settingRecipeGetListDto(recipeSearchRepository.findAllTrending(pageable));
+    }
+
+    return trendingFirstPageCache.get(pageable.getPageSize(), pageSize ->
+        settingRecipeGetListDto(recipeSearchRepository.findAllTrending(pageable)));
+  }
+
+  public RecipeCursorPageDto getRecipeByCursor(RecipeCategory category, String title,
+      String ingredient, String cursor, int size) {
+
+    int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+    // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+    List<SearchHit<RecipeDocument>> searchHits = recipeSearchRepository.findAllByCursor(
+        category, title, ingredient, decodeCursor(cursor), pageSize + 1).getSearchHits();
+
+    boolean hasNext = searchHits.size() > pageSize;
+    List<SearchHit<RecipeDocument>> pageHits = hasNext ?
+        searchHits.subList(0, pageSize) : searchHits;
+
+    Page<RecipeDocument> recipeDocuments =
+        new PageImpl<>(pageHits.stream().map(SearchHit::getContent).toList());
+
+    return RecipeCursorPageDto.builder()
+        .content(settingRecipeGetListDto(recipeDocuments).getContent())
+        .nextCursor(hasNext ? encodeCursor(pageHits.get(pageHits.size() - 1)) : null)
+        .hasNext(hasNext)
+        .build();
   }
 
   public RecipeGetDetailDto getRecipeDetailById(String recipeId, Principal principal) {
 
-    RecipeDocument recipeDocument = recipeSearchRepository.findById(recipeId)
+    RecipeDocument recipeDocument = recipeDetailCache.getRecipe(recipeId,
+            recipeSearchRepository::findById)
         .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_RECIPE));
 
-    recipeDocument.updateViewCount();
-    recipeSearchRepository.save(recipeDocument);
+    long pendingViewCount = recipeViewCountService.increaseViewCount(recipeDocument.getId());
 
     RecipeGetDetailDto recipeGetDetailDto =
         RecipeGetDetailDto.fromRecipeDocument(recipeDocument);
+    recipeGetDetailDto.setViewCount(recipeDocument.getViewCount() + pendingViewCount);
 
-    User recipeUser = userRepository.findById(recipeDocument.getUserId())
-        .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+    // 탈퇴한 회원의 레시피는 작성자 변경이 끝나기 전까지 작성자 정보 없이 반환
+    RecipeAuthorDto recipeAuthor = recipeDetailCache.getAuthor(recipeDocument.getUserId(),
+            userId -> userRepository.findById(userId).map(RecipeAuthorDto::fromUser))
+        .orElseGet(() -> RecipeAuthorDto.builder().userId(recipeDocument.getUserId()).build());
 
-    recipeGetDetailDto.setUserProfileUrl(recipeUser.getProfileImageUrl());
-    recipeGetDetailDto.setPoint(recipeUser.getPoint());
-    recipeGetDetailDto.setNickName(recipeUser.getNickname());
+    recipeGetDetailDto.setUserProfileUrl(recipeAuthor.getProfileImageUrl());
+    recipeGetDetailDto.setPoint(recipeAuthor.getPoint());
+    recipeGetDetailDto.setNickName(recipeAuthor.getNickName());
 
     if (principal != null) {
 
-      User user = userRepository.findByEmail(principal.getName())
+      // 조회한 사용자별 값은 캐싱하지 않고 한 번의 쿼리로 조회
+      RecipeViewerDto recipeViewer = userRepository.findRecipeViewerByEmail(
+              principal.getName(), recipeDocument.getId(), recipeAuthor.getUserId())
           .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
 
-      likesRepository.findByUserIdAndRecipeId(user.getId(), recipeId)
-          .ifPresent(likes -> recipeGetDetailDto.setLikes(true));
-
-      favoriteRepository.findByUserIdAndPublisherId(user.getId(), recipeUser.getId())
-          .ifPresent(favorite -> recipeGetDetailDto.setFavorite(true));
-
+      recipeGetDetailDto.setLikes(Boolean.TRUE.equals(recipeViewer.getLikes()));
+      recipeGetDetailDto.setFavorite(Boolean.TRUE.equals(recipeViewer.getFavorite()));
     }
 
     return recipeGetDetailDto;
@@ -117,20 +194,72 @@ public class RecipeService {
 
   public Page<RecipeGetListDto> getRecipeByCategory(RecipeCategory category, Pageable pageable) {
 
-    return recipeSearchRepository.findAllByCategory(category, pageable)
-        .map(this::settingRecipeGetListDto);
+    return settingRecipeGetListDto(
+        recipeSearchRepository.findAllByCategory(category, pageable));
   }
 
   public Page<RecipeGetListDto> getRecipeByTitle(String title, Pageable pageable) {
 
-    return recipeSearchRepository.findAllByTitle(title, pageable)
-        .map(this::settingRecipeGetListDto);
+    return settingRecipeGetListDto(recipeSearchRepository.findAllByTitle(title, pageable));
   }
 
   public Page<RecipeGetListDto> getRecipeByIngredient(String ingredient, Pageable pageable) {
 
-    return recipeSearchRepository.findAllByIngredient(ingredient, pageable)
-        .map(this::settingRecipeGetListDto);
+    return settingRecipeGetListDto(
+        recipeSearchRepository.findAllByIngredient(ingredient, pageable));
+  }
+
+  public Page<RecipeFridgeMatchDto> getRecipeByFridge(RecipeFridgeSearchDto recipeFridgeSearchDto,
+      Pageable pageable) {
+
+    List<String> fridgeIngredients =
+        IngredientNormalizer.normalizeAll(recipeFridgeSearchDto.getIngredients());
+
+    if (fridgeIngredients.isEmpty()) {
+      return Page.empty(pageable);
+    }
+
+    int minimumMatch = recipeFridgeSearchDto.getMinimumMatch() == null ?
+        1 : recipeFridgeSearchDto.getMinimumMatch();
+
+    Page<RecipeDocument> recipeDocuments = recipeSearchRepository.findAllByIngredientNames(
+        fridgeIngredients, minimumMatch, pageable);
+
+    Map<Long, User> userMap = getUserMap(recipeDocuments);
+    Set<String> fridgeIngredientSet = Set.copyOf(fridgeIngredients);
+
+    return recipeDocuments.map(recipeDocument -> {
+
+      RecipeFridgeMatchDto recipeFridgeMatchDto =
+          RecipeFridgeMatchDto.fromRecipeDocument(recipeDocument, fridgeIngredientSet);
+
+      recipeFridgeMatchDto.setNickName(
+          getNickName(userMap, recipeDocument.getUserId()));
+
+      return recipeFridgeMatchDto;
+    });
+  }
+
+  public RecipeSearchResultDto searchRecipe(RecipeSearchDto recipeSearchDto, Pageable pageable) {
+
+    if (recipeSearchDto.getIngredients() != null) {
+      recipeSearchDto.setIngredients(
+          IngredientNormalizer.normalizeAll(recipeSearchDto.getIngredients()));
+    }
+
+    SearchHits<RecipeDocument> searchHits =
+        recipeSearchRepository.findAllBySearchCondition(recipeSearchDto, pageable);
+
+    Page<RecipeDocument> recipeDocuments = new PageImpl<>(
+        searchHits.getSearchHits().stream().map(SearchHit::getContent).toList(),
+        pageable,
+        searchHits.getTotalHits());
+
+    return RecipeSearchResultDto.builder()
+        .recipes(settingRecipeGetListDto(recipeDocuments))
+        .categoryFacets(getFacetCounts(searchHits.getAggregations(), CATEGORY_AGGREGATION))
+        .cookingTimeFacets(getFacetCounts(searchHits.getAggregations(), COOKING_TIME_AGGREGATION))
+        .build();
   }
 
   @Transactional
@@ -166,6 +295,9 @@ public class RecipeService {
     recipeDocument.updateRecipe(recipeUpdateDto);
 
     recipeSearchRepository.save(recipeDocument);
+    recipeIndexManager.saveToMigratingIndex(recipeDocument);
+
+    recipeDetailCache.evictRecipe(recipeDocument.getId());
   }
 
 
@@ -187,22 +319,89 @@ public class RecipeService {
         recipeDocument.getImageUrl(), recipeDocument.getThumbnailUrl());
 
     recipeSearchRepository.delete(recipeDocument);
+    recipeIndexManager.deleteFromMigratingIndex(recipeDocument.getId());
+
+    recipeDetailCache.evictRecipe(recipeDocument.getId());
   }
 
-  private RecipeGetListDto settingRecipeGetListDto(RecipeDocument recipeDocument) {
+  // 페이지 단위로 작성자를 한 번에 조회 (좋아요 수는 RecipeDocument 의 likeCount 사용)
+  private Page<RecipeGetListDto> settingRecipeGetListDto(Page<RecipeDocument> recipeDocuments) {
 
-    RecipeGetListDto recipeGetListDto =
-        RecipeGetListDto.fromRecipeDocument(recipeDocument);
+    Map<Long, User> userMap = getUserMap(recipeDocuments);
 
-    User user = userRepository.findById(recipeDocument.getUserId())
-        .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
+    return recipeDocuments.map(recipeDocument -> {
+
+      RecipeGetListDto recipeGetListDto =
+          RecipeGetListDto.fromRecipeDocument(recipeDocument);
+
+      recipeGetListDto.setNickName(
+          getNickName(userMap, recipeDocument.getUserId()));
+
+      return recipeGetListDto;
+    });
+  }
+
+  private Map<Long, User> getUserMap(Page<RecipeDocument> recipeDocuments) {
+
+    Set<Long> userIds = recipeDocuments.stream()
+        .map(RecipeDocument::getUserId)
+        .collect(Collectors.toSet());
+
+    return userIds.isEmpty() ? Collections.emptyMap() :
+        userRepository.findAllById(userIds).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+  }
 
-    Long likeCount = likesRepository.countByRecipeId(recipeDocument.getId());
+  // 탈퇴한 회원의 레시피는 작성자 변경이 끝나기 전까지 작성자가 없을 수 있음
+  private String getNickName(Map<Long, User> userMap, Long userId) {
 
-    recipeGetListDto.setNickName(user.getNickname());
-    recipeGetListDto.setLikeCount(likeCount);
+    User user = userMap.get(userId);
 
-    return recipeGetListDto;
+    return user == null ? null : user.getNickname();
+  }
+
+  // filter 집계 안의 같은 이름의 terms 집계를 key - 문서 수로 변환
+  private Map<String, Long> getFacetCounts(Aggregations aggregations, String aggregationName) {
+
+    Map<String, Long> facetCounts = new LinkedHashMap<>();
+
+    if (aggregations == null || aggregations.get(aggregationName) == null) {
+      return facetCounts;
+    }
+
+    Filter filter = aggregations.get(aggregationName);
+    Terms terms = filter.getAggregations().get(aggregationName);
+
+    terms.getBuckets().forEach(bucket ->
+        facetCounts.put(bucket.getKeyAsString(), bucket.getDocCount()));
+
+    return facetCounts;
+  }
+
+  // 커서 = Base64(createdAt 정렬값:id)
+  private String encodeCursor(SearchHit<RecipeDocument> searchHit) {
+
+    List<Object> sortValues = searchHit.getSortValues();
+    String cursor = sortValues.get(0) + CURSOR_DELIMITER + sortValues.get(1);
+
+    return Base64.getUrlEncoder().withoutPadding()
+        .encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private List<Object> decodeCursor(String cursor) {
+
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+
+    try {
+      String[] sortValues = new String(Base64.getUrlDecoder().decode(cursor),
+          StandardCharsets.UTF_8).split(CURSOR_DELIMITER, 2);
+
+      return List.of(Long.parseLong(sortValues[0]), sortValues[1]);
+    } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+      throw new CustomException(ErrorCode.INVALID_CURSOR);
+    }
   }
 
   private void deleteRecipeS3UploadFile(String imagesUrl, String thumbnailUrl) {
@@ -226,8 +425,8 @@ public class RecipeService {
     User user = userRepository.findById(userId)
         .orElseThrow(() -> new CustomException(ErrorCode.NOT_FOUND_USER));
 
-    return recipeSearchRepository.findAllByUserId(user.getId(), pageable)
-        .map(this::settingRecipeGetListDto);
+    return settingRecipeGetListDto(
+        recipeSearchRepository.findAllByUserId(user.getId(), pageable));
 
   }
 
@@ -0,0 +1,84 @@
+package kr.zb.nengtul.recipe.service;
+
+import static kr.zb.nengtul.recipe.domain.repository.RecipeSearchCustomRepository.SUGGEST_INGREDIENT_AGGREGATION;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import kr.zb.nengtul.recipe.domain.dto.RecipeSuggestDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeSuggestDto.RecipeTitleSuggestDto;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import kr.zb.nengtul.recipe.domain.ingredient.IngredientNormalizer;
+import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.stereotype.Service;
+
+/**
+ * 검색창 자동완성. 입력할 때마다 호출되므로 같은 prefix 결과는 잠시 캐싱한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class RecipeSuggestService {
+
+  private static final int SUGGEST_SIZE = 10;
+
+  private static final int MAX_PREFIX_LENGTH = 20;
+
+  private static final RecipeSuggestDto EMPTY_SUGGEST = RecipeSuggestDto.builder()
+      .titles(List.of())
+      .ingredients(List.of())
+      .build();
+
+  private final RecipeSearchRepository recipeSearchRepository;
+
+  private final Cache<String, RecipeSuggestDto> suggestCache = Caffeine.newBuilder()
+      .expireAfterWrite(Duration.ofMinutes(5))
+      .maximumSize(10_000)
+      .build();
+
+  public RecipeSuggestDto getSuggest(String prefix) {
+
+    if (prefix == null || prefix.isBlank()) {
+      return EMPTY_SUGGEST;
+    }
+
+    String normalizedPrefix = IngredientNormalizer.normalize(prefix);
+
+    if (normalizedPrefix.length() > MAX_PREFIX_LENGTH) {
+      normalizedPrefix = normalizedPrefix.substring(0, MAX_PREFIX_LENGTH);
+    }
+
+    return suggestCache.get(normalizedPrefix, this::searchSuggest);
+  }
+
+  private RecipeSuggestDto searchSuggest(String prefix) {
+
+    SearchHits<RecipeDocument> searchHits =
+        recipeSearchRepository.findAllByPrefix(prefix, SUGGEST_SIZE);
+
+    List<RecipeTitleSuggestDto> titles = searchHits.getSearchHits().stream()
+        .map(searchHit -> RecipeTitleSuggestDto.builder()
+            .recipeId(searchHit.getContent().getId())
+            .title(searchHit.getContent().getTitle())
+            .build())
+        .toList();
+
+    Aggregations aggregations = searchHits.getAggregations();
+    Terms ingredientTerms = aggregations == null ? null : aggregations.get(SUGGEST_INGREDIENT_AGGREGATION);
+
+    List<String> ingredients = ingredientTerms == null ? List.of() :
+        ingredientTerms.getBuckets().stream()
+            .map(Terms.Bucket::getKeyAsString)
+            .toList();
+
+    return RecipeSuggestDto.builder()
+        .titles(titles)
+        .ingredients(ingredients)
+        .build();
+  }
+
+}
@@ -0,0 +1,147 @@
+package kr.zb.nengtul.recipe.service;
+
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 레시피 조회수를 메모리에 모아두었다가 주기적으로 ES 에 한 번의 _bulk 요청으로 반영한다.
+ * 상세 조회 시 문서 전체를 다시 저장하지 않기 때문에 조회는 읽기 전용으로 동작하고,
+ * 동시에 들어온 조회도 LongAdder 로 누적되어 유실되지 않는다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RecipeViewCountService {
+
+  private static final String INCREASE_VIEW_COUNT_SCRIPT =
+      "ctx._source.viewCount = (ctx._source.viewCount == null ? 0 : ctx._source.viewCount) + params.count";
+
+  // 좋아요 수 증가 스크립트와 같은 문서를 동시에 업데이트해 버전이 충돌하면 ES 에서 다시 시도
+  private static final int RETRY_ON_CONFLICT = 3;
+
+  // 삭제된 레시피에 대한 실패 사유
+  private static final String DOCUMENT_MISSING = "document_missing_exception";
+
+  private final ElasticsearchOperations elasticsearchOperations;
+
+  private final RecipeDetailCache recipeDetailCache;
+
+  private final RecipeIndexManager recipeIndexManager;
+
+  private final Map<String, LongAdder> viewCounts = new ConcurrentHashMap<>();
+
+  // 조회수 1 증가 후 아직 ES 에 반영되지 않은 조회수 반환
+  // flush 의 제거와 같은 키 잠금 안에서 증가시켜 제거된 LongAdder 에 더해지지 않도록 함
+  public long increaseViewCount(String recipeId) {
+    LongAdder viewCount = viewCounts.compute(recipeId, (id, adder) -> {
+      LongAdder counter = adder == null ? new LongAdder() : adder;
+      counter.increment();
+      return counter;
+    });
+    return viewCount.sum();
+  }
+
+  //5초마다 쌓인 조회수를 ES 에 반영
+  @Scheduled(fixedDelay = 5000)
+  public void flushViewCount() {
+
+    List<UpdateQuery> updateQueries = new ArrayList<>();
+    Map<String, Long> flushedCounts = new HashMap<>();
+
+    viewCounts.forEach((recipeId, viewCount) -> {
+      long count = viewCount.sumThenReset();
+
+      if (count == 0) {
+        // 한 주기 동안 조회가 없던 레시피는 제거, 그 사이 증가했으면 남겨두고 다음 주기에 반영
+        viewCounts.computeIfPresent(recipeId,
+            (id, adder) -> adder.sum() == 0 ? null : adder);
+        return;
+      }
+
+      flushedCounts.put(recipeId, count);
+      updateQueries.add(UpdateQuery.builder(recipeId)
+          .withScript(INCREASE_VIEW_COUNT_SCRIPT)
+          .withLang("painless")
+          .withParams(Map.of("count", count))
+          .withRetryOnConflict(RETRY_ON_CONFLICT)
+          .build());
+    });
+
+    if (updateQueries.isEmpty()) {
+      return;
+    }
+
+    try {
+      elasticsearchOperations.bulkUpdate(updateQueries, RecipeDocument.class);
+      onFlushed(updateQueries);
+    } catch (BulkFailureException e) {
+      Map<String, String> failedDocuments = e.getFailedDocuments();
+
+      // 성공한 문서는 그대로 반영된 것으로 처리
+      onFlushed(updateQueries.stream()
+          .filter(updateQuery -> !failedDocuments.containsKey(updateQuery.getId()))
+          .toList());
+
+      failedDocuments.forEach((recipeId, failureMessage) -> {
+        // 삭제된 레시피는 재시도하지 않고, 나머지는 다음 주기에 다시 반영
+        if (failureMessage != null && failureMessage.contains(DOCUMENT_MISSING)) {
+          log.warn("삭제된 레시피 조회수 반영 생략 recipeId : {}", recipeId);
+          return;
+        }
+
+        log.warn("조회수 반영 실패 recipeId : {}, {}", recipeId, failureMessage);
+        restoreViewCount(recipeId, flushedCounts.get(recipeId));
+      });
+    } catch (Exception e) {
+      // ES 장애 시 다음 주기에 다시 반영되도록 되돌림
+      log.error("조회수 반영 실패 : {}", e.getMessage());
+      flushedCounts.forEach(this::restoreViewCount);
+    }
+  }
+
+  private void onFlushed(List<UpdateQuery> updateQueries) {
+
+    if (updateQueries.isEmpty()) {
+      return;
+    }
+
+    recipeIndexManager.updateMigratingIndex(updateQueries);
+    // 캐시된 상세 문서의 조회수가 반영 전 값이므로 제거
+    recipeDetailCache.evictRecipes(updateQueries.stream()
+        .map(UpdateQuery::getId)
+        .collect(Collectors.toSet()));
+  }
+
+  private void restoreViewCount(String recipeId, Long count) {
+
+    if (count == null) {
+      return;
+    }
+
+    viewCounts.compute(recipeId, (id, adder) -> {
+      LongAdder counter = adder == null ? new LongAdder() : adder;
+      counter.add(count);
+      return counter;
+    });
+  }
+
+  @PreDestroy
+  public void flushOnShutdown() {
+    flushViewCount();
+  }
+
+}
@@ -10,6 +10,7 @@ import kr.zb.nengtul.chat.domain.ChatRoom;
 import kr.zb.nengtul.chat.repository.ChatRoomRepository;
 import kr.zb.nengtul.global.entity.RoleType;
 import kr.zb.nengtul.global.exception.CustomException;
+import kr.zb.nengtul.recipe.service.RecipeDetailCache;
 import kr.zb.nengtul.shareboard.domain.dto.ShareBoardDto;
 import kr.zb.nengtul.shareboard.domain.entity.ShareBoard;
 import kr.zb.nengtul.shareboard.domain.repository.ShareBoardRepository;
@@ -34,6 +35,7 @@ public class ShareBoardService {
   private final ShareBoardRepository shareBoardRepository;
   private final ChatRoomRepository chatRoomRepository;
   private final AmazonS3Service amazonS3Service;
+  private final RecipeDetailCache recipeDetailCache;
 
   @Transactional
   public void createShareBoard(ShareBoardDto shareBoardDto, Principal principal,
@@ -59,6 +61,7 @@ public class ShareBoardService {
     }
     user.setPlusPoint(UserPoint.SHARE);
     userRepository.saveAndFlush(user);
+    recipeDetailCache.evictAuthor(user.getId());
   }
 
   @Transactional
@@ -109,6 +112,7 @@ public class ShareBoardService {
       if (shareBoard.isClosed()) {
         user.setMinusPoint(UserPoint.SHARE);
         userRepository.save(user);
+        recipeDetailCache.evictAuthor(user.getId());
       }
       shareBoardRepository.delete(shareBoard);
     }else{
@@ -146,6 +150,7 @@ public class ShareBoardService {
     user.setPlusPoint(UserPoint.SHARE_OK);
     shareBoard.setClosed(true);
     shareBoardRepository.save(shareBoard);
+    recipeDetailCache.evictAuthor(user.getId());
   }
 
   public ShareBoard findById(Long shareBoardId) {
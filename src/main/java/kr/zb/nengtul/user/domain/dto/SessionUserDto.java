@@ -0,0 +1,38 @@
+package kr.zb.nengtul.user.domain.dto;
+
+import kr.zb.nengtul.global.entity.RoleType;
+import kr.zb.nengtul.user.domain.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 웹소켓 CONNECT 시 조회한 회원 정보, 세션에 저장해 메세지마다 회원을 다시 조회하지 않는다.
+ * 연결 중 변경된 닉네임, 프로필은 다시 연결할 때 반영된다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionUserDto {
+
+  // 웹소켓 세션 속성 키
+  public static final String SESSION_ATTRIBUTE = "user";
+
+  private Long id;
+  private String email;
+  private String nickname;
+  private String profileImageUrl;
+  private RoleType roles;
+
+  public static SessionUserDto fromEntity(User user) {
+    return SessionUserDto.builder()
+        .id(user.getId())
+        .email(user.getEmail())
+        .nickname(user.getNickname())
+        .profileImageUrl(user.getProfileImageUrl())
+        .roles(user.getRoles())
+        .build();
+  }
+}
@@ -2,8 +2,10 @@ package kr.zb.nengtul.user.domain.repository;
 
 import java.util.Optional;
 import kr.zb.nengtul.global.entity.ProviderType;
+import kr.zb.nengtul.recipe.domain.dto.RecipeViewerDto;
 import kr.zb.nengtul.user.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 public interface UserRepository extends JpaRepository<User, Long> {
 
@@ -20,4 +22,13 @@ public interface UserRepository extends JpaRepository<User, Long> {
   boolean existsByEmail(String email);
   boolean existsByNickname(String nickname);
   boolean existsByPhoneNumber(String phoneNumber);
+
+  // 레시피 상세 조회 : 조회한 사용자의 좋아요, 작성자 즐겨찾기 여부를 한 번에 조회
+  @Query("SELECT u.id AS userId, "
+      + "CASE WHEN EXISTS (SELECT l.id FROM Likes l WHERE l.user = u AND l.recipeId = :recipeId) "
+      + "THEN true ELSE false END AS likes, "
+      + "CASE WHEN EXISTS (SELECT f.id FROM Favorite f WHERE f.user = u AND f.publisher.id = :publisherId) "
+      + "THEN true ELSE false END AS favorite "
+      + "FROM User u WHERE u.email = :email")
+  Optional<RecipeViewerDto> findRecipeViewerByEmail(String email, String recipeId, Long publisherId);
 }
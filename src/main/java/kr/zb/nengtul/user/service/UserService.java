@@ -26,10 +26,12 @@ import kr.zb.nengtul.global.util.HeaderUtil;
 import kr.zb.nengtul.likes.domain.repository.LikesRepository;
 import kr.zb.nengtul.notice.domain.entity.Notice;
 import kr.zb.nengtul.notice.domain.repository.NoticeRepository;
-import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
 import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
+import kr.zb.nengtul.recipe.service.RecipeDetailCache;
+import kr.zb.nengtul.recipe.service.RecipeOwnerReassignService;
 import kr.zb.nengtul.shareboard.domain.entity.ShareBoard;
 import kr.zb.nengtul.shareboard.domain.repository.ShareBoardRepository;
+import kr.zb.nengtul.user.domain.dto.SessionUserDto;
 import kr.zb.nengtul.user.domain.dto.UserDetailDto;
 import kr.zb.nengtul.user.domain.dto.UserFindEmailReqDto;
 import kr.zb.nengtul.user.domain.dto.UserFindPasswordDto;
@@ -73,6 +75,8 @@ public class UserService {
   private final PasswordEncoder passwordEncoder;
   private final MailgunClient mailgunClient;
   private final AmazonS3Service amazonS3Service;
+  private final RecipeDetailCache recipeDetailCache;
+  private final RecipeOwnerReassignService recipeOwnerReassignService;
 
   @Value("${spring.quit.email}")
   private String quitId;
@@ -141,10 +145,9 @@ public class UserService {
       notice.setUser(quitUser);
       noticeRepository.save(notice);
     }
-    for (RecipeDocument recipeDocument : recipeSearchRepository.findAllByUserId(user.getId())) {
-      recipeDocument.setUserId(quitUser.getId());
-      recipeSearchRepository.save(recipeDocument);
-    }
+    // 레시피 작성자 변경은 ES 에서 비동기로 진행
+    recipeOwnerReassignService.reassignOwner(user.getId(), quitUser.getId());
+    recipeDetailCache.evictAuthor(user.getId());
 
     userRepository.deleteById(user.getId());
   }
@@ -183,6 +186,9 @@ public class UserService {
     user.setAddressDetail(userUpdateDto.getAddressDetail());
 
     userRepository.save(user);
+
+    // 레시피 상세 조회에 캐싱된 작성자 프로필 제거
+    recipeDetailCache.evictAuthor(user.getId());
   }
 
   //임시 비밀번호 발급(비밀번호 찾기)
@@ -282,12 +288,18 @@ public class UserService {
   }
 
 
-  public String getEmailByAccessor(SimpMessageHeaderAccessor accessor) {
-    if (accessor.getSessionAttributes().get("user") == null) {
+  public SessionUserDto getSessionUserByAccessor(SimpMessageHeaderAccessor accessor) {
+    Object sessionUser = Objects.requireNonNull(accessor.getSessionAttributes())
+        .get(SessionUserDto.SESSION_ATTRIBUTE);
+    if (!(sessionUser instanceof SessionUserDto)) {
       throw new CustomException(ErrorCode.NOT_EXIST_USER_ATTRIBUTE_IN_WEBSOCKET_SESSION);
     }
-    return (String) Objects.requireNonNull(accessor.getSessionAttributes())
-        .get("user");
+    return (SessionUserDto) sessionUser;
+  }
+
+  //연관관계 지정, id 비교용 (조회하지 않음)
+  public User getUserReference(Long userId) {
+    return userRepository.getReferenceById(userId);
   }
 
   @Transactional(readOnly = true)
@@ -0,0 +1,73 @@
+package kr.zb.nengtul.chat.config;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("접속 회원 목록 테스트")
+class OnlineUserRegistryTest {
+
+    private OnlineUserRegistry onlineUserRegistry;
+
+    @BeforeEach
+    void setUp() {
+        onlineUserRegistry = new OnlineUserRegistry();
+        ReflectionTestUtils.setField(onlineUserRegistry, "brokerMode", "simple");
+    }
+
+    @Test
+    @DisplayName("모든 세션이 끊어져야 접속하지 않은 회원")
+    void isOnline_MULTIPLE_SESSIONS() {
+        //given
+        onlineUserRegistry.connect("session1", 1L);
+        onlineUserRegistry.connect("session2", 1L);
+
+        //when
+        onlineUserRegistry.disconnect("session1");
+        onlineUserRegistry.disconnect("session1");
+
+        //then
+        assertTrue(onlineUserRegistry.isOnline(1L));
+
+        onlineUserRegistry.disconnect("session2");
+        assertFalse(onlineUserRegistry.isOnline(1L));
+    }
+
+    @Test
+    @DisplayName("relay 모드는 다른 서버에 연결된 회원을 알 수 없으므로 모두 접속한 것으로 봄")
+    void isOnline_RELAY() {
+        //given
+        ReflectionTestUtils.setField(onlineUserRegistry, "brokerMode", "relay");
+
+        //when, then
+        assertTrue(onlineUserRegistry.isOnline(1L));
+    }
+
+    @Test
+    @DisplayName("접속한 회원은 보관함에 저장하지 않고, 접속하지 않은 회원은 저장")
+    void needsInbox_SIMPLE() {
+        //given
+        onlineUserRegistry.connect("session1", 1L);
+
+        //when, then
+        assertFalse(onlineUserRegistry.needsInbox(1L));
+        assertTrue(onlineUserRegistry.needsInbox(2L));
+    }
+
+    @Test
+    @DisplayName("relay 모드는 받았는지 확인할 수 없으므로 모두 보관함에 저장")
+    void needsInbox_RELAY() {
+        //given
+        ReflectionTestUtils.setField(onlineUserRegistry, "brokerMode", "relay");
+        onlineUserRegistry.connect("session1", 1L);
+
+        //when, then
+        assertTrue(onlineUserRegistry.needsInbox(1L));
+        assertTrue(onlineUserRegistry.needsInbox(2L));
+    }
+
+}
@@ -0,0 +1,181 @@
+package kr.zb.nengtul.chat.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * relay 모드 테스트용 STOMP 브로커.
+ * CONNECT, SUBSCRIBE, UNSUBSCRIBE, SEND, DISCONNECT 만 처리하며 SEND 는 같은 목적지 구독자에게 MESSAGE 로 전달한다.
+ */
+class StandInStompBroker implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+
+    // 브로커가 받은 프레임 (command 헤더 포함)
+    private final BlockingQueue<Map<String, String>> receivedFrames = new LinkedBlockingQueue<>();
+
+    private final AtomicLong messageId = new AtomicLong();
+
+    StandInStompBroker() throws IOException {
+        serverSocket = new ServerSocket(0);
+
+        Thread acceptor = new Thread(this::acceptLoop, "stand-in-stomp-broker");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    BlockingQueue<Map<String, String>> getReceivedFrames() {
+        return receivedFrames;
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        for (Connection connection : connections) {
+            connection.socket.close();
+        }
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Connection connection = new Connection(serverSocket.accept());
+                connections.add(connection);
+
+                Thread reader = new Thread(connection::readLoop, "stand-in-stomp-connection");
+                reader.setDaemon(true);
+                reader.start();
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void send(String destination, String contentType, String body) {
+        for (Connection connection : connections) {
+            connection.subscriptions.forEach((subscriptionId, subscribed) -> {
+                if (subscribed.equals(destination)) {
+                    connection.write("MESSAGE", Map.of(
+                            "subscription", subscriptionId,
+                            "message-id", String.valueOf(messageId.incrementAndGet()),
+                            "destination", destination,
+                            "content-type", contentType), body);
+                }
+            });
+        }
+    }
+
+    private class Connection {
+
+        private final Socket socket;
+
+        // 구독 id - 목적지
+        private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+
+        private Connection(Socket socket) {
+            this.socket = socket;
+        }
+
+        private void readLoop() {
+            try (InputStream in = socket.getInputStream()) {
+                while (true) {
+                    Map<String, String> frame = readFrame(in);
+                    if (frame == null) {
+                        return;
+                    }
+                    receivedFrames.add(frame);
+                    handle(frame);
+                }
+            } catch (IOException e) {
+                connections.remove(this);
+            }
+        }
+
+        private void handle(Map<String, String> frame) {
+            switch (frame.get("command")) {
+                case "CONNECT", "STOMP" -> write("CONNECTED",
+                        Map.of("version", "1.2", "heart-beat", "0,0"), "");
+                case "SUBSCRIBE" -> subscriptions.put(frame.get("id"), frame.get("destination"));
+                case "UNSUBSCRIBE" -> subscriptions.remove(frame.get("id"));
+                case "SEND" -> send(frame.get("destination"),
+                        frame.getOrDefault("content-type", "text/plain"), frame.get("body"));
+                case "DISCONNECT" -> {
+                    if (frame.containsKey("receipt")) {
+                        write("RECEIPT", Map.of("receipt-id", frame.get("receipt")), "");
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        private synchronized void write(String command, Map<String, String> headers,
+                String body) {
+            StringBuilder frame = new StringBuilder(command).append('\n');
+            headers.forEach((name, value) -> frame.append(name).append(':').append(value)
+                    .append('\n'));
+            frame.append('\n').append(body).append('\0');
+
+            try {
+                OutputStream out = socket.getOutputStream();
+                out.write(frame.toString().getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            } catch (IOException e) {
+                connections.remove(this);
+            }
+        }
+
+        // heartbeat 로 오는 빈 줄은 건너뛰고 NULL 문자까지를 한 프레임으로 읽음
+        private Map<String, String> readFrame(InputStream in) throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            int b;
+
+            while ((b = in.read()) == '\n' || b == '\r') {
+                // heartbeat
+            }
+
+            while (b != -1 && b != 0) {
+                buffer.write(b);
+                b = in.read();
+            }
+
+            if (b == -1) {
+                return null;
+            }
+
+            String raw = buffer.toString(StandardCharsets.UTF_8);
+            int bodyStart = raw.indexOf("\n\n");
+            String[] lines = (bodyStart < 0 ? raw : raw.substring(0, bodyStart)).split("\n");
+
+            Map<String, String> frame = new HashMap<>();
+            frame.put("command", lines[0].trim());
+            for (int i = 1; i < lines.length; i++) {
+                int colon = lines[i].indexOf(':');
+                if (colon > 0) {
+                    frame.putIfAbsent(lines[i].substring(0, colon), lines[i].substring(colon + 1));
+                }
+            }
+            frame.put("body", bodyStart < 0 ? "" : raw.substring(bodyStart + 2));
+            return frame;
+        }
+    }
+}
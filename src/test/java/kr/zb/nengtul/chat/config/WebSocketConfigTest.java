@@ -0,0 +1,101 @@
+package kr.zb.nengtul.chat.config;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.SimpleBrokerRegistration;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("웹소켓 브로커 설정 테스트")
+class WebSocketConfigTest {
+
+    private WebSocketConfig webSocketConfig;
+
+    private MessageBrokerRegistry registry;
+
+    private SimpleBrokerRegistration simpleBroker;
+
+    private StompBrokerRelayRegistration brokerRelay;
+
+    private TaskScheduler taskScheduler;
+
+    @BeforeEach
+    void setUp() {
+        registry = mock(MessageBrokerRegistry.class);
+        simpleBroker = mock(SimpleBrokerRegistration.class, RETURNS_SELF);
+        brokerRelay = mock(StompBrokerRelayRegistration.class, RETURNS_SELF);
+        taskScheduler = mock(TaskScheduler.class);
+
+        when(registry.enableSimpleBroker(any())).thenReturn(simpleBroker);
+        when(registry.enableStompBrokerRelay(any())).thenReturn(brokerRelay);
+
+        webSocketConfig = new WebSocketConfig(mock(StompTokenInterceptor.class));
+        webSocketConfig.setMessageBrokerTaskScheduler(taskScheduler);
+        ReflectionTestUtils.setField(webSocketConfig, "relayHost", "broker");
+        ReflectionTestUtils.setField(webSocketConfig, "relayPort", 61613);
+        ReflectionTestUtils.setField(webSocketConfig, "relayLogin", "guest");
+        ReflectionTestUtils.setField(webSocketConfig, "relayPasscode", "guest");
+        ReflectionTestUtils.setField(webSocketConfig, "relayVirtualHost", "");
+        ReflectionTestUtils.setField(webSocketConfig, "heartbeat", 10000L);
+    }
+
+    @Test
+    @DisplayName("simple 모드는 인스턴스 내 브로커에 heartbeat 설정")
+    void configureMessageBroker_SIMPLE() {
+        //given
+        ReflectionTestUtils.setField(webSocketConfig, "brokerMode", "simple");
+
+        //when
+        webSocketConfig.configureMessageBroker(registry);
+
+        //then
+        verify(registry).enableSimpleBroker("/sub", "/queue");
+        verify(simpleBroker).setHeartbeatValue(new long[]{10000L, 10000L});
+        verify(simpleBroker).setTaskScheduler(taskScheduler);
+        verify(registry, never()).enableStompBrokerRelay(any());
+    }
+
+    @Test
+    @DisplayName("relay 모드는 같은 목적지를 외부 STOMP 브로커로 전달")
+    void configureMessageBroker_RELAY() {
+        //given
+        ReflectionTestUtils.setField(webSocketConfig, "brokerMode", "relay");
+
+        //when
+        webSocketConfig.configureMessageBroker(registry);
+
+        //then
+        verify(registry).enableStompBrokerRelay("/sub", "/queue");
+        verify(brokerRelay).setRelayHost("broker");
+        verify(brokerRelay).setRelayPort(61613);
+        verify(brokerRelay).setVirtualHost(null);
+        verify(brokerRelay).setSystemHeartbeatSendInterval(10000L);
+        verify(brokerRelay).setSystemHeartbeatReceiveInterval(10000L);
+        verify(registry, never()).enableSimpleBroker(any());
+    }
+
+    @Test
+    @DisplayName("알 수 없는 모드는 기동 실패")
+    void configureMessageBroker_UNKNOWN_MODE() {
+        //given
+        ReflectionTestUtils.setField(webSocketConfig, "brokerMode", "rellay");
+
+        //when
+        //then
+        assertThrows(IllegalStateException.class,
+                () -> webSocketConfig.configureMessageBroker(registry));
+        verify(registry, never()).enableSimpleBroker(any());
+        verify(registry, never()).enableStompBrokerRelay(any());
+    }
+}
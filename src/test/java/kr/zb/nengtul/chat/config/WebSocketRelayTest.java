@@ -0,0 +1,181 @@
+package kr.zb.nengtul.chat.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.AbstractSubscribableChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+
+/**
+ * relay 모드 설정으로 실제 TCP 연결을 맺어 테스트용 STOMP 브로커를 거쳐 구독자에게 메세지가 전달되는지 확인한다.
+ * relay 의 TCP 클라이언트 스레드가 남아 테스트 JVM 이 종료되지 않으므로 테스트가 끝나면 컨텍스트를 닫는다.
+ */
+@SpringJUnitWebConfig(WebSocketRelayTest.TestConfig.class)
+@DirtiesContext
+@DisplayName("웹소켓 relay 모드 테스트")
+class WebSocketRelayTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private static final String SESSION_ID = "session1";
+
+    private static final String DESTINATION = "/sub/chat/room/1";
+
+    private static final StandInStompBroker broker = startBroker();
+
+    @Autowired
+    private StompBrokerRelayMessageHandler stompBrokerRelayMessageHandler;
+
+    @Autowired
+    private SimpMessagingTemplate brokerMessagingTemplate;
+
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    private AbstractSubscribableChannel clientOutboundChannel;
+
+    @DynamicPropertySource
+    static void brokerProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.websocket.broker.mode", () -> "relay");
+        registry.add("spring.websocket.broker.relay-host", () -> "127.0.0.1");
+        registry.add("spring.websocket.broker.relay-port", broker::getPort);
+        registry.add("spring.websocket.heartbeat", () -> 0);
+    }
+
+    @AfterAll
+    static void stopBroker() throws IOException {
+        broker.close();
+    }
+
+    @Test
+    @DisplayName("브로커로 보낸 메세지가 relay 를 거쳐 구독한 세션에 전달")
+    void relayMessage() throws InterruptedException {
+        // Given
+        BlockingQueue<Message<?>> outbound = new LinkedBlockingQueue<>();
+        clientOutboundChannel.addInterceptor(new ChannelInterceptor() {
+            @Override
+            public Message<?> preSend(Message<?> message, MessageChannel channel) {
+                outbound.add(message);
+                return message;
+            }
+        });
+
+        // 시스템 세션이 연결되기 전에 보낸 메세지는 relay 가 버림
+        awaitBrokerAvailable();
+
+        StompHeaderAccessor connect = StompHeaderAccessor.create(StompCommand.CONNECT);
+        connect.setSessionId(SESSION_ID);
+        connect.setAcceptVersion("1.2");
+        connect.setHeartbeat(0, 0);
+        stompBrokerRelayMessageHandler.handleMessage(toMessage(connect));
+
+        awaitOutbound(outbound, StompCommand.CONNECTED);
+
+        StompHeaderAccessor subscribe = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        subscribe.setSessionId(SESSION_ID);
+        subscribe.setSubscriptionId("sub-0");
+        subscribe.setDestination(DESTINATION);
+        stompBrokerRelayMessageHandler.handleMessage(toMessage(subscribe));
+
+        awaitFrame("SUBSCRIBE");
+
+        // When
+        brokerMessagingTemplate.convertAndSend(DESTINATION, "hello");
+
+        // Then
+        Map<String, String> send = awaitFrame("SEND");
+        assertEquals(DESTINATION, send.get("destination"));
+
+        Message<?> delivered = awaitOutbound(outbound, StompCommand.MESSAGE);
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(delivered);
+        assertEquals(SESSION_ID, accessor.getSessionId());
+        assertEquals("sub-0", accessor.getSubscriptionId());
+        assertEquals(DESTINATION, accessor.getDestination());
+        assertEquals("hello", new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8));
+    }
+
+    private void awaitBrokerAvailable() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+
+        while (!stompBrokerRelayMessageHandler.isBrokerAvailable()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("relay 가 브로커에 연결하지 못함");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    private Map<String, String> awaitFrame(String command) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+
+        while (System.nanoTime() < deadline) {
+            Map<String, String> frame = broker.getReceivedFrames()
+                    .poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (frame != null && command.equals(frame.get("command"))) {
+                return frame;
+            }
+        }
+
+        throw new AssertionError("브로커가 " + command + " 프레임을 받지 못함");
+    }
+
+    private Message<?> awaitOutbound(BlockingQueue<Message<?>> outbound, StompCommand command)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+
+        while (System.nanoTime() < deadline) {
+            Message<?> message = outbound.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+            if (message != null && command.equals(StompHeaderAccessor.wrap(message).getCommand())) {
+                return message;
+            }
+        }
+
+        throw new AssertionError("세션에 " + command + " 프레임이 전달되지 않음");
+    }
+
+    private Message<byte[]> toMessage(StompHeaderAccessor accessor) {
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static StandInStompBroker startBroker() {
+        try {
+            return new StandInStompBroker();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Configuration
+    @Import(WebSocketConfig.class)
+    static class TestConfig {
+
+        @Bean
+        public StompTokenInterceptor stompTokenInterceptor() {
+            return mock(StompTokenInterceptor.class);
+        }
+    }
+}
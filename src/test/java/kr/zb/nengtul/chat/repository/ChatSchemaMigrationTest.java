@@ -0,0 +1,105 @@
+package kr.zb.nengtul.chat.repository;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+public class ChatSchemaMigrationTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ChatSchemaMigration chatSchemaMigration;
+
+    @Test
+    @DisplayName("read_mark 가 남아 있으면 기본값을 추가하고 읽은 위치를 채우며 컬럼은 삭제하지 않음")
+    public void testMigrate_WhenReadMarkExists_ShouldSetDefaultAndBackfill() {
+        // Given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("chat"),
+                eq("read_mark"))).thenReturn(1);
+
+        // When
+        chatSchemaMigration.migrate();
+
+        // Then
+        verify(jdbcTemplate).execute("ALTER TABLE chat ALTER COLUMN read_mark SET DEFAULT 0");
+        verify(jdbcTemplate).update(contains("SET last_read_chat_id"));
+        verify(jdbcTemplate, never()).execute(contains("DROP"));
+    }
+
+    @Test
+    @DisplayName("read_mark 에 이미 기본값이 있으면 테이블을 변경하지 않고 읽은 위치만 채움")
+    public void testMigrate_WhenReadMarkHasDefault_ShouldOnlyBackfill() {
+        // Given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("chat"),
+                eq("read_mark"))).thenReturn(1);
+        when(jdbcTemplate.queryForObject(contains("column_default IS NULL"), eq(Integer.class),
+                eq("chat"), eq("read_mark"))).thenReturn(0);
+
+        // When
+        chatSchemaMigration.migrate();
+
+        // Then
+        verify(jdbcTemplate, never()).execute(anyString());
+        verify(jdbcTemplate).update(contains("SET last_read_chat_id"));
+    }
+
+    @Test
+    @DisplayName("이미 전환된 DB 는 아무것도 하지 않음")
+    public void testMigrate_WhenReadMarkDropped_ShouldSkip() {
+        // Given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("chat"),
+                eq("read_mark"))).thenReturn(0);
+
+        // When
+        chatSchemaMigration.migrate();
+
+        // Then
+        verify(jdbcTemplate, never()).update(contains("SET last_read_chat_id"));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    @DisplayName("마지막 메세지가 비어 있는 채팅방은 가장 최근 메세지로 채움")
+    public void testMigrate_ShouldBackfillLastMessage() {
+        // Given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("chat"),
+                eq("read_mark"))).thenReturn(0);
+
+        // When
+        chatSchemaMigration.migrate();
+
+        // Then
+        verify(jdbcTemplate).update(contains("WHERE cr.last_chat_id IS NULL"));
+    }
+
+    @Test
+    @DisplayName("기본값 추가에 실패하면 기동 중단")
+    public void testMigrate_WhenSetDefaultFails_ShouldThrow() {
+        // Given
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("chat"),
+                eq("read_mark"))).thenReturn(1);
+        doThrow(new DataAccessResourceFailureException("lock wait timeout"))
+                .when(jdbcTemplate).execute("ALTER TABLE chat ALTER COLUMN read_mark SET DEFAULT 0");
+
+        // When, Then
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> chatSchemaMigration.migrate());
+    }
+}
@@ -0,0 +1,91 @@
+package kr.zb.nengtul.chat.service.chat;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import kr.zb.nengtul.chat.repository.ChatJdbcRepository;
+import kr.zb.nengtul.chat.service.ChatIdGenerator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+public class ChatIdGeneratorTest {
+
+    // 자바스크립트 Number.MAX_SAFE_INTEGER
+    private static final long MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Test
+    @DisplayName("같은 ms 에 순번을 다 써도 id 는 계속 증가하고 53비트를 넘지 않음")
+    public void testNextId_ShouldIncrease() {
+        // Given
+        ChatIdGenerator chatIdGenerator = new ChatIdGenerator("7", "simple", mock(ChatJdbcRepository.class));
+        long previous = chatIdGenerator.nextId();
+
+        // When, Then
+        for (int i = 0; i < 10000; i++) {
+            long id = chatIdGenerator.nextId();
+            assertTrue(id > previous);
+            assertTrue(id <= MAX_SAFE_INTEGER);
+            previous = id;
+        }
+    }
+
+    @Test
+    @DisplayName("발급한 id 는 발급 시각의 최대 id 를 넘지 않음")
+    public void testMaxIdAt() {
+        // Given
+        ChatIdGenerator chatIdGenerator = new ChatIdGenerator("7", "simple", mock(ChatJdbcRepository.class));
+
+        // When
+        long id = chatIdGenerator.nextId();
+
+        // Then
+        assertTrue(id <= ChatIdGenerator.maxIdAt(System.currentTimeMillis()));
+        assertTrue(id > ChatIdGenerator.maxIdAt(System.currentTimeMillis() - 60000));
+    }
+
+    @Test
+    @DisplayName("서버 번호는 0 ~ 7")
+    public void testNodeId_OutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new ChatIdGenerator("8", "simple", mock(ChatJdbcRepository.class)));
+    }
+
+    @Test
+    @DisplayName("relay 모드는 서버 번호를 지정하지 않으면 시작하지 않음")
+    public void testNodeId_RelayModeWithoutNodeId() {
+        assertThrows(IllegalStateException.class,
+                () -> new ChatIdGenerator("", "relay", mock(ChatJdbcRepository.class)));
+    }
+
+    @Test
+    @DisplayName("simple 모드는 서버 번호를 지정하지 않으면 0 번 사용")
+    public void testNodeId_SimpleModeWithoutNodeId() {
+        // Given
+        ChatIdGenerator chatIdGenerator =
+                new ChatIdGenerator("", "simple", mock(ChatJdbcRepository.class));
+
+        // When
+        long id = chatIdGenerator.nextId();
+
+        // Then
+        assertTrue(id > 0);
+    }
+
+    @Test
+    @DisplayName("재시작 후 시계가 뒤로 가도 저장된 최대 id 보다 큰 id 를 발급")
+    public void testInit_AfterMaxId() {
+        // Given
+        ChatJdbcRepository chatJdbcRepository = mock(ChatJdbcRepository.class);
+        long maxId = ChatIdGenerator.maxIdAt(System.currentTimeMillis() + 60000);
+        when(chatJdbcRepository.findMaxId()).thenReturn(maxId);
+        ChatIdGenerator chatIdGenerator = new ChatIdGenerator("7", "relay", chatJdbcRepository);
+
+        // When
+        chatIdGenerator.init();
+        long id = chatIdGenerator.nextId();
+
+        // Then
+        assertTrue(id > maxId);
+    }
+}
@@ -0,0 +1,69 @@
+package kr.zb.nengtul.chat.service.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import kr.zb.nengtul.chat.dto.ChatDto;
+import kr.zb.nengtul.chat.service.ChatMessageSender;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.util.MimeTypeUtils;
+
+public class ChatMessageSenderTest {
+
+    private MessageChannel messageChannel;
+    private ChatMessageSender chatMessageSender;
+
+    @BeforeEach
+    public void setup() {
+        messageChannel = mock(MessageChannel.class);
+        when(messageChannel.send(any())).thenReturn(true);
+
+        SimpMessagingTemplate simpMessagingTemplate = new SimpMessagingTemplate(messageChannel);
+        simpMessagingTemplate.setMessageConverter(new MappingJackson2MessageConverter());
+
+        chatMessageSender = new ChatMessageSender(simpMessagingTemplate);
+    }
+
+    @Test
+    @DisplayName("한 번 변환한 payload 를 목적지마다 그대로 전송")
+    public void testSendToAll_ShouldEncodeOnce() {
+        // Given
+        ChatDto chatDto = ChatDto.builder().roomId("12345").chatId(10L).content("hello").build();
+        List<String> destinations = List.of("/sub/chat/send/rooms/12345",
+                "/sub/chat/push/users/1", "/sub/chat/push/users/2");
+
+        ArgumentCaptor<Message<?>> captor = ArgumentCaptor.forClass(Message.class);
+
+        // When
+        chatMessageSender.sendToAll(chatDto, destinations);
+
+        // Then
+        verify(messageChannel, times(3)).send(captor.capture());
+
+        List<Message<?>> messages = captor.getAllValues();
+        for (int i = 0; i < destinations.size(); i++) {
+            assertEquals(destinations.get(i),
+                    SimpMessageHeaderAccessor.getDestination(messages.get(i).getHeaders()));
+            assertSame(messages.get(0).getPayload(), messages.get(i).getPayload());
+            assertEquals(MimeTypeUtils.APPLICATION_JSON,
+                    messages.get(i).getHeaders().get(MessageHeaders.CONTENT_TYPE));
+        }
+        assertTrue(new String((byte[]) messages.get(0).getPayload()).contains("\"chatId\":10"));
+    }
+}
@@ -0,0 +1,180 @@
+package kr.zb.nengtul.chat.service.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import kr.zb.nengtul.chat.domain.Chat;
+import kr.zb.nengtul.chat.repository.ChatJdbcRepository;
+import kr.zb.nengtul.chat.service.ChatIdGenerator;
+import kr.zb.nengtul.chat.service.ChatPersistService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+public class ChatPersistServiceTest {
+
+    private ChatJdbcRepository chatJdbcRepository;
+    private ChatIdGenerator chatIdGenerator;
+    private ChatPersistService chatPersistService;
+
+    // 저장된 chatId, 저장한 스레드 이름
+    private final Set<Long> savedChatIds = ConcurrentHashMap.newKeySet();
+    private final Set<String> savedThreads = ConcurrentHashMap.newKeySet();
+
+    @BeforeEach
+    public void setup() {
+        chatJdbcRepository = mock(ChatJdbcRepository.class);
+        chatIdGenerator = mock(ChatIdGenerator.class);
+        chatPersistService = new ChatPersistService(chatJdbcRepository, chatIdGenerator);
+        ReflectionTestUtils.setField(chatPersistService, "mode", "async");
+        ReflectionTestUtils.setField(chatPersistService, "queueCapacity", 100);
+        ReflectionTestUtils.setField(chatPersistService, "batchSize", 10);
+        ReflectionTestUtils.setField(chatPersistService, "offerTimeoutMillis", 0L);
+
+        doAnswer(invocation -> {
+            List<Chat> chats = invocation.getArgument(0);
+            chats.forEach(chat -> savedChatIds.add(chat.getId()));
+            savedThreads.add(Thread.currentThread().getName());
+            return null;
+        }).when(chatJdbcRepository).saveAll(anyList());
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        chatPersistService.stop();
+    }
+
+    @Test
+    @DisplayName("sync 모드는 보낸 스레드에서 바로 저장")
+    public void testPersist_SyncMode() {
+        // Given
+        ReflectionTestUtils.setField(chatPersistService, "mode", "sync");
+        chatPersistService.start();
+
+        // When
+        chatPersistService.persist(chat(1L));
+
+        // Then
+        assertEquals(Set.of(1L), savedChatIds);
+        assertEquals(Set.of(Thread.currentThread().getName()), savedThreads);
+    }
+
+    @Test
+    @DisplayName("async 모드는 저장 스레드가 모아서 저장하고, 종료 시 남은 메세지까지 저장")
+    public void testPersist_AsyncMode() throws InterruptedException {
+        // Given
+        chatPersistService.start();
+
+        // When
+        for (long id = 1; id <= 50; id++) {
+            chatPersistService.persist(chat(id));
+        }
+        chatPersistService.stop();
+
+        // Then
+        assertEquals(50, savedChatIds.size());
+        assertEquals(Set.of("chat-persist"), savedThreads);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 보낸 스레드가 직접 저장")
+    public void testPersist_QueueFull() throws InterruptedException {
+        // Given
+        ReflectionTestUtils.setField(chatPersistService, "queueCapacity", 1);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 저장 스레드만 멈춰 큐가 비워지지 않도록 함
+        doAnswer(invocation -> {
+            List<Chat> chats = invocation.getArgument(0);
+            if (Thread.currentThread().getName().equals("chat-persist")) {
+                writing.countDown();
+                release.await(5, TimeUnit.SECONDS);
+            }
+            chats.forEach(chat -> savedChatIds.add(chat.getId()));
+            savedThreads.add(Thread.currentThread().getName());
+            return null;
+        }).when(chatJdbcRepository).saveAll(anyList());
+
+        chatPersistService.start();
+        chatPersistService.persist(chat(1L));
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        chatPersistService.persist(chat(2L));
+
+        // When
+        chatPersistService.persist(chat(3L));
+
+        // Then
+        assertTrue(savedChatIds.contains(3L));
+        assertTrue(savedThreads.contains(Thread.currentThread().getName()));
+
+        release.countDown();
+        chatPersistService.stop();
+        assertEquals(Set.of(1L, 2L, 3L), savedChatIds);
+    }
+
+    @Test
+    @DisplayName("batch 저장이 계속 실패하면 한 건씩 다시 저장해 나머지 메세지는 유지")
+    public void testPersist_BatchFailure() throws InterruptedException {
+        // Given
+        doAnswer(invocation -> {
+            List<Chat> chats = invocation.getArgument(0);
+            if (chats.size() > 1 || chats.get(0).getId() == 2L) {
+                throw new IllegalStateException("batch failed");
+            }
+            savedChatIds.add(chats.get(0).getId());
+            return null;
+        }).when(chatJdbcRepository).saveAll(anyList());
+
+        ReflectionTestUtils.setField(chatPersistService, "mode", "sync");
+        chatPersistService.start();
+
+        // When
+        ReflectionTestUtils.invokeMethod(chatPersistService, "write",
+                List.of(chat(1L), chat(2L), chat(3L)));
+
+        // Then
+        assertEquals(Set.of(1L, 3L), savedChatIds);
+    }
+
+    @Test
+    @DisplayName("id 가 중복되면 재시도하지 않고 중복된 메세지만 새 id 로 저장")
+    public void testPersist_DuplicateKey() {
+        // Given
+        doAnswer(invocation -> {
+            List<Chat> chats = invocation.getArgument(0);
+            if (chats.stream().anyMatch(chat -> chat.getId() == 2L)) {
+                throw new DuplicateKeyException("duplicate");
+            }
+            chats.forEach(chat -> savedChatIds.add(chat.getId()));
+            return null;
+        }).when(chatJdbcRepository).saveAll(anyList());
+        when(chatIdGenerator.nextId()).thenReturn(100L);
+
+        ReflectionTestUtils.setField(chatPersistService, "mode", "sync");
+        chatPersistService.start();
+
+        // When
+        ReflectionTestUtils.invokeMethod(chatPersistService, "write",
+                List.of(chat(1L), chat(2L), chat(3L)));
+
+        // Then
+        assertEquals(Set.of(1L, 3L, 100L), savedChatIds);
+    }
+
+    private Chat chat(Long id) {
+        return Chat.builder().id(id).content("hello").build();
+    }
+}
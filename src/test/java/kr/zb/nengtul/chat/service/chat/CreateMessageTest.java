@@ -0,0 +1,56 @@
+package kr.zb.nengtul.chat.service.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import kr.zb.nengtul.chat.domain.Chat;
+import kr.zb.nengtul.chat.domain.ChatRoom;
+import kr.zb.nengtul.chat.service.ChatIdGenerator;
+import kr.zb.nengtul.chat.service.ChatPersistService;
+import kr.zb.nengtul.chat.service.ChatService;
+import kr.zb.nengtul.user.domain.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateMessageTest {
+
+    @Mock
+    private ChatIdGenerator chatIdGenerator;
+    @Mock
+    private ChatPersistService chatPersistService;
+    @InjectMocks
+    private ChatService chatService;
+    private User sender;
+    private ChatRoom chatRoom;
+
+    @BeforeEach
+    public void setup() {
+        sender = new User(123L);
+        chatRoom = ChatRoom.builder().id(1L).roomId("12345").build();
+    }
+
+    @Test
+    @DisplayName("메세지 생성 시 id, 보낸 시각을 먼저 채우고 저장은 ChatPersistService 에 맡김")
+    public void testCreateMessage_ShouldAssignIdAndPersist() {
+        // Given
+        when(chatIdGenerator.nextId()).thenReturn(10L);
+
+        // When
+        Chat chat = chatService.createMessage(sender, chatRoom, "hello");
+
+        // Then
+        verify(chatPersistService).persist(chat);
+        assertEquals(10L, chat.getId());
+        assertEquals("hello", chat.getContent());
+        assertEquals(chatRoom, chat.getChatRoom());
+        assertNotNull(chat.getCreatedAt());
+    }
+}
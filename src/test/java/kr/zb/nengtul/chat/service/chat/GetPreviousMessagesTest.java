@@ -0,0 +1,122 @@
+package kr.zb.nengtul.chat.service.chat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import kr.zb.nengtul.chat.domain.Chat;
+import kr.zb.nengtul.chat.domain.ChatRoom;
+import kr.zb.nengtul.chat.dto.ChatHistoryDto;
+import kr.zb.nengtul.chat.repository.ChatRepository;
+import kr.zb.nengtul.chat.service.ChatService;
+import kr.zb.nengtul.shareboard.domain.entity.ShareBoard;
+import kr.zb.nengtul.user.domain.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+@ExtendWith(MockitoExtension.class)
+public class GetPreviousMessagesTest {
+
+    @Mock
+    private ChatRepository chatRepository;
+    @InjectMocks
+    private ChatService chatService;
+    private ChatRoom chatRoom;
+    private User sender;
+    private String roomId;
+
+    @BeforeEach
+    public void setup() {
+        roomId = "12345";
+        sender = new User(123L);
+        chatRoom = ChatRoom.builder()
+                .roomId(roomId)
+                .shareBoard(ShareBoard.builder().title("test").build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("beforeChatId 가 없으면 가장 최근 메세지부터 조회")
+    public void getPreviousMessages_LATEST() {
+        // Given
+        Slice<Chat> chats = new SliceImpl<>(List.of(chat(5L), chat(4L)),
+                PageRequest.of(0, 2), true);
+        when(chatRepository.findByChatRoomRoomIdOrderByIdDesc(roomId, PageRequest.of(0, 2)))
+                .thenReturn(chats);
+
+        // When
+        Slice<Chat> result = chatService.getPreviousMessages(roomId, null, 2);
+        // 상대방(456)이 4번 메세지까지 읽음
+        ChatHistoryDto history = ChatHistoryDto.fromSlice(roomId, result,
+                Map.of(123L, 5L, 456L, 4L));
+
+        // Then
+        verify(chatRepository, never()).findByChatRoomRoomIdAndIdLessThanOrderByIdDesc(anyString(),
+                anyLong(), any());
+        assertEquals(4L, history.getMessages().get(0).getChatId()); // 오래된 순으로 전송
+        assertEquals(5L, history.getMessages().get(1).getChatId());
+        assertTrue(history.getMessages().get(0).isRead());
+        assertFalse(history.getMessages().get(1).isRead());
+        assertEquals(4L, history.getNextBeforeChatId());
+        assertTrue(history.isHasNext());
+    }
+
+    @Test
+    @DisplayName("beforeChatId 보다 이전 메세지만 조회, 마지막 페이지면 다음 커서 없음")
+    public void getPreviousMessages_BEFORE_CHAT_ID() {
+        // Given
+        Slice<Chat> chats = new SliceImpl<>(List.of(chat(3L)), PageRequest.of(0, 30), false);
+        when(chatRepository.findByChatRoomRoomIdAndIdLessThanOrderByIdDesc(roomId, 4L,
+                PageRequest.of(0, 30))).thenReturn(chats);
+
+        // When
+        Slice<Chat> result = chatService.getPreviousMessages(roomId, 4L, null);
+        ChatHistoryDto history = ChatHistoryDto.fromSlice(roomId, result, Map.of());
+
+        // Then
+        assertEquals(1, history.getMessages().size());
+        assertNull(history.getNextBeforeChatId());
+        assertFalse(history.isHasNext());
+    }
+
+    @Test
+    @DisplayName("요청 크기는 최대 100개로 제한")
+    public void getPreviousMessages_MAX_SIZE() {
+        // Given
+        when(chatRepository.findByChatRoomRoomIdAndIdLessThanOrderByIdDesc(roomId, 4L,
+                PageRequest.of(0, 100))).thenReturn(new SliceImpl<>(List.of()));
+
+        // When
+        chatService.getPreviousMessages(roomId, 4L, 10000);
+
+        // Then
+        verify(chatRepository).findByChatRoomRoomIdAndIdLessThanOrderByIdDesc(roomId, 4L,
+                PageRequest.of(0, 100));
+    }
+
+    private Chat chat(Long chatId) {
+        return Chat.builder()
+                .id(chatId)
+                .chatRoom(chatRoom)
+                .sender(sender)
+                .content("test")
+                .build();
+    }
+}
@@ -1,27 +1,22 @@
 package kr.zb.nengtul.chat.service.chat;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.any;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.anyLong;
+import static org.mockito.Mockito.anyString;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import kr.zb.nengtul.chat.domain.Chat;
-import kr.zb.nengtul.chat.domain.ChatRoom;
+import java.util.Optional;
 import kr.zb.nengtul.chat.repository.ChatRepository;
+import kr.zb.nengtul.chat.repository.ConnectedChatRoomRepository;
 import kr.zb.nengtul.chat.service.ChatService;
 import kr.zb.nengtul.user.domain.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -29,87 +24,51 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 public class MarkAllAsReadTest {
 
-    @Captor
-    ArgumentCaptor<List<Chat>> chatCaptor;
     @Mock
     private ChatRepository chatRepository;
+    @Mock
+    private ConnectedChatRoomRepository connectedChatRoomRepository;
     @InjectMocks
     private ChatService chatService;
-    private User sender;
-    private ChatRoom chatRoom;
     private String roomId;
     private User reader;
 
     @BeforeEach
     public void setup() {
-        // 가상의 sender, chatRoom, roomId, reader, pageable 객체 생성
-        sender = new User(123L);
+        // 가상의 roomId, reader 객체 생성
         roomId = "12345";
         reader = new User(456L);
     }
 
 
     @Test
-    @DisplayName("상대방이 읽어야만 읽음처리 완료")
-    public void testMarkAllAsRead_WhenChatsExistAndReaderIsNotSender_ShouldMarkAsRead() {
+    @DisplayName("채팅방의 가장 최근 메세지까지 읽은 위치 이동")
+    public void testMarkAllAsRead_WhenChatsExist_ShouldMoveWatermarkToLastChat() {
         // Given
-        Chat chat1 = Chat.builder() //읽음처리 될 메세지
-                .id(1L)
-                .sender(sender)
-                .chatRoom(chatRoom)
-                .content("test")
-                .readMark(false)
-                .build();
-        Chat chat2 = Chat.builder() // 읽음처리 되지 않음
-                .id(2L)
-                .sender(reader)
-                .chatRoom(chatRoom)
-                .content("test")
-                .readMark(false)
-                .build();
-        List<Chat> chats = new ArrayList<>(Arrays.asList(chat1, chat2));
-
-// When
-        when(chatRepository.findByChatRoomRoomIdAndReadMarkIsFalseOrderByCreatedAtAsc(
-                roomId)).thenReturn(chats);
-        chatService.markAllAsRead(roomId, reader);
-
-// Then
-        verify(chatRepository).findByChatRoomRoomIdAndReadMarkIsFalseOrderByCreatedAtAsc(roomId);
-        verify(chatRepository).saveAll(chatCaptor.capture());
+        when(chatRepository.findLastChatIdByRoomId(roomId)).thenReturn(Optional.of(10L));
+        when(connectedChatRoomRepository.updateLastReadChatId(roomId, reader.getId(), 10L))
+                .thenReturn(1);
 
-        List<Chat> capturedChats = chatCaptor.getValue();
-        assertEquals(1, capturedChats.size()); //1개만 업데이트 됨
-        assertTrue(capturedChats.get(0).isReadMark());
-
-        assertTrue(chats.get(0).isReadMark());
-        assertFalse(chats.get(1).isReadMark()); // reader 자신의 메세지는 읽음처리 되지않음
+        // When
+        Long lastReadChatId = chatService.markAllAsRead(roomId, reader);
 
+        // Then
+        verify(connectedChatRoomRepository).updateLastReadChatId(roomId, reader.getId(), 10L);
+        assertEquals(10L, lastReadChatId);
     }
 
     @Test
-    @DisplayName("자신이 보낸 메세지는 읽음 처리되지 않음")
-    public void testMarkAllAsRead_WhenChatsExistAndReaderIsSender_ShouldNotMarkAsRead() {
+    @DisplayName("메세지가 없으면 읽음 처리하지 않음")
+    public void testMarkAllAsRead_WhenNoChats_ShouldNotMarkAsRead() {
         // Given
-        Chat chat1 = Chat.builder()
-                .id(1L)
-                .sender(sender)
-                .readMark(false)
-                .build();
-        Chat chat2 = Chat.builder()
-                .id(2L)
-                .sender(sender)
-                .readMark(false)
-                .build();
-        List<Chat> chats = new ArrayList<>(Arrays.asList(chat1, chat2));
+        when(chatRepository.findLastChatIdByRoomId(roomId)).thenReturn(Optional.empty());
 
         // When
-        when(chatRepository.findByChatRoomRoomIdAndReadMarkIsFalseOrderByCreatedAtAsc(
-                roomId)).thenReturn(chats);
-        chatService.markAllAsRead(roomId, sender);
+        Long lastReadChatId = chatService.markAllAsRead(roomId, reader);
 
         // Then
-        verify(chatRepository).findByChatRoomRoomIdAndReadMarkIsFalseOrderByCreatedAtAsc(roomId);
-        verify(chatRepository, never()).save(any());
+        verify(connectedChatRoomRepository, never()).updateLastReadChatId(anyString(), anyLong(),
+                anyLong());
+        assertNull(lastReadChatId);
     }
 }
@@ -1,24 +1,25 @@
 package kr.zb.nengtul.chat.service.chat;
 
-import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.any;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Optional;
-import kr.zb.nengtul.chat.domain.Chat;
-import kr.zb.nengtul.chat.domain.ChatRoom;
 import kr.zb.nengtul.chat.repository.ChatRepository;
+import kr.zb.nengtul.chat.repository.ConnectedChatRoomRepository;
+import kr.zb.nengtul.chat.service.ChatIdGenerator;
 import kr.zb.nengtul.chat.service.ChatService;
+import kr.zb.nengtul.global.exception.CustomException;
+import kr.zb.nengtul.global.exception.ErrorCode;
 import kr.zb.nengtul.user.domain.entity.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
-import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -29,68 +30,67 @@ public class MarkAsReadTest {
     @Mock
     private ChatRepository chatRepository;
 
+    @Mock
+    private ConnectedChatRoomRepository connectedChatRoomRepository;
+
     @InjectMocks
     private ChatService chatService;
 
-    @Captor
-    private ArgumentCaptor<Chat> chatCaptor;
-
-    private User sender;
-    private ChatRoom chatRoom;
+    private User reader;
+    private String roomId;
 
     @BeforeEach
     public void setup() {
-        // 가상의 sender와 chatRoom 객체 생성
-        sender = new User(123L);
-        ChatRoom chatRoom = new ChatRoom();
+        // 가상의 reader, roomId 생성
+        reader = new User(456L);
+        roomId = "12345";
     }
 
     @Test
-    @DisplayName("채팅 읽음 처리 성공")
-    public void testMarkAsRead_WhenChatExistsAndReaderIsNotSender_ShouldMarkAsRead() {
+    @DisplayName("채팅 읽음 처리 성공 - 참여자의 읽은 위치만 변경")
+    public void testMarkAsRead_WhenWatermarkMovesForward_ShouldReturnChatId() {
         // Given
-        Long chatId = 1L;
-        User reader = new User();
-        Chat chat = Chat.builder()
-                .id(chatId)
-                .chatRoom(chatRoom)
-                .sender(sender)
-                .content("test")
-                .readMark(false)
-                .build();
+        Long chatId = 10L;
+        when(connectedChatRoomRepository.updateLastReadChatId(roomId, reader.getId(), chatId))
+                .thenReturn(1);
 
         // When
-        when(chatRepository.findByIdAndReadMarkIsFalse(chatId)).thenReturn(Optional.of(chat));
-        chatService.markAsRead(chatId, reader);
+        Long lastReadChatId = chatService.markAsRead(roomId, chatId, reader);
 
         // Then
-        verify(chatRepository).findByIdAndReadMarkIsFalse(chatId);
-        verify(chatRepository).save(chatCaptor.capture());
-
-        Chat capturedChat = chatCaptor.getValue();
-        assertTrue(capturedChat.isReadMark());
-        assertTrue(chat.isReadMark());
+        verify(connectedChatRoomRepository).updateLastReadChatId(roomId, reader.getId(), chatId);
+        assertEquals(chatId, lastReadChatId);
     }
 
 
     @Test
-    @DisplayName("자신의 메세지는 읽음 처리 되지 않는다")
-    public void testMarkAsRead_WhenChatExistsAndReaderIsSender_ShouldNotMarkAsRead() {
+    @DisplayName("이미 그 이후까지 읽었으면 읽음 처리 되지 않는다")
+    public void testMarkAsRead_WhenAlreadyReadBeyond_ShouldReturnNull() {
         // Given
         Long chatId = 1L;
-        Chat chat = Chat.builder()
-                .id(chatId)
-                .sender(sender)
-                .readMark(false)
-                .build();
+        when(connectedChatRoomRepository.updateLastReadChatId(roomId, reader.getId(), chatId))
+                .thenReturn(0);
+
+        // When
+        Long lastReadChatId = chatService.markAsRead(roomId, chatId, reader);
+
+        // Then
+        assertNull(lastReadChatId);
+    }
+
+    @Test
+    @DisplayName("아직 발급될 수 없는 chatId 로는 읽음 처리 되지 않는다")
+    public void testMarkAsRead_WhenChatIdNotIssuedYet_ShouldThrow() {
+        // Given
+        Long chatId = ChatIdGenerator.maxIdAt(System.currentTimeMillis() + 3600000L);
 
         // When
-        when(chatRepository.findByIdAndReadMarkIsFalse(chatId)).thenReturn(java.util.Optional.of(chat));
-        chatService.markAsRead(chatId, sender);
+        CustomException exception = assertThrows(CustomException.class,
+                () -> chatService.markAsRead(roomId, chatId, reader));
 
         // Then
-        verify(chatRepository).findByIdAndReadMarkIsFalse(chatId);
-        verify(chatRepository, never()).save(any());
-        assertFalse(chat.isReadMark());
+        assertEquals(ErrorCode.NOT_FOUND_CHAT, exception.getErrorCode());
+        verify(connectedChatRoomRepository, never()).updateLastReadChatId(any(), anyLong(),
+                anyLong());
     }
 }
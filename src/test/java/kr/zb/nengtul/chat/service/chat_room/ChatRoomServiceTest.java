@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
@@ -17,6 +18,8 @@ import java.util.Objects;
 import java.util.Optional;
 import kr.zb.nengtul.chat.domain.ChatRoom;
 import kr.zb.nengtul.chat.domain.ConnectedChatRoom;
+import kr.zb.nengtul.chat.dto.ChatRoomDto;
+import kr.zb.nengtul.chat.dto.ChatRoomSummaryDto;
 import kr.zb.nengtul.chat.repository.ChatRepository;
 import kr.zb.nengtul.chat.repository.ChatRoomRepository;
 import kr.zb.nengtul.chat.repository.ConnectedChatRoomRepository;
@@ -156,8 +159,8 @@ public class ChatRoomServiceTest {
 
         ChatRoom chatRoom = new ChatRoom(new ShareBoard());
         List<ConnectedChatRoom> chatUsers = new ArrayList<>(List.of(
-                new ConnectedChatRoom(1L, chatRoom, user,false),
-                new ConnectedChatRoom(2L, chatRoom, otherUser,false)
+                new ConnectedChatRoom(1L, chatRoom, user,false, 0L),
+                new ConnectedChatRoom(2L, chatRoom, otherUser,false, 0L)
         ));
 
         when(connectedChatRoomRepository.findByChatRoomRoomId(chatRoom.getRoomId()))
@@ -196,7 +199,7 @@ public class ChatRoomServiceTest {
 
         ChatRoom chatRoom = new ChatRoom(new ShareBoard());
         List<ConnectedChatRoom> chatUsers = new ArrayList<>(List.of(
-                new ConnectedChatRoom(1L, chatRoom, user,false)
+                new ConnectedChatRoom(1L, chatRoom, user,false, 0L)
         ));
 
         when(connectedChatRoomRepository.findByChatRoomRoomId(chatRoom.getRoomId()))
@@ -217,4 +220,34 @@ public class ChatRoomServiceTest {
         assertEquals(1, chatUsers.size());
         assertTrue(chatUsers.get(0).isLeaveRoom()); // 나가기 처리 확인
     }
+
+    @Test
+    @DisplayName("채팅방 목록은 메세지를 불러오지 않고 요약 조회 결과로 변환")
+    public void testGetChatRoomList() {
+        // Given
+        User user = new User(123L);
+        ChatRoomSummaryDto summary = mock(ChatRoomSummaryDto.class);
+        when(summary.getRoomId()).thenReturn("room1");
+        when(summary.getReceiverNickname()).thenReturn("receiver");
+        when(summary.getShareBoardId()).thenReturn(null); // 삭제된 게시글
+        when(summary.getLatestChat()).thenReturn("latest");
+        when(summary.getUnreadCount()).thenReturn(3L);
+
+        when(connectedChatRoomRepository.findChatRoomSummariesByUser(user))
+                .thenReturn(List.of(summary));
+
+        // When
+        List<ChatRoomDto> chatRoomList = chatRoomService.getChatRoomList(user);
+
+        // Then
+        verify(connectedChatRoomRepository, times(1)).findChatRoomSummariesByUser(user);
+        verifyNoMoreInteractions(chatRepository);
+
+        assertEquals(1, chatRoomList.size());
+        assertEquals("room1", chatRoomList.get(0).getRoomId());
+        assertEquals("receiver", chatRoomList.get(0).getReceiverNickname());
+        assertEquals("삭제된 게시물 입니다", chatRoomList.get(0).getShareBoardTitle());
+        assertEquals("latest", chatRoomList.get(0).getLatestChat());
+        assertEquals(3L, chatRoomList.get(0).getUnreadCount());
+    }
 }
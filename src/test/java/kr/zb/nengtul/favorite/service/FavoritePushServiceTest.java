@@ -0,0 +1,182 @@
+package kr.zb.nengtul.favorite.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import kr.zb.nengtul.chat.config.OnlineUserRegistry;
+import kr.zb.nengtul.chat.service.ChatMessageSender;
+import kr.zb.nengtul.favorite.domain.dto.FavoritePushResultDto;
+import kr.zb.nengtul.favorite.domain.repository.FavoriteRepository;
+import kr.zb.nengtul.notification.domain.constants.NotificationType;
+import kr.zb.nengtul.notification.service.NotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("즐겨찾기 알림 전송 서비스 테스트")
+class FavoritePushServiceTest {
+
+  private static final String PREFIX = "/sub/favorite/push/recipe/users/";
+
+  private FavoritePushService favoritePushService;
+
+  private FavoriteRepository favoriteRepository;
+
+  private ChatMessageSender chatMessageSender;
+
+  private OnlineUserRegistry onlineUserRegistry;
+
+  private NotificationService notificationService;
+
+  private final Message<byte[]> message = MessageBuilder.withPayload(new byte[0]).build();
+
+  @BeforeEach
+  void setUp() {
+    favoriteRepository = mock(FavoriteRepository.class);
+    chatMessageSender = mock(ChatMessageSender.class);
+    onlineUserRegistry = mock(OnlineUserRegistry.class);
+    notificationService = mock(NotificationService.class);
+
+    favoritePushService = new FavoritePushService(favoriteRepository, chatMessageSender,
+        onlineUserRegistry, notificationService);
+    ReflectionTestUtils.setField(favoritePushService, "poolSize", 2);
+    ReflectionTestUtils.setField(favoritePushService, "fanOutPoolSize", 1);
+    ReflectionTestUtils.setField(favoritePushService, "fanOutQueueCapacity", 1);
+    ReflectionTestUtils.setField(favoritePushService, "pageSize", 3);
+    ReflectionTestUtils.setField(favoritePushService, "batchSize", 2);
+    favoritePushService.init();
+
+    // encode 는 Message<?> 를 반환하므로 타입 검사 없이 stub
+    doReturn(message).when(chatMessageSender).encode(any());
+  }
+
+  @AfterEach
+  void tearDown() {
+    favoritePushService.shutdown();
+  }
+
+  @Test
+  @DisplayName("구독자 id 를 이어서 조회하며 접속한 구독자에게는 전송, 접속하지 않은 구독자는 보관함에 저장")
+  void push_SUCCESS() {
+    //given
+    when(favoriteRepository.findSubscriberIds(eq(1L), eq(0L), any(Pageable.class)))
+        .thenReturn(List.of(2L, 3L, 4L));
+    when(favoriteRepository.findSubscriberIds(eq(1L), eq(4L), any(Pageable.class)))
+        .thenReturn(List.of(5L));
+    when(onlineUserRegistry.isOnline(anyLong())).thenReturn(true);
+    when(onlineUserRegistry.isOnline(3L)).thenReturn(false);
+    when(onlineUserRegistry.needsInbox(3L)).thenReturn(true);
+
+    //when
+    FavoritePushResultDto result = favoritePushService.push(1L, PREFIX, NotificationType.RECIPE, "payload").join();
+
+    //then
+    verify(chatMessageSender, times(1)).encode("payload");
+    verify(chatMessageSender).send(message, PREFIX + 2);
+    verify(chatMessageSender).send(message, PREFIX + 4);
+    verify(chatMessageSender).send(message, PREFIX + 5);
+    verify(chatMessageSender, never()).send(message, PREFIX + 3);
+    verify(notificationService).saveAll(List.of(3L), NotificationType.RECIPE, "payload");
+
+    assertEquals(4, result.getSubscriberCount());
+    assertEquals(3, result.getSentCount());
+    assertEquals(1, result.getOfflineCount());
+    assertEquals(0, result.getFailedCount());
+  }
+
+  @Test
+  @DisplayName("일부 전송이 실패해도 나머지 구독자에게는 전송")
+  void push_PARTIAL_FAIL() {
+    //given
+    when(favoriteRepository.findSubscriberIds(eq(1L), eq(0L), any(Pageable.class)))
+        .thenReturn(List.of(2L, 3L));
+    when(onlineUserRegistry.isOnline(anyLong())).thenReturn(true);
+    doThrow(new IllegalStateException("closed"))
+        .when(chatMessageSender).send(message, PREFIX + 2);
+
+    //when
+    FavoritePushResultDto result = favoritePushService.push(1L, PREFIX, NotificationType.RECIPE, "payload").join();
+
+    //then
+    verify(chatMessageSender).send(message, PREFIX + 3);
+    verify(favoriteRepository, times(1))
+        .findSubscriberIds(anyLong(), anyLong(), any(Pageable.class));
+    assertEquals(1, result.getSentCount());
+    assertEquals(1, result.getFailedCount());
+  }
+
+  @Test
+  @DisplayName("relay 모드는 모든 구독자에게 전송하고 보관함에도 저장")
+  void push_RELAY() {
+    //given
+    when(favoriteRepository.findSubscriberIds(eq(1L), eq(0L), any(Pageable.class)))
+        .thenReturn(List.of(2L, 3L));
+    when(onlineUserRegistry.isOnline(anyLong())).thenReturn(true);
+    when(onlineUserRegistry.needsInbox(anyLong())).thenReturn(true);
+
+    //when
+    FavoritePushResultDto result = favoritePushService.push(1L, PREFIX, NotificationType.RECIPE, "payload").join();
+
+    //then
+    verify(chatMessageSender).send(message, PREFIX + 2);
+    verify(chatMessageSender).send(message, PREFIX + 3);
+    verify(notificationService).saveAll(List.of(2L, 3L), NotificationType.RECIPE, "payload");
+    assertEquals(2, result.getSentCount());
+    assertEquals(2, result.getOfflineCount());
+  }
+
+  @Test
+  @DisplayName("fan-out 대기열이 가득 차면 요청한 스레드에서 실행하지 않고 거절")
+  void push_REJECTED() throws InterruptedException {
+    //given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    when(favoriteRepository.findSubscriberIds(eq(1L), eq(0L), any(Pageable.class)))
+        .thenAnswer(invocation -> {
+          started.countDown();
+          release.await();
+          return List.of();
+        });
+
+    // 첫 번째는 실행 중, 두 번째는 대기열에서 대기
+    CompletableFuture<FavoritePushResultDto> running =
+        favoritePushService.push(1L, PREFIX, NotificationType.RECIPE, "payload");
+    started.await();
+    CompletableFuture<FavoritePushResultDto> queued =
+        favoritePushService.push(1L, PREFIX, NotificationType.RECIPE, "payload");
+
+    //when
+    FavoritePushResultDto rejected =
+        favoritePushService.push(1L, PREFIX, NotificationType.RECIPE, "payload").join();
+
+    //then
+    assertNull(rejected);
+    verify(favoriteRepository, times(1))
+        .findSubscriberIds(anyLong(), anyLong(), any(Pageable.class));
+
+    release.countDown();
+    assertEquals(0, running.join().getSubscriberCount());
+    assertEquals(0, queued.join().getSubscriberCount());
+    verify(favoriteRepository, times(2))
+        .findSubscriberIds(anyLong(), anyLong(), any(Pageable.class));
+  }
+
+}
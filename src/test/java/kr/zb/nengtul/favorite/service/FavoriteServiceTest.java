@@ -5,21 +5,28 @@ import kr.zb.nengtul.favorite.domain.entity.Favorite;
 import kr.zb.nengtul.favorite.domain.repository.FavoriteRepository;
 import kr.zb.nengtul.global.exception.CustomException;
 import kr.zb.nengtul.global.exception.ErrorCode;
+import kr.zb.nengtul.recipe.config.ElasticsearchAsyncOperations;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import kr.zb.nengtul.recipe.service.RecipeDetailCache;
 import kr.zb.nengtul.user.domain.constants.UserPoint;
 import kr.zb.nengtul.user.domain.entity.User;
 import kr.zb.nengtul.user.domain.repository.UserRepository;
 import org.junit.jupiter.api.*;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.query.Query;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.security.Principal;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @DisplayName("즐겨찾기 서비스 테스트")
@@ -31,13 +38,17 @@ class FavoriteServiceTest {
 
     private UserRepository userRepository;
 
+    private ElasticsearchAsyncOperations elasticsearchAsyncOperations;
+
     @BeforeEach
     void init() {
 
         favoriteRepository = mock(FavoriteRepository.class);
         userRepository = mock(UserRepository.class);
+        elasticsearchAsyncOperations = mock(ElasticsearchAsyncOperations.class);
 
-        favoriteService = new FavoriteService(favoriteRepository, userRepository);
+        favoriteService = new FavoriteService(favoriteRepository, userRepository,
+                elasticsearchAsyncOperations, mock(RecipeDetailCache.class));
 
     }
 
@@ -95,6 +106,7 @@ class FavoriteServiceTest {
                 .nickname("testNickName")
                 .profileImageUrl("testProfile")
                 .build();
+        ReflectionTestUtils.setField(publisher, "id", 1L);
 
         Favorite favorite = Favorite.builder()
                 .user(new User())
@@ -108,6 +120,8 @@ class FavoriteServiceTest {
                 .thenReturn(Optional.of(new User()));
         when(favoriteRepository.findAllByUserId(any(), any()))
                 .thenReturn(new PageImpl<>(favorites));
+        when(elasticsearchAsyncOperations.count(any(Query.class), eq(RecipeDocument.class)))
+                .thenReturn(CompletableFuture.completedFuture(3L));
 
         Principal principal =
                 new UsernamePasswordAuthenticationToken("test@test.com", null);
@@ -122,6 +136,7 @@ class FavoriteServiceTest {
         assertEquals(publisher.getNickname(), favoriteDto.getPublisherNickName());
         assertEquals(publisher.getId(), favoriteDto.getPublisherId());
         assertEquals(publisher.getProfileImageUrl(), favoriteDto.getPublisherProfilePhotoUrl());
+        assertEquals(3, favoriteDto.getPublisherRecipeCount());
     }
 
     @Test
@@ -0,0 +1,72 @@
+package kr.zb.nengtul.global.jwt;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import java.util.Optional;
+import kr.zb.nengtul.user.domain.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("JWT 토큰 테스트")
+class JwtTokenProviderTest {
+
+  private JwtTokenProvider jwtTokenProvider;
+
+  @BeforeEach
+  void setUp() {
+    jwtTokenProvider = new JwtTokenProvider(mock(UserRepository.class));
+    ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "secret");
+    ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpirationPeriod", 60000L);
+    ReflectionTestUtils.setField(jwtTokenProvider, "refreshTokenExpirationPeriod", 60000L);
+    jwtTokenProvider.init();
+  }
+
+  @Test
+  @DisplayName("토큰 검증 후 claim 에서 이메일 추출")
+  void verifyToken_SUCCESS() {
+    // given
+    String accessToken = jwtTokenProvider.createAccessToken("aa@aa.aa");
+
+    // when
+    Optional<DecodedJWT> decodedJWT = jwtTokenProvider.verifyToken(accessToken);
+
+    // then
+    assertTrue(decodedJWT.isPresent());
+    assertEquals(Optional.of("aa@aa.aa"), jwtTokenProvider.extractEmail(decodedJWT.get()));
+    assertEquals(Optional.of("aa@aa.aa"), jwtTokenProvider.extractEmail(accessToken));
+    assertTrue(jwtTokenProvider.isTokenValid(accessToken));
+  }
+
+  @Test
+  @DisplayName("다른 키로 서명된 토큰은 검증 실패")
+  void verifyToken_FAIL_SIGNATURE() {
+    // given
+    JwtTokenProvider otherProvider = new JwtTokenProvider(mock(UserRepository.class));
+    ReflectionTestUtils.setField(otherProvider, "secretKey", "other");
+    ReflectionTestUtils.setField(otherProvider, "accessTokenExpirationPeriod", 60000L);
+    otherProvider.init();
+
+    String accessToken = otherProvider.createAccessToken("aa@aa.aa");
+
+    // when + then
+    assertFalse(jwtTokenProvider.verifyToken(accessToken).isPresent());
+    assertFalse(jwtTokenProvider.isTokenValid(accessToken));
+  }
+
+  @Test
+  @DisplayName("만료된 토큰은 검증 실패")
+  void verifyToken_FAIL_EXPIRED() {
+    // given
+    ReflectionTestUtils.setField(jwtTokenProvider, "accessTokenExpirationPeriod", -60000L);
+    String accessToken = jwtTokenProvider.createAccessToken("aa@aa.aa");
+
+    // when + then
+    assertFalse(jwtTokenProvider.verifyToken(accessToken).isPresent());
+  }
+}
@@ -19,6 +19,8 @@ import kr.zb.nengtul.likes.domain.entity.Likes;
 import kr.zb.nengtul.likes.domain.repository.LikesRepository;
 import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
 import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
+import kr.zb.nengtul.recipe.service.RecipeDetailCache;
+import kr.zb.nengtul.recipe.service.RecipeLikeCountService;
 import kr.zb.nengtul.user.domain.constants.UserPoint;
 import kr.zb.nengtul.user.domain.entity.User;
 import kr.zb.nengtul.user.domain.repository.UserRepository;
@@ -41,14 +43,21 @@ class LikesServiceTest {
 
   private RecipeSearchRepository recipeSearchRepository;
 
+  private RecipeLikeCountService recipeLikeCountService;
+
+  private RecipeDetailCache recipeDetailCache;
+
   @BeforeEach
   void setUp() {
     likesRepository = mock(LikesRepository.class);
     userRepository = mock(UserRepository.class);
     recipeSearchRepository = mock(RecipeSearchRepository.class);
+    recipeLikeCountService = mock(RecipeLikeCountService.class);
+    recipeDetailCache = mock(RecipeDetailCache.class);
 
     likesService = new LikesService(
-        likesRepository, userRepository, recipeSearchRepository);
+        likesRepository, userRepository, recipeSearchRepository, recipeLikeCountService,
+        recipeDetailCache);
 
   }
 
@@ -76,6 +85,10 @@ class LikesServiceTest {
     //then
     verify(likesRepository, times(1))
         .save(any(Likes.class));
+    verify(recipeLikeCountService, times(1))
+        .increaseLikeCount("recipeId");
+    verify(recipeDetailCache, times(1))
+        .evictAuthor(publisher.getId());
     assertEquals(publisher.getPoint(), UserPoint.LIKES.getPoint());
   }
 
@@ -113,6 +126,7 @@ class LikesServiceTest {
         .title("testTitle")
         .thumbnailUrl("testThumbnailUrl")
         .viewCount(20L)
+        .likeCount(50L)
         .build();
 
     Likes likes = Likes.builder()
@@ -136,9 +150,6 @@ class LikesServiceTest {
     when(userRepository.findById(any()))
         .thenReturn(Optional.of(User.builder().nickname("테스트 닉네임").build()));
 
-    when(likesRepository.countByRecipeId(any()))
-        .thenReturn(50L);
-
     Principal principal = new UsernamePasswordAuthenticationToken(
         "test@test.com", null);
 
@@ -190,6 +201,8 @@ class LikesServiceTest {
     //then
     verify(likesRepository, times(1))
         .delete(any(Likes.class));
+    verify(recipeLikeCountService, times(1))
+        .decreaseLikeCount(any());
     assertEquals(publisher.getPoint(), 0);
   }
 
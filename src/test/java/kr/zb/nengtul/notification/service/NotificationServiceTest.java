@@ -0,0 +1,130 @@
+package kr.zb.nengtul.notification.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import kr.zb.nengtul.notification.domain.constants.NotificationType;
+import kr.zb.nengtul.notification.domain.dto.NotificationSyncDto;
+import kr.zb.nengtul.notification.domain.entity.Notification;
+import kr.zb.nengtul.notification.domain.repository.NotificationJdbcRepository;
+import kr.zb.nengtul.notification.domain.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("알림 보관함 서비스 테스트")
+class NotificationServiceTest {
+
+  private NotificationService notificationService;
+
+  private NotificationRepository notificationRepository;
+
+  private NotificationJdbcRepository notificationJdbcRepository;
+
+  @BeforeEach
+  void setUp() {
+    notificationRepository = mock(NotificationRepository.class);
+    notificationJdbcRepository = mock(NotificationJdbcRepository.class);
+
+    notificationService = new NotificationService(notificationRepository,
+        notificationJdbcRepository, new ObjectMapper());
+    ReflectionTestUtils.setField(notificationService, "inboxCapacity", 3);
+    ReflectionTestUtils.setField(notificationService, "retentionDays", 30);
+  }
+
+  @Test
+  @DisplayName("같은 알림을 여러 회원에게 저장할 때 payload 는 한 번만 JSON 으로 변환")
+  void saveAll_SUCCESS() {
+    //when
+    notificationService.saveAll(List.of(1L, 2L), NotificationType.RECIPE,
+        Map.of("recipeId", "abc"));
+
+    //then
+    verify(notificationJdbcRepository).saveAll(eq(List.of(1L, 2L)), eq(NotificationType.RECIPE),
+        eq("{\"recipeId\":\"abc\"}"), any(LocalDateTime.class));
+    verify(notificationJdbcRepository).trim(List.of(1L, 2L), 3);
+  }
+
+  @Test
+  @DisplayName("since 이후 알림을 오래된 순으로 조회하고 마지막 id 를 다음 cursor 로 반환")
+  void sync_SUCCESS() {
+    //given
+    when(notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(10L),
+        any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(notification(11L), notification(12L)),
+            PageRequest.of(0, 2), true));
+    when(notificationRepository.countByUserId(1L)).thenReturn(2L);
+
+    //when
+    NotificationSyncDto result = notificationService.sync(1L, 10L, 2);
+
+    //then
+    assertEquals(2, result.getNotifications().size());
+    assertEquals(12L, result.getNextCursor());
+    assertTrue(result.isHasNext());
+    assertFalse(result.isTruncated());
+  }
+
+  @Test
+  @DisplayName("보관함이 가득 찬 상태에서 남아 있는 가장 오래된 알림이 since 이후면 truncated")
+  void sync_TRUNCATED() {
+    //given
+    when(notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(10L),
+        any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(notification(13L), notification(14L),
+            notification(15L)), PageRequest.of(0, 50), false));
+    when(notificationRepository.countByUserId(1L)).thenReturn(3L);
+    when(notificationRepository.findOldestIdByUserId(1L)).thenReturn(Optional.of(13L));
+
+    //when
+    NotificationSyncDto result = notificationService.sync(1L, 10L, null);
+
+    //then
+    assertEquals(15L, result.getNextCursor());
+    assertTrue(result.isTruncated());
+  }
+
+  @Test
+  @DisplayName("받을 알림이 없으면 since 를 그대로 다음 cursor 로 반환")
+  void sync_EMPTY() {
+    //given
+    when(notificationRepository.findByUserIdAndIdGreaterThanOrderByIdAsc(eq(1L), eq(15L),
+        any(Pageable.class)))
+        .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 50), false));
+    when(notificationRepository.countByUserId(1L)).thenReturn(3L);
+    when(notificationRepository.findOldestIdByUserId(1L)).thenReturn(Optional.of(13L));
+
+    //when
+    NotificationSyncDto result = notificationService.sync(1L, 15L, null);
+
+    //then
+    assertEquals(15L, result.getNextCursor());
+    assertFalse(result.isTruncated());
+  }
+
+  private Notification notification(Long id) {
+    return Notification.builder()
+        .id(id)
+        .userId(1L)
+        .type(NotificationType.RECIPE)
+        .payload("{}")
+        .createdAt(LocalDateTime.now())
+        .build();
+  }
+
+}
@@ -0,0 +1,86 @@
+package kr.zb.nengtul.recipe.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@DisplayName("ES 비동기 호출 테스트")
+class ElasticsearchAsyncOperationsTest {
+
+  private ElasticsearchAsyncOperations elasticsearchAsyncOperations;
+
+  private ElasticsearchOperations elasticsearchOperations;
+
+  @BeforeEach
+  void setUp() {
+    elasticsearchOperations = mock(ElasticsearchOperations.class);
+
+    ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(2);
+    executor.initialize();
+
+    elasticsearchAsyncOperations =
+        new ElasticsearchAsyncOperations(elasticsearchOperations, executor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    elasticsearchAsyncOperations.shutdown();
+  }
+
+  @Test
+  @DisplayName("독립적인 ES 호출은 동시에 실행")
+  void execute_CONCURRENTLY() {
+    //given
+    Query query = mock(Query.class);
+    CountDownLatch bothStarted = new CountDownLatch(2);
+
+    // 두 호출이 모두 시작되어야 반환되므로 순차 실행이면 시간 초과로 실패
+    when(elasticsearchOperations.count(eq(query), eq(RecipeDocument.class)))
+        .thenAnswer(invocation -> {
+          bothStarted.countDown();
+          return bothStarted.await(1, TimeUnit.SECONDS) ? 1L : -1L;
+        });
+
+    //when
+    CompletableFuture<Long> first =
+        elasticsearchAsyncOperations.count(query, RecipeDocument.class);
+    CompletableFuture<Long> second =
+        elasticsearchAsyncOperations.count(query, RecipeDocument.class);
+
+    //then
+    assertEquals(1L, first.join());
+    assertEquals(1L, second.join());
+  }
+
+  @Test
+  @DisplayName("ES 호출 실패는 CompletableFuture 예외로 전달")
+  void execute_FAIL() {
+    //given
+    when(elasticsearchOperations.count(any(Query.class), eq(RecipeDocument.class)))
+        .thenThrow(new IllegalStateException("es down"));
+
+    //when
+    CompletableFuture<Long> count =
+        elasticsearchAsyncOperations.count(mock(Query.class), RecipeDocument.class);
+
+    //then
+    assertTrue(count.handle((result, e) -> e != null).join());
+  }
+
+}
@@ -0,0 +1,103 @@
+package kr.zb.nengtul.recipe.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import kr.zb.nengtul.recipe.domain.dto.RecipeAuthorDto;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("레시피 상세 캐시 테스트")
+class RecipeDetailCacheTest {
+
+  private RecipeDetailCache recipeDetailCache;
+
+  @BeforeEach
+  void setUp() {
+    recipeDetailCache = new RecipeDetailCache();
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("트랜잭션 밖에서는 바로 제거")
+  void evictRecipe() {
+    //given
+    cacheRecipe("recipe1", "제목1");
+
+    //when
+    recipeDetailCache.evictRecipe("recipe1");
+
+    //then
+    assertEquals("제목2", cacheRecipe("recipe1", "제목2"));
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서는 커밋된 뒤에 제거")
+  void evictRecipe_AfterCommit() {
+    //given
+    cacheRecipe("recipe1", "제목1");
+    TransactionSynchronizationManager.initSynchronization();
+
+    //when
+    recipeDetailCache.evictRecipe("recipe1");
+
+    //then
+    // 커밋 전에 다시 조회해도 제거되지 않았으므로 커밋 전 값이 새로 캐싱되지 않음
+    assertEquals("제목1", cacheRecipe("recipe1", "제목2"));
+
+    afterCommit();
+    assertEquals("제목3", cacheRecipe("recipe1", "제목3"));
+  }
+
+  @Test
+  @DisplayName("롤백되면 작성자 캐시를 제거하지 않음")
+  void evictAuthor_Rollback() {
+    //given
+    recipeDetailCache.getAuthor(1L, id -> Optional.of(author("닉네임1")));
+    TransactionSynchronizationManager.initSynchronization();
+
+    //when
+    recipeDetailCache.evictAuthor(1L);
+    TransactionSynchronizationManager.getSynchronizations()
+        .forEach(synchronization ->
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+    //then
+    assertTrue(recipeDetailCache.getAuthor(1L, id -> Optional.of(author("닉네임2")))
+        .map(author -> author.getNickName().equals("닉네임1"))
+        .orElse(false));
+  }
+
+  private String cacheRecipe(String recipeId, String title) {
+    return recipeDetailCache.getRecipe(recipeId,
+            id -> Optional.of(RecipeDocument.builder().id(id).title(title).build()))
+        .map(RecipeDocument::getTitle)
+        .orElse(null);
+  }
+
+  private RecipeAuthorDto author(String nickname) {
+    return RecipeAuthorDto.builder()
+        .nickName(nickname)
+        .build();
+  }
+
+  private void afterCommit() {
+    List<TransactionSynchronization> synchronizations =
+        TransactionSynchronizationManager.getSynchronizations();
+    TransactionSynchronizationManager.clearSynchronization();
+    synchronizations.forEach(TransactionSynchronization::afterCommit);
+  }
+}
@@ -0,0 +1,390 @@
+package kr.zb.nengtul.recipe.service;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import kr.zb.nengtul.global.exception.CustomException;
+import kr.zb.nengtul.global.exception.ErrorCode;
+import kr.zb.nengtul.recipe.domain.dto.RecipeTaskStatusDto;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import kr.zb.nengtul.recipe.domain.entity.RecipeIndexMigration;
+import kr.zb.nengtul.recipe.domain.entity.RecipeOwnerReassign;
+import kr.zb.nengtul.recipe.domain.repository.RecipeIndexMigrationJdbcRepository;
+import kr.zb.nengtul.recipe.domain.repository.RecipeOwnerReassignRepository;
+import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.MultiGetItem;
+import org.springframework.data.elasticsearch.core.document.Document;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.index.Settings;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+@DisplayName("레시피 인덱스 관리 테스트")
+class RecipeIndexManagerTest {
+
+  private static final String CURRENT_INDEX =
+      RecipeIndexManager.RECIPE_ALIAS + "_v" + RecipeIndexManager.RECIPE_INDEX_VERSION;
+
+  private RecipeIndexManager recipeIndexManager;
+
+  private ElasticsearchOperations elasticsearchOperations;
+
+  private RecipeSearchRepository recipeSearchRepository;
+
+  private RecipeIndexMigrationJdbcRepository recipeIndexMigrationJdbcRepository;
+
+  private RecipeOwnerReassignRepository recipeOwnerReassignRepository;
+
+  private IndexOperations aliasIndexOps;
+
+  private IndexOperations targetIndexOps;
+
+  // DB 에 저장된 재색인 잠금
+  private volatile RecipeIndexMigration lock;
+
+  @BeforeEach
+  void setUp() {
+    elasticsearchOperations = mock(ElasticsearchOperations.class);
+    recipeSearchRepository = mock(RecipeSearchRepository.class);
+    recipeIndexMigrationJdbcRepository = mock(RecipeIndexMigrationJdbcRepository.class);
+    recipeOwnerReassignRepository = mock(RecipeOwnerReassignRepository.class);
+    aliasIndexOps = mock(IndexOperations.class);
+    targetIndexOps = mock(IndexOperations.class);
+
+    IndexOperations recipeIndexOps = mock(IndexOperations.class);
+    when(recipeIndexOps.createSettings()).thenReturn(new Settings());
+    when(recipeIndexOps.createMapping()).thenReturn(Document.create());
+
+    when(elasticsearchOperations.indexOps(RecipeDocument.class)).thenReturn(recipeIndexOps);
+    when(elasticsearchOperations.indexOps(any(IndexCoordinates.class))).thenReturn(targetIndexOps);
+    when(elasticsearchOperations.indexOps(IndexCoordinates.of(RecipeIndexManager.RECIPE_ALIAS)))
+        .thenReturn(aliasIndexOps);
+
+    lock = null;
+    when(recipeIndexMigrationJdbcRepository.tryLock(any(RecipeIndexMigration.class),
+        any(LocalDateTime.class))).thenAnswer(invocation -> {
+      lock = invocation.getArgument(0);
+      return true;
+    });
+    when(recipeIndexMigrationJdbcRepository.find(RecipeIndexManager.RECIPE_ALIAS))
+        .thenAnswer(invocation -> Optional.ofNullable(lock));
+    when(recipeIndexMigrationJdbcRepository.heartbeat(eq(RecipeIndexManager.RECIPE_ALIAS),
+        anyString(), any(LocalDateTime.class))).thenReturn(true);
+    doAnswer(invocation -> lock = null).when(recipeIndexMigrationJdbcRepository)
+        .unlock(eq(RecipeIndexManager.RECIPE_ALIAS), anyString());
+
+    recipeIndexManager = new RecipeIndexManager(elasticsearchOperations, recipeSearchRepository,
+        recipeIndexMigrationJdbcRepository, recipeOwnerReassignRepository);
+    recipeIndexManager.init();
+  }
+
+  @AfterEach
+  void tearDown() {
+    recipeIndexManager.shutdown();
+  }
+
+  @Test
+  @DisplayName("인덱스가 없으면 현재 버전 인덱스를 만들고 alias 연결")
+  void initRecipeIndex_CREATE() {
+    //given
+    when(aliasIndexOps.getAliases(RecipeIndexManager.RECIPE_ALIAS)).thenReturn(Map.of());
+    when(aliasIndexOps.exists()).thenReturn(false);
+
+    ArgumentCaptor<AliasActions> captor = ArgumentCaptor.forClass(AliasActions.class);
+
+    //when
+    recipeIndexManager.initRecipeIndex();
+
+    //then
+    verify(elasticsearchOperations).indexOps(IndexCoordinates.of(CURRENT_INDEX));
+    verify(targetIndexOps, times(1)).create(any(Settings.class), any(Document.class));
+    verify(aliasIndexOps).alias(captor.capture());
+    verify(recipeSearchRepository, never()).submitReindexTask(anyString(), anyString());
+
+    List<AliasAction> actions = captor.getValue().getActions();
+    assertEquals(1, actions.size());
+    assertInstanceOf(AliasAction.Add.class, actions.get(0));
+    assertArrayEquals(new String[]{CURRENT_INDEX}, actions.get(0).getParameters().getIndices());
+  }
+
+  @Test
+  @DisplayName("alias 가 현재 버전 인덱스를 가리키면 아무것도 하지 않음")
+  void initRecipeIndex_CURRENT_VERSION() {
+    //given
+    when(aliasIndexOps.getAliases(RecipeIndexManager.RECIPE_ALIAS))
+        .thenReturn(Map.of(CURRENT_INDEX + "_1690000000000", Set.of()));
+
+    //when
+    recipeIndexManager.initRecipeIndex();
+
+    //then
+    verify(targetIndexOps, never()).create(any(Settings.class), any(Document.class));
+    verify(aliasIndexOps, never()).alias(any());
+  }
+
+  @Test
+  @DisplayName("이전 버전 인덱스는 기동 중에 재색인하지 않음")
+  void initRecipeIndex_OLD_VERSION() {
+    //given
+    when(aliasIndexOps.getAliases(RecipeIndexManager.RECIPE_ALIAS))
+        .thenReturn(Map.of("recipe_v0", Set.of()));
+
+    //when
+    recipeIndexManager.initRecipeIndex();
+
+    //then
+    verify(recipeIndexMigrationJdbcRepository, never()).tryLock(any(), any());
+    verify(recipeSearchRepository, never()).submitReindexTask(anyString(), anyString());
+    verify(aliasIndexOps, never()).alias(any());
+  }
+
+  @Test
+  @DisplayName("잠금을 얻은 뒤 백그라운드에서 재색인하고, 재색인 중 변경된 문서와 작성자 변경을 새 인덱스에 반영한 뒤 alias 를 한 번에 옮김")
+  void startMigration_MIGRATE() {
+    //given
+    IndexCoordinates sourceIndex = IndexCoordinates.of("recipe_v0");
+    RecipeDocument recipeDocument = RecipeDocument.builder().id("recipe1").build();
+    RecipeDocument updatedDocument = RecipeDocument.builder().id("recipe2").likeCount(1L).build();
+    List<UpdateQuery> updateQueries = List.of(UpdateQuery.builder("recipe2")
+        .withDocument(Document.from(Map.of("likeCount", 1L))).build());
+
+    when(aliasIndexOps.getAliases(RecipeIndexManager.RECIPE_ALIAS))
+        .thenReturn(Map.of("recipe_v0", Set.of()));
+    when(recipeSearchRepository.submitReindexTask(eq("recipe_v0"), anyString()))
+        .thenReturn("node1:1");
+    // 재색인 진행 중 레시피 저장, 삭제, 좋아요 수 반영
+    when(recipeSearchRepository.findTaskStatus("node1:1")).thenAnswer(invocation -> {
+      recipeIndexManager.saveToMigratingIndex(recipeDocument);
+      recipeIndexManager.deleteFromMigratingIndex("recipe3");
+      recipeIndexManager.updateMigratingIndex(updateQueries);
+      return Optional.of(RecipeTaskStatusDto.builder().completed(true).build());
+    });
+    when(recipeIndexMigrationJdbcRepository.findDirtyRecipeIds())
+        .thenReturn(List.of("recipe1", "recipe3", "recipe2"), List.of());
+    when(elasticsearchOperations.multiGet(any(Query.class), eq(RecipeDocument.class),
+        eq(sourceIndex)))
+        .thenReturn(List.of(MultiGetItem.of(recipeDocument, null),
+            MultiGetItem.of(updatedDocument, null)));
+    // 끝나지 않은 작성자 변경 작업
+    when(recipeOwnerReassignRepository.findAll()).thenReturn(List.of(RecipeOwnerReassign.builder()
+        .fromUserId(1L)
+        .toUserId(2L)
+        .build()));
+    when(recipeSearchRepository.submitUserIdUpdateTask(eq(1L), eq(2L), anyString()))
+        .thenReturn("node1:2");
+    when(recipeSearchRepository.findTaskStatus("node1:2"))
+        .thenReturn(Optional.of(RecipeTaskStatusDto.builder().completed(true).build()));
+
+    ArgumentCaptor<AliasActions> captor = ArgumentCaptor.forClass(AliasActions.class);
+
+    //when
+    recipeIndexManager.startMigration();
+
+    //then
+    verify(recipeIndexMigrationJdbcRepository, timeout(1000))
+        .unlock(eq(RecipeIndexManager.RECIPE_ALIAS), anyString());
+
+    String targetIndexName = capturedLock().getTargetIndex();
+    IndexCoordinates targetIndex = IndexCoordinates.of(targetIndexName);
+    assertTrue(targetIndexName.startsWith(CURRENT_INDEX + "_"));
+
+    verify(targetIndexOps, times(1)).create(any(Settings.class), any(Document.class));
+    verify(targetIndexOps, never()).delete();
+    verify(elasticsearchOperations, times(1)).save(recipeDocument, targetIndex);
+    verify(elasticsearchOperations, times(1)).bulkUpdate(updateQueries, targetIndex);
+    verify(recipeIndexMigrationJdbcRepository, times(3)).saveDirtyRecipeIds(anyCollection());
+    // 재색인이 다시 복사했을 수 있으므로 기존 인덱스에 없는 문서는 alias 변경 전에 한 번 더 삭제
+    verify(elasticsearchOperations, times(2)).delete("recipe3", targetIndex);
+
+    InOrder inOrder = inOrder(recipeIndexMigrationJdbcRepository, elasticsearchOperations,
+        recipeSearchRepository, aliasIndexOps);
+    inOrder.verify(recipeIndexMigrationJdbcRepository)
+        .deleteDirtyRecipeIds(List.of("recipe1", "recipe3", "recipe2"));
+    inOrder.verify(elasticsearchOperations)
+        .save(List.of(recipeDocument, updatedDocument), targetIndex);
+    // 기존 인덱스에만 적용된 작성자 변경을 alias 변경 전에 새 인덱스에도 적용
+    inOrder.verify(recipeSearchRepository).submitUserIdUpdateTask(1L, 2L, targetIndexName);
+    inOrder.verify(recipeSearchRepository).findTaskStatus("node1:2");
+    inOrder.verify(aliasIndexOps).alias(captor.capture());
+    inOrder.verify(recipeIndexMigrationJdbcRepository)
+        .unlock(eq(RecipeIndexManager.RECIPE_ALIAS), anyString());
+
+    List<AliasAction> actions = captor.getValue().getActions();
+    assertEquals(2, actions.size());
+    assertInstanceOf(AliasAction.Remove.class, actions.get(0));
+    assertArrayEquals(new String[]{"recipe_v0"}, actions.get(0).getParameters().getIndices());
+    assertInstanceOf(AliasAction.Add.class, actions.get(1));
+    assertArrayEquals(new String[]{targetIndexName}, actions.get(1).getParameters().getIndices());
+  }
+
+  @Test
+  @DisplayName("alias 도입 전 recipe 인덱스는 재색인 후 alias 추가와 함께 삭제")
+  void startMigration_LEGACY_INDEX() {
+    //given
+    when(aliasIndexOps.getAliases(RecipeIndexManager.RECIPE_ALIAS)).thenReturn(Map.of());
+    when(aliasIndexOps.exists()).thenReturn(true);
+    when(recipeSearchRepository.submitReindexTask(eq(RecipeIndexManager.RECIPE_ALIAS),
+        anyString())).thenReturn("node1:1");
+    when(recipeSearchRepository.findTaskStatus("node1:1"))
+        .thenReturn(Optional.of(RecipeTaskStatusDto.builder().completed(true).build()));
+
+    ArgumentCaptor<AliasActions> captor = ArgumentCaptor.forClass(AliasActions.class);
+
+    //when
+    recipeIndexManager.startMigration();
+
+    //then
+    verify(aliasIndexOps, timeout(1000)).alias(captor.capture());
+
+    List<AliasAction> actions = captor.getValue().getActions();
+    assertInstanceOf(AliasAction.RemoveIndex.class, actions.get(0));
+    assertInstanceOf(AliasAction.Add.class, actions.get(1));
+  }
+
+  @Test
+  @DisplayName("다른 서버가 재색인 중이면 새 인덱스를 만들지 않고 실패")
+  void startMigration_LOCKED() {
+    //given
+    when(aliasIndexOps.getAliases(RecipeIndexManager.RECIPE_ALIAS))
+        .thenReturn(Map.of("recipe_v0", Set.of()));
+    when(recipeIndexMigrationJdbcRepository.tryLock(any(RecipeIndexMigration.class),
+        any(LocalDateTime.class))).thenReturn(false);
+
+    //when
+    CustomException exception =
+        assertThrows(CustomException.class, () -> recipeIndexManager.startMigration());
+
+    //then
+    assertEquals(ErrorCode.ALREADY_MIGRATING_RECIPE_INDEX, exception.getErrorCode());
+    verify(targetIndexOps, never()).create(any(Settings.class), any(Document.class));
+    verify(targetIndexOps, never()).delete();
+    verify(recipeSearchRepository, never()).submitReindexTask(anyString(), anyString());
+  }
+
+  @Test
+  @DisplayName("이미 현재 버전이면 재색인하지 않음")
+  void startMigration_CURRENT_VERSION() {
+    //given
+    when(aliasIndexOps.getAliases(RecipeIndexManager.RECIPE_ALIAS))
+        .thenReturn(Map.of(CURRENT_INDEX, Set.of()));
+
+    //when
+    CustomException exception =
+        assertThrows(CustomException.class, () -> recipeIndexManager.startMigration());
+
+    //then
+    assertEquals(ErrorCode.ALREADY_CURRENT_RECIPE_INDEX, exception.getErrorCode());
+    verify(recipeIndexMigrationJdbcRepository, never()).tryLock(any(), any());
+  }
+
+  @Test
+  @DisplayName("재색인 실패 시 alias 는 기존 인덱스에 그대로 두고 잠금 해제")
+  void startMigration_REINDEX_FAIL() {
+    //given
+    when(aliasIndexOps.getAliases(RecipeIndexManager.RECIPE_ALIAS))
+        .thenReturn(Map.of("recipe_v0", Set.of()));
+    when(recipeSearchRepository.submitReindexTask(eq("recipe_v0"), anyString()))
+        .thenReturn("node1:1");
+    when(recipeSearchRepository.findTaskStatus("node1:1")).thenReturn(Optional.empty());
+
+    //when
+    recipeIndexManager.startMigration();
+    verify(recipeIndexMigrationJdbcRepository, timeout(1000))
+        .unlock(eq(RecipeIndexManager.RECIPE_ALIAS), anyString());
+    recipeIndexManager.saveToMigratingIndex(RecipeDocument.builder().id("recipe1").build());
+
+    //then
+    verify(aliasIndexOps, never()).alias(any());
+    verify(targetIndexOps, never()).delete();
+    verify(elasticsearchOperations, never()).save(any(RecipeDocument.class),
+        any(IndexCoordinates.class));
+  }
+
+  @Test
+  @DisplayName("잠금이 만료되어 다른 서버가 가져가면 alias 를 옮기지 않음")
+  void startMigration_LOCK_LOST() {
+    //given
+    when(aliasIndexOps.getAliases(RecipeIndexManager.RECIPE_ALIAS))
+        .thenReturn(Map.of("recipe_v0", Set.of()));
+    when(recipeSearchRepository.submitReindexTask(eq("recipe_v0"), anyString()))
+        .thenReturn("node1:1");
+    when(recipeSearchRepository.findTaskStatus("node1:1"))
+        .thenReturn(Optional.of(RecipeTaskStatusDto.builder().completed(true).build()));
+    when(recipeIndexMigrationJdbcRepository.heartbeat(eq(RecipeIndexManager.RECIPE_ALIAS),
+        anyString(), any(LocalDateTime.class))).thenReturn(false);
+
+    //when
+    recipeIndexManager.startMigration();
+
+    //then
+    verify(recipeIndexMigrationJdbcRepository, timeout(1000))
+        .unlock(eq(RecipeIndexManager.RECIPE_ALIAS), anyString());
+    verify(recipeSearchRepository, never()).findTaskStatus(anyString());
+    verify(aliasIndexOps, never()).alias(any());
+  }
+
+  @Test
+  @DisplayName("다른 서버가 재색인 중이면 쓰기를 새 인덱스에도 반영하고 변경된 문서를 기록")
+  void refreshMigratingIndex_OTHER_SERVER() {
+    //given
+    IndexCoordinates targetIndex = IndexCoordinates.of(CURRENT_INDEX + "_1");
+    RecipeDocument recipeDocument = RecipeDocument.builder().id("recipe1").build();
+    lock = RecipeIndexMigration.builder()
+        .aliasName(RecipeIndexManager.RECIPE_ALIAS)
+        .sourceIndex("recipe_v0")
+        .targetIndex(targetIndex.getIndexName())
+        .owner("other")
+        .heartbeatAt(LocalDateTime.now())
+        .build();
+
+    //when
+    recipeIndexManager.refreshMigratingIndex();
+    recipeIndexManager.saveToMigratingIndex(recipeDocument);
+    // alias 변경 후 잠금이 해제되면 다음 상태 확인 전이라도 반영하지 않음
+    lock = null;
+    recipeIndexManager.saveToMigratingIndex(recipeDocument);
+
+    //then
+    verify(elasticsearchOperations, times(1)).save(recipeDocument, targetIndex);
+    verify(recipeIndexMigrationJdbcRepository, times(1)).saveDirtyRecipeIds(List.of("recipe1"));
+  }
+
+  // 재색인이 끝나면 잠금이 지워지므로 tryLock 에 넘긴 값을 다시 확인
+  private RecipeIndexMigration capturedLock() {
+    ArgumentCaptor<RecipeIndexMigration> captor =
+        ArgumentCaptor.forClass(RecipeIndexMigration.class);
+    verify(recipeIndexMigrationJdbcRepository).tryLock(captor.capture(), any(LocalDateTime.class));
+    return captor.getValue();
+  }
+
+}
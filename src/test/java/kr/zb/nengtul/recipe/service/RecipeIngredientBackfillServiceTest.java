@@ -0,0 +1,103 @@
+package kr.zb.nengtul.recipe.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+@DisplayName("레시피 재료 필드 채우기 서비스 테스트")
+class RecipeIngredientBackfillServiceTest {
+
+  private RecipeIngredientBackfillService recipeIngredientBackfillService;
+
+  private ElasticsearchOperations elasticsearchOperations;
+
+  private RecipeIndexManager recipeIndexManager;
+
+  @BeforeEach
+  void setUp() {
+    elasticsearchOperations = mock(ElasticsearchOperations.class);
+    recipeIndexManager = mock(RecipeIndexManager.class);
+
+    recipeIngredientBackfillService = new RecipeIngredientBackfillService(
+        elasticsearchOperations, recipeIndexManager);
+  }
+
+  @Test
+  @DisplayName("ingredient 파싱 결과로 ingredientDetails, ingredientNames 채우기")
+  @SuppressWarnings("unchecked")
+  void backfillIngredient() {
+    //given
+    RecipeDocument recipeDocument = RecipeDocument.builder()
+        .id("recipe1")
+        .ingredient("양파 1/2개, 소금 약간")
+        .build();
+
+    SearchHit<RecipeDocument> searchHit = mock(SearchHit.class);
+    when(searchHit.getContent()).thenReturn(recipeDocument);
+
+    SearchHitsIterator<RecipeDocument> searchHits = mock(SearchHitsIterator.class);
+    when(searchHits.hasNext()).thenReturn(true, false);
+    when(searchHits.next()).thenReturn(searchHit);
+    when(elasticsearchOperations.searchForStream(any(Query.class), eq(RecipeDocument.class)))
+        .thenReturn(searchHits);
+
+    ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+
+    //when
+    recipeIngredientBackfillService.backfillIngredient();
+
+    //then
+    verify(elasticsearchOperations, times(1))
+        .bulkUpdate(captor.capture(), eq(RecipeDocument.class));
+    verify(recipeIndexManager, times(1)).updateMigratingIndex(captor.getValue());
+
+    UpdateQuery updateQuery = captor.getValue().get(0);
+    assertEquals("recipe1", updateQuery.getId());
+    assertEquals(List.of("양파", "소금"), updateQuery.getDocument().get("ingredientNames"));
+
+    List<Map<String, Object>> ingredientDetails =
+        (List<Map<String, Object>>) updateQuery.getDocument().get("ingredientDetails");
+    assertEquals(2, ingredientDetails.size());
+    assertEquals("양파", ingredientDetails.get(0).get("name"));
+    assertEquals("1/2", ingredientDetails.get(0).get("quantity"));
+    assertEquals("개", ingredientDetails.get(0).get("unit"));
+  }
+
+  @Test
+  @DisplayName("채울 문서가 없으면 업데이트하지 않음")
+  @SuppressWarnings("unchecked")
+  void backfillIngredient_Empty() {
+    //given
+    SearchHitsIterator<RecipeDocument> searchHits = mock(SearchHitsIterator.class);
+    when(searchHits.hasNext()).thenReturn(false);
+    when(elasticsearchOperations.searchForStream(any(Query.class), eq(RecipeDocument.class)))
+        .thenReturn(searchHits);
+
+    //when
+    recipeIngredientBackfillService.backfillIngredient();
+
+    //then
+    verify(elasticsearchOperations, never()).bulkUpdate(anyList(), eq(RecipeDocument.class));
+    verify(recipeIndexManager, never()).updateMigratingIndex(anyList());
+  }
+
+}
@@ -0,0 +1,241 @@
+package kr.zb.nengtul.recipe.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import kr.zb.nengtul.likes.domain.dto.LikesCountDto;
+import kr.zb.nengtul.likes.domain.repository.LikesRepository;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHitsIterator;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.data.elasticsearch.core.query.Query;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("레시피 좋아요 수 서비스 테스트")
+class RecipeLikeCountServiceTest {
+
+  private RecipeLikeCountService recipeLikeCountService;
+
+  private ElasticsearchOperations elasticsearchOperations;
+
+  private LikesRepository likesRepository;
+
+  private RecipeIndexManager recipeIndexManager;
+
+  @BeforeEach
+  void setUp() {
+    elasticsearchOperations = mock(ElasticsearchOperations.class);
+    likesRepository = mock(LikesRepository.class);
+    recipeIndexManager = mock(RecipeIndexManager.class);
+
+    recipeLikeCountService = new RecipeLikeCountService(elasticsearchOperations, likesRepository,
+        recipeIndexManager);
+  }
+
+  @Test
+  @DisplayName("좋아요 수 증가 - 부분 업데이트")
+  void increaseLikeCount() {
+    //given
+    ArgumentCaptor<UpdateQuery> captor = ArgumentCaptor.forClass(UpdateQuery.class);
+
+    //when
+    recipeLikeCountService.increaseLikeCount("recipeId");
+
+    //then
+    verify(elasticsearchOperations, times(1)).update(captor.capture(), any());
+    assertEquals("recipeId", captor.getValue().getId());
+    assertEquals(1, captor.getValue().getParams().get("count"));
+  }
+
+  @Test
+  @DisplayName("좋아요 수 반영 실패 시 예외를 던지지 않음")
+  void decreaseLikeCount_Fail() {
+    //given
+    when(elasticsearchOperations.update(any(UpdateQuery.class), any()))
+        .thenThrow(new DataAccessResourceFailureException("es down"));
+
+    //when
+    recipeLikeCountService.decreaseLikeCount("recipeId");
+
+    //then
+    verify(elasticsearchOperations, times(1)).update(any(UpdateQuery.class), any());
+  }
+
+  @Test
+  @DisplayName("MySQL 좋아요 수와 다른 문서만 보정")
+  @SuppressWarnings("unchecked")
+  void reconcileLikeCount() {
+    //given
+    List<RecipeDocument> recipeDocuments = List.of(
+        RecipeDocument.builder().id("recipe1").likeCount(2L).build(),
+        RecipeDocument.builder().id("recipe2").likeCount(5L).build(),
+        RecipeDocument.builder().id("recipe3").build());
+
+    SearchHitsIterator<RecipeDocument> searchHits = mock(SearchHitsIterator.class);
+    List<SearchHit<RecipeDocument>> hits = recipeDocuments.stream()
+        .map(recipeDocument -> {
+          SearchHit<RecipeDocument> searchHit = mock(SearchHit.class);
+          when(searchHit.getContent()).thenReturn(recipeDocument);
+          return searchHit;
+        })
+        .toList();
+
+    when(searchHits.hasNext()).thenReturn(true, true, true, false);
+    when(searchHits.next()).thenReturn(hits.get(0), hits.get(1), hits.get(2));
+    when(elasticsearchOperations.searchForStream(any(Query.class), eq(RecipeDocument.class)))
+        .thenReturn(searchHits);
+
+    LikesCountDto recipe1 = mock(LikesCountDto.class);
+    when(recipe1.getRecipeId()).thenReturn("recipe1");
+    when(recipe1.getLikeCount()).thenReturn(2L);
+
+    LikesCountDto recipe2 = mock(LikesCountDto.class);
+    when(recipe2.getRecipeId()).thenReturn("recipe2");
+    when(recipe2.getLikeCount()).thenReturn(4L);
+
+    when(likesRepository.countAllByRecipeIdIn(any()))
+        .thenReturn(List.of(recipe1, recipe2));
+
+    ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+
+    //when
+    recipeLikeCountService.reconcileLikeCount();
+
+    //then
+    verify(elasticsearchOperations, times(1))
+        .bulkUpdate(captor.capture(), eq(RecipeDocument.class));
+    verify(elasticsearchOperations, never())
+        .update(any(UpdateQuery.class), any(IndexCoordinates.class));
+
+    // 조회한 값과 같을 때만 바꾸도록 조회한 값을 함께 보냄
+    List<UpdateQuery> updateQueries = captor.getValue();
+    assertEquals(2, updateQueries.size());
+    assertEquals("recipe2", updateQueries.get(0).getId());
+    assertEquals(5L, updateQueries.get(0).getParams().get("expected"));
+    assertEquals(4L, updateQueries.get(0).getParams().get("count"));
+    assertEquals("recipe3", updateQueries.get(1).getId());
+    assertNull(updateQueries.get(1).getParams().get("expected"));
+    assertEquals(0L, updateQueries.get(1).getParams().get("count"));
+  }
+
+  @Test
+  @DisplayName("한 chunk 반영이 실패해도 나머지 chunk 는 계속 보정")
+  void reconcileLikeCount_ChunkFail() {
+    //given
+    List<SearchHit<RecipeDocument>> hits = IntStream.range(0, 501)
+        .mapToObj(i -> searchHit(RecipeDocument.builder().id("recipe" + i).likeCount(1L).build()))
+        .toList();
+
+    SearchHitsIterator<RecipeDocument> searchHits = searchHitsOf(hits);
+    when(elasticsearchOperations.searchForStream(any(Query.class), eq(RecipeDocument.class)))
+        .thenReturn(searchHits);
+    when(likesRepository.countAllByRecipeIdIn(any())).thenReturn(List.of());
+    doThrow(new DataAccessResourceFailureException("es down"))
+        .doNothing()
+        .when(elasticsearchOperations).bulkUpdate(anyList(), eq(RecipeDocument.class));
+
+    //when
+    recipeLikeCountService.reconcileLikeCount();
+
+    //then
+    verify(elasticsearchOperations, times(2)).bulkUpdate(anyList(), eq(RecipeDocument.class));
+    verify(recipeIndexManager, times(1)).updateMigratingIndex(anyList());
+  }
+
+  @Test
+  @DisplayName("likeCount 가 없는 문서를 MySQL 좋아요 수로 채움")
+  @SuppressWarnings("unchecked")
+  void backfillLikeCount() {
+    //given
+    SearchHitsIterator<RecipeDocument> searchHits = searchHitsOf(List.of(
+        searchHit(RecipeDocument.builder().id("recipe1").build()),
+        searchHit(RecipeDocument.builder().id("recipe2").build())));
+    when(elasticsearchOperations.searchForStream(any(Query.class), eq(RecipeDocument.class)))
+        .thenReturn(searchHits);
+
+    LikesCountDto recipe1 = mock(LikesCountDto.class);
+    when(recipe1.getRecipeId()).thenReturn("recipe1");
+    when(recipe1.getLikeCount()).thenReturn(3L);
+    when(likesRepository.countAllByRecipeIdIn(List.of("recipe1", "recipe2")))
+        .thenReturn(List.of(recipe1));
+
+    ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+
+    //when
+    recipeLikeCountService.backfillLikeCount();
+
+    //then
+    verify(elasticsearchOperations, times(1))
+        .bulkUpdate(captor.capture(), eq(RecipeDocument.class));
+    verify(recipeIndexManager, times(1)).updateMigratingIndex(captor.getValue());
+
+    List<UpdateQuery> updateQueries = captor.getValue();
+    assertEquals(3L, updateQueries.get(0).getParams().get("count"));
+    assertEquals(0L, updateQueries.get(1).getParams().get("count"));
+    assertTrue(updateQueries.get(0).getScript().contains("likeCount == null"));
+  }
+
+  @Test
+  @DisplayName("트랜잭션 안에서는 커밋된 뒤에 반영하고 롤백되면 반영하지 않음")
+  void increaseLikeCount_AfterCommit() {
+    //given
+    TransactionSynchronizationManager.initSynchronization();
+
+    try {
+      //when
+      recipeLikeCountService.increaseLikeCount("recipe1");
+      recipeLikeCountService.decreaseLikeCount("recipe2");
+
+      //then
+      verify(elasticsearchOperations, never()).update(any(UpdateQuery.class), any());
+
+      List<TransactionSynchronization> synchronizations =
+          TransactionSynchronizationManager.getSynchronizations();
+      synchronizations.get(0).afterCommit();
+      synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+      verify(elasticsearchOperations, times(1)).update(any(UpdateQuery.class), any());
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private SearchHit<RecipeDocument> searchHit(RecipeDocument recipeDocument) {
+    SearchHit<RecipeDocument> searchHit = mock(SearchHit.class);
+    when(searchHit.getContent()).thenReturn(recipeDocument);
+    return searchHit;
+  }
+
+  @SuppressWarnings("unchecked")
+  private SearchHitsIterator<RecipeDocument> searchHitsOf(List<SearchHit<RecipeDocument>> hits) {
+    Iterator<SearchHit<RecipeDocument>> iterator = hits.iterator();
+    SearchHitsIterator<RecipeDocument> searchHits = mock(SearchHitsIterator.class);
+    when(searchHits.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+    when(searchHits.next()).thenAnswer(invocation -> iterator.next());
+    return searchHits;
+  }
+
+}
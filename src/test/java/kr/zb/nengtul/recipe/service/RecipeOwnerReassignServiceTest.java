@@ -0,0 +1,295 @@
+package kr.zb.nengtul.recipe.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+import kr.zb.nengtul.recipe.domain.dto.RecipeTaskStatusDto;
+import kr.zb.nengtul.recipe.domain.entity.RecipeOwnerReassign;
+import kr.zb.nengtul.recipe.domain.repository.RecipeOwnerReassignRepository;
+import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@DisplayName("레시피 작성자 변경 서비스 테스트")
+class RecipeOwnerReassignServiceTest {
+
+  private RecipeOwnerReassignService recipeOwnerReassignService;
+
+  private RecipeSearchRepository recipeSearchRepository;
+
+  private RecipeOwnerReassignRepository recipeOwnerReassignRepository;
+
+  private RecipeDetailCache recipeDetailCache;
+
+  private RecipeIndexManager recipeIndexManager;
+
+  @BeforeEach
+  void setUp() {
+    recipeSearchRepository = mock(RecipeSearchRepository.class);
+    recipeOwnerReassignRepository = mock(RecipeOwnerReassignRepository.class);
+    recipeDetailCache = mock(RecipeDetailCache.class);
+    recipeIndexManager = mock(RecipeIndexManager.class);
+    recipeOwnerReassignService = new RecipeOwnerReassignService(recipeSearchRepository,
+        recipeOwnerReassignRepository, recipeDetailCache, recipeIndexManager);
+  }
+
+  @Test
+  @DisplayName("작성자 변경은 update_by_query 태스크로 제출하고 완료를 기다리지 않음")
+  void reassignOwner() {
+    //given
+    when(recipeSearchRepository.submitUserIdUpdateTask(1L, 2L)).thenReturn("node1:1");
+
+    //when
+    recipeOwnerReassignService.reassignOwner(1L, 2L);
+
+    //then
+    verify(recipeOwnerReassignRepository, times(1)).save(any(RecipeOwnerReassign.class));
+    verify(recipeSearchRepository, times(1)).submitUserIdUpdateTask(1L, 2L);
+    verify(recipeSearchRepository, never()).findTaskStatus(any());
+  }
+
+  @Test
+  @DisplayName("작성자 변경 완료 시 캐시된 레시피 제거 후 추적 종료")
+  void checkReassignTasks_COMPLETED() {
+    //given
+    when(recipeSearchRepository.submitUserIdUpdateTask(1L, 2L)).thenReturn("node1:1");
+    when(recipeSearchRepository.findTaskStatus("node1:1"))
+        .thenReturn(Optional.of(taskStatus(true, 0)));
+
+    recipeOwnerReassignService.reassignOwner(1L, 2L);
+
+    //when
+    recipeOwnerReassignService.checkReassignTasks();
+    recipeOwnerReassignService.checkReassignTasks();
+
+    //then
+    verify(recipeSearchRepository, times(1)).findTaskStatus("node1:1");
+    verify(recipeDetailCache, times(1)).evictRecipesByUserId(1L);
+    verify(recipeOwnerReassignRepository, times(1)).deleteById(1L);
+  }
+
+  @Test
+  @DisplayName("작성자 변경 진행 중이면 다음 주기에 다시 확인")
+  void checkReassignTasks_IN_PROGRESS() {
+    //given
+    when(recipeSearchRepository.submitUserIdUpdateTask(1L, 2L)).thenReturn("node1:1");
+    when(recipeSearchRepository.findTaskStatus("node1:1"))
+        .thenReturn(Optional.of(taskStatus(false, 0)));
+
+    recipeOwnerReassignService.reassignOwner(1L, 2L);
+
+    //when
+    recipeOwnerReassignService.checkReassignTasks();
+    recipeOwnerReassignService.checkReassignTasks();
+
+    //then
+    verify(recipeSearchRepository, times(2)).findTaskStatus("node1:1");
+    verify(recipeSearchRepository, times(1)).submitUserIdUpdateTask(1L, 2L);
+    verify(recipeDetailCache, never()).evictRecipesByUserId(any());
+  }
+
+  @Test
+  @DisplayName("버전 충돌로 변경되지 않은 문서가 있으면 다시 제출")
+  void checkReassignTasks_VERSION_CONFLICT() {
+    //given
+    when(recipeSearchRepository.submitUserIdUpdateTask(1L, 2L)).thenReturn("node1:1");
+    when(recipeSearchRepository.findTaskStatus("node1:1"))
+        .thenReturn(Optional.of(taskStatus(true, 1)));
+
+    recipeOwnerReassignService.reassignOwner(1L, 2L);
+
+    //when
+    recipeOwnerReassignService.checkReassignTasks();
+
+    //then
+    verify(recipeSearchRepository, times(2)).submitUserIdUpdateTask(1L, 2L);
+    verify(recipeDetailCache, never()).evictRecipesByUserId(any());
+  }
+
+  @Test
+  @DisplayName("제출 실패 시 다음 주기에 다시 제출")
+  void checkReassignTasks_SUBMIT_FAIL() {
+    //given
+    when(recipeSearchRepository.submitUserIdUpdateTask(1L, 2L))
+        .thenThrow(new DataAccessResourceFailureException("connection refused"))
+        .thenReturn("node1:1");
+
+    recipeOwnerReassignService.reassignOwner(1L, 2L);
+
+    //when
+    recipeOwnerReassignService.checkReassignTasks();
+
+    //then
+    verify(recipeSearchRepository, times(2)).submitUserIdUpdateTask(1L, 2L);
+    verify(recipeSearchRepository, never()).findTaskStatus(any());
+  }
+
+  @Test
+  @DisplayName("재시도 후에도 버전 충돌이 남으면 저장된 작업을 지우지 않고 추적 종료")
+  void checkReassignTasks_RETRY_EXHAUSTED() {
+    //given
+    when(recipeSearchRepository.submitUserIdUpdateTask(1L, 2L)).thenReturn("node1:1");
+    when(recipeSearchRepository.findTaskStatus("node1:1"))
+        .thenReturn(Optional.of(taskStatus(true, 1)));
+
+    recipeOwnerReassignService.reassignOwner(1L, 2L);
+
+    //when
+    for (int i = 0; i < 5; i++) {
+      recipeOwnerReassignService.checkReassignTasks();
+    }
+
+    //then
+    verify(recipeSearchRepository, times(4)).submitUserIdUpdateTask(1L, 2L);
+    verify(recipeSearchRepository, times(4)).findTaskStatus("node1:1");
+    verify(recipeOwnerReassignRepository, never()).deleteById(any());
+  }
+
+  @Test
+  @DisplayName("기동 시 저장된 작업을 불러와 다시 제출")
+  void loadReassignTasks() {
+    //given
+    when(recipeOwnerReassignRepository.findAll()).thenReturn(List.of(
+        RecipeOwnerReassign.builder().fromUserId(1L).toUserId(2L).build()));
+    when(recipeSearchRepository.submitUserIdUpdateTask(1L, 2L)).thenReturn("node1:1");
+
+    //when
+    recipeOwnerReassignService.loadReassignTasks();
+    recipeOwnerReassignService.checkReassignTasks();
+
+    //then
+    verify(recipeSearchRepository, times(1)).submitUserIdUpdateTask(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("탈퇴 트랜잭션이 커밋된 뒤에 제출하고 롤백되면 제출하지 않음")
+  void reassignOwner_AfterCommit() {
+    //given
+    when(recipeSearchRepository.submitUserIdUpdateTask(any(), any())).thenReturn("node1:1");
+    TransactionSynchronizationManager.initSynchronization();
+
+    try {
+      //when
+      recipeOwnerReassignService.reassignOwner(1L, 2L);
+      recipeOwnerReassignService.reassignOwner(3L, 2L);
+
+      //then
+      verify(recipeSearchRepository, never()).submitUserIdUpdateTask(any(), any());
+
+      List<TransactionSynchronization> synchronizations =
+          TransactionSynchronizationManager.getSynchronizations();
+      synchronizations.get(0).afterCommit();
+      synchronizations.get(1).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+      verify(recipeSearchRepository, times(1)).submitUserIdUpdateTask(1L, 2L);
+      verify(recipeSearchRepository, never()).submitUserIdUpdateTask(3L, 2L);
+    } finally {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  @DisplayName("재시도 후에도 남은 작업은 재기동 없이 저장된 작업을 다시 불러와 제출")
+  void loadReassignTasks_RETRY_EXHAUSTED() {
+    //given
+    when(recipeSearchRepository.submitUserIdUpdateTask(1L, 2L)).thenReturn("node1:1");
+    when(recipeSearchRepository.findTaskStatus("node1:1"))
+        .thenReturn(Optional.of(taskStatus(true, 1)));
+    when(recipeOwnerReassignRepository.findAll()).thenReturn(List.of(
+        RecipeOwnerReassign.builder().fromUserId(1L).toUserId(2L).build()));
+
+    recipeOwnerReassignService.reassignOwner(1L, 2L);
+    for (int i = 0; i < 4; i++) {
+      recipeOwnerReassignService.checkReassignTasks();
+    }
+
+    //when
+    recipeOwnerReassignService.loadReassignTasks();
+    recipeOwnerReassignService.checkReassignTasks();
+
+    //then
+    verify(recipeSearchRepository, times(5)).submitUserIdUpdateTask(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("추적 중인 작업은 다시 불러오지 않음")
+  void loadReassignTasks_TRACKED() {
+    //given
+    when(recipeSearchRepository.submitUserIdUpdateTask(1L, 2L)).thenReturn("node1:1");
+    when(recipeSearchRepository.findTaskStatus("node1:1"))
+        .thenReturn(Optional.of(taskStatus(false, 0)));
+    when(recipeOwnerReassignRepository.findAll()).thenReturn(List.of(
+        RecipeOwnerReassign.builder().fromUserId(1L).toUserId(2L).build()));
+
+    recipeOwnerReassignService.reassignOwner(1L, 2L);
+
+    //when
+    recipeOwnerReassignService.loadReassignTasks();
+    recipeOwnerReassignService.checkReassignTasks();
+
+    //then
+    verify(recipeSearchRepository, times(1)).submitUserIdUpdateTask(1L, 2L);
+    verify(recipeSearchRepository, times(1)).findTaskStatus("node1:1");
+  }
+
+  @Test
+  @DisplayName("재색인 중에는 제출하지 않고 재색인이 끝난 뒤 제출")
+  void reassignOwner_MIGRATING() {
+    //given
+    when(recipeIndexManager.isMigrating()).thenReturn(true, true, false);
+    when(recipeSearchRepository.submitUserIdUpdateTask(1L, 2L)).thenReturn("node1:1");
+
+    //when
+    recipeOwnerReassignService.reassignOwner(1L, 2L);
+    recipeOwnerReassignService.checkReassignTasks();
+
+    //then
+    verify(recipeSearchRepository, never()).submitUserIdUpdateTask(1L, 2L);
+
+    recipeOwnerReassignService.checkReassignTasks();
+    verify(recipeSearchRepository, times(1)).submitUserIdUpdateTask(1L, 2L);
+  }
+
+  @Test
+  @DisplayName("재색인 중에 끝난 작업은 완료 처리하지 않고 재색인이 끝난 뒤 다시 제출")
+  void checkReassignTasks_MIGRATING() {
+    //given
+    when(recipeSearchRepository.submitUserIdUpdateTask(1L, 2L)).thenReturn("node1:1");
+    when(recipeSearchRepository.findTaskStatus("node1:1"))
+        .thenReturn(Optional.of(taskStatus(true, 0)));
+
+    recipeOwnerReassignService.reassignOwner(1L, 2L);
+
+    //when
+    when(recipeIndexManager.isMigrating()).thenReturn(true);
+    recipeOwnerReassignService.checkReassignTasks();
+    when(recipeIndexManager.isMigrating()).thenReturn(false);
+    recipeOwnerReassignService.checkReassignTasks();
+    recipeOwnerReassignService.checkReassignTasks();
+
+    //then
+    verify(recipeSearchRepository, times(2)).submitUserIdUpdateTask(1L, 2L);
+    verify(recipeSearchRepository, times(1)).findTaskStatus("node1:1");
+    verify(recipeOwnerReassignRepository, times(1)).deleteById(1L);
+  }
+
+  private RecipeTaskStatusDto taskStatus(boolean completed, long versionConflicts) {
+    return RecipeTaskStatusDto.builder()
+        .completed(completed)
+        .total(3)
+        .updated(3 - versionConflicts)
+        .versionConflicts(versionConflicts)
+        .build();
+  }
+
+}
@@ -2,12 +2,18 @@ package kr.zb.nengtul.recipe.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static kr.zb.nengtul.recipe.domain.repository.RecipeSearchCustomRepository.CATEGORY_AGGREGATION;
+import static kr.zb.nengtul.recipe.domain.repository.RecipeSearchCustomRepository.COOKING_TIME_AGGREGATION;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.anyInt;
 import static org.mockito.Mockito.anyList;
 import static org.mockito.Mockito.anyString;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -17,29 +23,42 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import kr.zb.nengtul.favorite.domain.entity.Favorite;
-import kr.zb.nengtul.favorite.domain.repository.FavoriteRepository;
 import kr.zb.nengtul.global.entity.RoleType;
 import kr.zb.nengtul.global.exception.CustomException;
 import kr.zb.nengtul.global.exception.ErrorCode;
-import kr.zb.nengtul.likes.domain.entity.Likes;
-import kr.zb.nengtul.likes.domain.repository.LikesRepository;
 import kr.zb.nengtul.recipe.domain.constants.RecipeCategory;
 import kr.zb.nengtul.recipe.domain.dto.RecipeAddDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeCursorPageDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeFridgeMatchDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeFridgeSearchDto;
 import kr.zb.nengtul.recipe.domain.dto.RecipeGetDetailDto;
 import kr.zb.nengtul.recipe.domain.dto.RecipeGetListDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeSearchDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeSearchResultDto;
 import kr.zb.nengtul.recipe.domain.dto.RecipeUpdateDto;
+import kr.zb.nengtul.recipe.domain.dto.RecipeViewerDto;
 import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import kr.zb.nengtul.recipe.domain.ingredient.IngredientNormalizer;
+import kr.zb.nengtul.recipe.domain.ingredient.RecipeIngredient;
 import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
 import kr.zb.nengtul.user.domain.entity.User;
 import kr.zb.nengtul.user.domain.repository.UserRepository;
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.aggregations.bucket.filter.Filter;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.web.multipart.MultipartFile;
 import s3bucket.service.AmazonS3Service;
@@ -55,25 +74,41 @@ class RecipeServiceTest {
 
   private AmazonS3Service amazonS3Service;
 
-  private LikesRepository likesRepository;
+  private RecipeViewCountService recipeViewCountService;
 
-  private FavoriteRepository favoriteRepository;
+  private RecipeDetailCache recipeDetailCache;
+
+  private RecipeIndexManager recipeIndexManager;
 
   private List<RecipeDocument> recipeDocuments;
 
+  private List<User> users;
+
   @BeforeEach
   void setUp() {
     // Mock 객체 초기화
     recipeSearchRepository = mock(RecipeSearchRepository.class);
     amazonS3Service = mock(AmazonS3Service.class);
     userRepository = mock(UserRepository.class);
-    likesRepository = mock(LikesRepository.class);
-    favoriteRepository = mock(FavoriteRepository.class);
+
+    recipeDetailCache = new RecipeDetailCache();
+    recipeIndexManager = mock(RecipeIndexManager.class);
+
+    recipeViewCountService = new RecipeViewCountService(mock(ElasticsearchOperations.class),
+        recipeDetailCache, recipeIndexManager);
 
     recipeService = new RecipeService(
-        recipeSearchRepository, userRepository, likesRepository, favoriteRepository, amazonS3Service);
+        recipeSearchRepository, userRepository, amazonS3Service, recipeViewCountService,
+        recipeDetailCache, recipeIndexManager);
 
     recipeDocuments = new ArrayList<>();
+    users = new ArrayList<>();
+
+    for (long userId = 1L; userId <= 5L; userId++) {
+      User user = new User(userId);
+      user.setNickname("닉네임" + userId);
+      users.add(user);
+    }
 
     recipeDocuments.add(RecipeDocument.builder()
         .id("userId1")
@@ -86,6 +121,7 @@ class RecipeServiceTest {
         .cookingTime("30분")
         .serving("1인분")
         .viewCount(0L)
+        .likeCount(3L)
         .createdAt(LocalDateTime.now())
         .modifiedAt(LocalDateTime.now())
         .category(RecipeCategory.BREAD)
@@ -179,16 +215,48 @@ class RecipeServiceTest {
         .save(any(RecipeDocument.class));
   }
 
+  @Test
+  @DisplayName("레시피 추가 - 재료를 이름, 수량, 단위로 파싱")
+  void addRecipe_PARSE_INGREDIENT() {
+    //given
+    RecipeAddDto recipeAddDto = RecipeAddDto.builder()
+        .ingredient("다진 마늘 1큰술,계란 2개,물 2컵(400ml),소금 약간,[양념] 고추장")
+        .build();
+
+    when(userRepository.findByEmail(any())).thenReturn(Optional.of(new User()));
+
+    ArgumentCaptor<RecipeDocument> captor = ArgumentCaptor.forClass(RecipeDocument.class);
+
+    //when
+    recipeService.addRecipe(mock(Principal.class), recipeAddDto,
+        Collections.singletonList(mock(MultipartFile.class)), mock(MultipartFile.class));
+
+    //then
+    verify(recipeSearchRepository, times(1)).save(captor.capture());
+
+    RecipeDocument recipeDocument = captor.getValue();
+    List<RecipeIngredient> ingredientDetails = recipeDocument.getIngredientDetails();
+
+    assertEquals(List.of("마늘", "달걀", "물", "소금", "고추장"), recipeDocument.getIngredientNames());
+    assertEquals("1", ingredientDetails.get(0).getQuantity());
+    assertEquals("큰술", ingredientDetails.get(0).getUnit());
+    assertEquals("2", ingredientDetails.get(2).getQuantity());
+    assertEquals("컵", ingredientDetails.get(2).getUnit());
+    assertEquals("약간", ingredientDetails.get(3).getQuantity());
+    assertNull(ingredientDetails.get(3).getUnit());
+    assertNull(ingredientDetails.get(4).getQuantity());
+  }
+
   @Test
   @DisplayName("레시피 전체 리스트 가져오기")
   void getAllRecipe() {
     //given
     Pageable pageable = Pageable.ofSize(20);
 
-    when(recipeSearchRepository.findAll(pageable))
+    when(recipeSearchRepository.findAllForList(pageable))
         .thenReturn(new PageImpl<>(recipeDocuments));
-    when(userRepository.findById(any()))
-        .thenReturn(Optional.of(new User()));
+    when(userRepository.findAllById(any()))
+        .thenReturn(users);
 
     //when
     Page<RecipeGetListDto> allRecipe = recipeService.getAllRecipe(pageable);
@@ -202,6 +270,122 @@ class RecipeServiceTest {
     assertEquals(recipeDocument.getTitle(), recipeGetListDto.getTitle());
     assertEquals(recipeDocument.getViewCount(), recipeGetListDto.getViewCount());
     assertEquals(recipeDocument.getThumbnailUrl(), recipeGetListDto.getThumbnailUrl());
+    assertEquals("닉네임1", recipeGetListDto.getNickName());
+    assertEquals(3L, recipeGetListDto.getLikeCount());
+    assertEquals(0L, allRecipe.getContent().get(1).getLikeCount());
+
+    verify(userRepository, times(1)).findAllById(any());
+  }
+
+  @Test
+  @DisplayName("레시피 전체 리스트 가져오기 - 작성자 변경 전인 탈퇴 회원의 레시피는 닉네임 없이 반환")
+  void getAllRecipe_QUIT_USER() {
+    //given
+    Pageable pageable = Pageable.ofSize(20);
+
+    when(recipeSearchRepository.findAllForList(pageable))
+        .thenReturn(new PageImpl<>(recipeDocuments));
+    when(userRepository.findAllById(any()))
+        .thenReturn(users.subList(0, 1));
+
+    //when
+    Page<RecipeGetListDto> allRecipe = recipeService.getAllRecipe(pageable);
+
+    //then
+    assertEquals(recipeDocuments.size(), allRecipe.getContent().size());
+    assertEquals("닉네임1", allRecipe.getContent().get(0).getNickName());
+    assertNull(allRecipe.getContent().get(1).getNickName());
+  }
+
+  @Test
+  @DisplayName("레시피 커서 조회 - 다음 페이지 커서로 search_after 값 전달")
+  @SuppressWarnings("unchecked")
+  void getRecipeByCursor() {
+    //given
+    List<SearchHit<RecipeDocument>> hits = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      SearchHit<RecipeDocument> hit = mock(SearchHit.class);
+      when(hit.getContent()).thenReturn(recipeDocuments.get(i));
+      when(hit.getSortValues()).thenReturn(List.of(1690000000000L - i, "recipe" + i));
+      hits.add(hit);
+    }
+
+    SearchHits<RecipeDocument> searchHits = mock(SearchHits.class);
+    when(searchHits.getSearchHits()).thenReturn(hits);
+
+    when(recipeSearchRepository.findAllByCursor(any(), any(), any(), any(), anyInt()))
+        .thenReturn(searchHits);
+    when(userRepository.findAllById(any()))
+        .thenReturn(users);
+
+    //when
+    RecipeCursorPageDto firstPage =
+        recipeService.getRecipeByCursor(null, null, null, null, 2);
+    recipeService.getRecipeByCursor(null, null, null, firstPage.getNextCursor(), 2);
+
+    //then
+    assertEquals(2, firstPage.getContent().size());
+    assertTrue(firstPage.isHasNext());
+    assertEquals(recipeDocuments.get(1).getTitle(), firstPage.getContent().get(1).getTitle());
+
+    verify(recipeSearchRepository, times(1))
+        .findAllByCursor(null, null, null, null, 3);
+    verify(recipeSearchRepository, times(1))
+        .findAllByCursor(null, null, null, List.of(1689999999999L, "recipe1"), 3);
+  }
+
+  @Test
+  @DisplayName("레시피 커서 조회 실패 - 잘못된 커서")
+  void getRecipeByCursor_FAIL_INVALID_CURSOR() {
+    //when
+    CustomException customException = assertThrows(CustomException.class,
+        () -> recipeService.getRecipeByCursor(null, null, null, "invalid", 20));
+
+    //then
+    assertEquals(ErrorCode.INVALID_CURSOR, customException.getErrorCode());
+  }
+
+  @Test
+  @DisplayName("인기 레시피 첫 페이지는 캐시된 결과 사용")
+  void getTrendingRecipe_FIRST_PAGE_CACHED() {
+    //given
+    Pageable pageable = Pageable.ofSize(20);
+
+    when(recipeSearchRepository.findAllTrending(pageable))
+        .thenReturn(new PageImpl<>(recipeDocuments));
+    when(userRepository.findAllById(any()))
+        .thenReturn(users);
+
+    //when
+    Page<RecipeGetListDto> first = recipeService.getTrendingRecipe(pageable);
+    Page<RecipeGetListDto> second = recipeService.getTrendingRecipe(pageable);
+
+    //then
+    assertEquals(recipeDocuments.size(), first.getContent().size());
+    assertEquals("닉네임1", first.getContent().get(0).getNickName());
+    assertEquals(first, second);
+
+    verify(recipeSearchRepository, times(1)).findAllTrending(pageable);
+    verify(userRepository, times(1)).findAllById(any());
+  }
+
+  @Test
+  @DisplayName("인기 레시피 두 번째 페이지부터는 매번 조회")
+  void getTrendingRecipe_NEXT_PAGE_NOT_CACHED() {
+    //given
+    Pageable pageable = PageRequest.of(1, 20);
+
+    when(recipeSearchRepository.findAllTrending(pageable))
+        .thenReturn(new PageImpl<>(recipeDocuments));
+    when(userRepository.findAllById(any()))
+        .thenReturn(users);
+
+    //when
+    recipeService.getTrendingRecipe(pageable);
+    recipeService.getTrendingRecipe(pageable);
+
+    //then
+    verify(recipeSearchRepository, times(2)).findAllTrending(pageable);
   }
 
   @Test
@@ -228,13 +412,15 @@ class RecipeServiceTest {
         .thenReturn(Optional.of(recipeDocument));
     when(userRepository.findById(any()))
         .thenReturn(Optional.of(new User()));
-    when(userRepository.findByEmail(any()))
-        .thenReturn(Optional.of(new User()));
+    RecipeViewerDto recipeViewer = recipeViewer(false, false);
+    when(userRepository.findRecipeViewerByEmail(any(), any(), any()))
+        .thenReturn(Optional.of(recipeViewer));
 
     Principal principal = new UsernamePasswordAuthenticationToken("", "");
 
     //when
-    RecipeGetDetailDto recipeDetailById = recipeService.getRecipeDetailById(any(), principal);
+    RecipeGetDetailDto recipeDetailById =
+        recipeService.getRecipeDetailById(recipeDocument.getId(), principal);
 
     //then
     assertEquals(recipeDetailById.getId(), recipeDocument.getId());
@@ -246,13 +432,14 @@ class RecipeServiceTest {
     assertEquals(recipeDetailById.getImageUrl(), recipeDocument.getImageUrl());
     assertEquals(recipeDetailById.getCookingTime(), recipeDocument.getCookingTime());
     assertEquals(recipeDetailById.getServing(), recipeDocument.getServing());
-    assertEquals(recipeDetailById.getViewCount(), recipeDocument.getViewCount());
+    assertEquals(recipeDetailById.getViewCount(), recipeDocument.getViewCount() + 1);
     assertEquals(recipeDetailById.getViewCount(), 1L);
     assertEquals(recipeDetailById.getCreatedAt(), recipeDocument.getCreatedAt());
     assertEquals(recipeDetailById.getModifiedAt(), recipeDocument.getModifiedAt());
     assertEquals(recipeDetailById.getCategory(), recipeDocument.getCategory().getKorean());
     assertFalse(recipeDetailById.isLikes());
     assertFalse(recipeDetailById.isFavorite());
+    verify(recipeSearchRepository, never()).save(any(RecipeDocument.class));
   }
 
   @Test
@@ -279,17 +466,15 @@ class RecipeServiceTest {
         .thenReturn(Optional.of(recipeDocument));
     when(userRepository.findById(any()))
         .thenReturn(Optional.of(new User()));
-    when(userRepository.findByEmail(any()))
-        .thenReturn(Optional.of(new User()));
-    when(likesRepository.findByUserIdAndRecipeId(any(),any()))
-        .thenReturn(Optional.of(new Likes()));
-    when(favoriteRepository.findByUserIdAndPublisherId(any(),any()))
-        .thenReturn(Optional.of(new Favorite()));
+    RecipeViewerDto recipeViewer = recipeViewer(true, true);
+    when(userRepository.findRecipeViewerByEmail(any(), any(), any()))
+        .thenReturn(Optional.of(recipeViewer));
 
     Principal principal = new UsernamePasswordAuthenticationToken("", "");
 
     //when
-    RecipeGetDetailDto recipeDetailById = recipeService.getRecipeDetailById(any(), principal);
+    RecipeGetDetailDto recipeDetailById =
+        recipeService.getRecipeDetailById(recipeDocument.getId(), principal);
 
     //then
     assertEquals(recipeDetailById.getId(), recipeDocument.getId());
@@ -301,7 +486,7 @@ class RecipeServiceTest {
     assertEquals(recipeDetailById.getImageUrl(), recipeDocument.getImageUrl());
     assertEquals(recipeDetailById.getCookingTime(), recipeDocument.getCookingTime());
     assertEquals(recipeDetailById.getServing(), recipeDocument.getServing());
-    assertEquals(recipeDetailById.getViewCount(), recipeDocument.getViewCount());
+    assertEquals(recipeDetailById.getViewCount(), recipeDocument.getViewCount() + 1);
     assertEquals(recipeDetailById.getViewCount(), 1L);
     assertEquals(recipeDetailById.getCreatedAt(), recipeDocument.getCreatedAt());
     assertEquals(recipeDetailById.getModifiedAt(), recipeDocument.getModifiedAt());
@@ -310,6 +495,78 @@ class RecipeServiceTest {
     assertTrue(recipeDetailById.isFavorite());
   }
 
+  @Test
+  @DisplayName("레시피 상세 내역 가져오기 - 레시피, 작성자는 캐시 사용, 좋아요/즐겨찾기는 매번 조회")
+  void getRecipeDetailById_CACHED() {
+    //given
+    RecipeDocument recipeDocument = recipeDocuments.get(0);
+
+    when(recipeSearchRepository.findById(recipeDocument.getId()))
+        .thenReturn(Optional.of(recipeDocument));
+    when(userRepository.findById(recipeDocument.getUserId()))
+        .thenReturn(Optional.of(users.get(0)));
+    RecipeViewerDto firstViewer = recipeViewer(false, false);
+    RecipeViewerDto secondViewer = recipeViewer(true, false);
+    when(userRepository.findRecipeViewerByEmail(any(), any(), any()))
+        .thenReturn(Optional.of(firstViewer))
+        .thenReturn(Optional.of(secondViewer));
+
+    Principal principal = new UsernamePasswordAuthenticationToken("", "");
+
+    //when
+    recipeService.getRecipeDetailById(recipeDocument.getId(), principal);
+    RecipeGetDetailDto recipeDetailById =
+        recipeService.getRecipeDetailById(recipeDocument.getId(), principal);
+
+    //then
+    assertEquals("닉네임1", recipeDetailById.getNickName());
+    assertEquals(recipeDocument.getViewCount() + 2, recipeDetailById.getViewCount());
+    assertTrue(recipeDetailById.isLikes());
+    assertFalse(recipeDetailById.isFavorite());
+
+    verify(recipeSearchRepository, times(1)).findById(recipeDocument.getId());
+    verify(userRepository, times(1)).findById(recipeDocument.getUserId());
+    verify(userRepository, times(2)).findRecipeViewerByEmail(any(), any(), any());
+  }
+
+  @Test
+  @DisplayName("레시피 수정 시 캐시된 상세 레시피 제거")
+  void updateRecipe_EVICT_DETAIL_CACHE() {
+    //given
+    User user = users.get(0);
+    RecipeDocument recipeDocument = recipeDocuments.get(0);
+
+    when(recipeSearchRepository.findById(recipeDocument.getId()))
+        .thenReturn(Optional.of(recipeDocument));
+    when(userRepository.findById(user.getId()))
+        .thenReturn(Optional.of(user));
+    when(userRepository.findByEmail(any()))
+        .thenReturn(Optional.of(user));
+
+    MultipartFile thumbnail = mock(MultipartFile.class);
+    when(thumbnail.isEmpty()).thenReturn(true);
+
+    recipeService.getRecipeDetailById(recipeDocument.getId(), null);
+
+    //when
+    recipeService.updateRecipe(mock(Principal.class), recipeDocument.getId(),
+        RecipeUpdateDto.builder().imagesUrl("").category(RecipeCategory.ETC).build(),
+        Collections.emptyList(), thumbnail);
+    recipeService.getRecipeDetailById(recipeDocument.getId(), null);
+
+    //then
+    // 상세 조회 2번 + 수정 1번
+    verify(recipeSearchRepository, times(3)).findById(recipeDocument.getId());
+    verify(userRepository, times(1)).findById(user.getId());
+  }
+
+  private RecipeViewerDto recipeViewer(boolean likes, boolean favorite) {
+    RecipeViewerDto recipeViewerDto = mock(RecipeViewerDto.class);
+    when(recipeViewerDto.getLikes()).thenReturn(likes);
+    when(recipeViewerDto.getFavorite()).thenReturn(favorite);
+    return recipeViewerDto;
+  }
+
   @Test
   @DisplayName("레시피 리스트 카테고리로 가져오기")
   void getRecipeByCategory() {
@@ -318,8 +575,8 @@ class RecipeServiceTest {
 
     when(recipeSearchRepository.findAllByCategory(RecipeCategory.BREAD, pageable))
         .thenReturn(new PageImpl<>(recipeDocuments));
-    when(userRepository.findById(any()))
-        .thenReturn(Optional.of(new User()));
+    when(userRepository.findAllById(any()))
+        .thenReturn(users);
 
     //when
     Page<RecipeGetListDto> allRecipe =
@@ -339,8 +596,8 @@ class RecipeServiceTest {
 
     when(recipeSearchRepository.findAllByTitle("title", pageable))
         .thenReturn(new PageImpl<>(recipeDocuments));
-    when(userRepository.findById(any()))
-        .thenReturn(Optional.of(new User()));
+    when(userRepository.findAllById(any()))
+        .thenReturn(users);
 
     //when
     Page<RecipeGetListDto> allRecipe =
@@ -360,8 +617,8 @@ class RecipeServiceTest {
 
     when(recipeSearchRepository.findAllByIngredient("ingredient", pageable))
         .thenReturn(new PageImpl<>(recipeDocuments));
-    when(userRepository.findById(any()))
-        .thenReturn(Optional.of(new User()));
+    when(userRepository.findAllById(any()))
+        .thenReturn(users);
 
     //when
     Page<RecipeGetListDto> allRecipe =
@@ -373,6 +630,111 @@ class RecipeServiceTest {
     assertEquals(allRecipe.getContent().get(0).getTitle(), recipeDocuments.get(0).getTitle());
   }
 
+  @Test
+  @DisplayName("냉장고 재료로 레시피 가져오기 - 재료 충족 비율, 부족한 재료 계산")
+  void getRecipeByFridge() {
+    //given
+    Pageable pageable = Pageable.ofSize(20);
+
+    RecipeFridgeSearchDto recipeFridgeSearchDto = RecipeFridgeSearchDto.builder()
+        .ingredients(List.of(" 양파", "돼지고기 ", "", "양파"))
+        .build();
+
+    RecipeDocument recipeDocument = RecipeDocument.builder()
+        .id("fridge")
+        .userId(1L)
+        .title("제육볶음")
+        .ingredient("돼지고기 300g,양파 1/2개,고추장 2큰술")
+        .ingredientNames(IngredientNormalizer.toNames("돼지고기 300g,양파 1/2개,고추장 2큰술"))
+        .viewCount(0L)
+        .build();
+
+    when(recipeSearchRepository.findAllByIngredientNames(List.of("양파", "돼지고기"), 1, pageable))
+        .thenReturn(new PageImpl<>(List.of(recipeDocument)));
+    when(userRepository.findAllById(any()))
+        .thenReturn(users);
+
+    //when
+    Page<RecipeFridgeMatchDto> result =
+        recipeService.getRecipeByFridge(recipeFridgeSearchDto, pageable);
+
+    RecipeFridgeMatchDto recipeFridgeMatchDto = result.getContent().get(0);
+
+    //then
+    assertEquals(List.of("돼지고기", "양파", "고추장"), recipeDocument.getIngredientNames());
+    assertEquals("닉네임1", recipeFridgeMatchDto.getNickName());
+    assertEquals(2, recipeFridgeMatchDto.getMatchedCount());
+    assertEquals(1, recipeFridgeMatchDto.getMissingCount());
+    assertEquals(List.of("고추장"), recipeFridgeMatchDto.getMissingIngredients());
+    assertEquals(2.0 / 3, recipeFridgeMatchDto.getCoverage());
+  }
+
+  @Test
+  @DisplayName("레시피 통합 검색 - 검색 결과와 카테고리, 조리 시간 집계")
+  @SuppressWarnings("unchecked")
+  void searchRecipe() {
+    //given
+    Pageable pageable = Pageable.ofSize(20);
+
+    RecipeSearchDto recipeSearchDto = RecipeSearchDto.builder()
+        .keyword("찌개")
+        .ingredients(List.of("계란 "))
+        .build();
+
+    List<SearchHit<RecipeDocument>> hits = recipeDocuments.stream()
+        .map(recipeDocument -> {
+          SearchHit<RecipeDocument> hit = mock(SearchHit.class);
+          when(hit.getContent()).thenReturn(recipeDocument);
+          return hit;
+        })
+        .toList();
+
+    SearchHits<RecipeDocument> searchHits = mock(SearchHits.class);
+    when(searchHits.getSearchHits()).thenReturn(hits);
+    when(searchHits.getTotalHits()).thenReturn(30L);
+    Aggregations aggregations = new Aggregations(List.of(
+        facet(CATEGORY_AGGREGATION, Map.of("STEW", 25L)),
+        facet(COOKING_TIME_AGGREGATION, Map.of("30분 이내", 30L))));
+    when(searchHits.getAggregations()).thenReturn(aggregations);
+
+    when(recipeSearchRepository.findAllBySearchCondition(recipeSearchDto, pageable))
+        .thenReturn(searchHits);
+    when(userRepository.findAllById(any()))
+        .thenReturn(users);
+
+    //when
+    RecipeSearchResultDto result = recipeService.searchRecipe(recipeSearchDto, pageable);
+
+    //then
+    assertEquals(List.of("달걀"), recipeSearchDto.getIngredients());
+    assertEquals(30L, result.getRecipes().getTotalElements());
+    assertEquals(recipeDocuments.size(), result.getRecipes().getContent().size());
+    assertEquals(Map.of("STEW", 25L), result.getCategoryFacets());
+    assertEquals(Map.of("30분 이내", 30L), result.getCookingTimeFacets());
+  }
+
+  private Filter facet(String name, Map<String, Long> counts) {
+
+    List<Terms.Bucket> buckets = counts.entrySet().stream()
+        .map(entry -> {
+          Terms.Bucket bucket = mock(Terms.Bucket.class);
+          when(bucket.getKeyAsString()).thenReturn(entry.getKey());
+          when(bucket.getDocCount()).thenReturn(entry.getValue());
+          return bucket;
+        })
+        .toList();
+
+    Terms terms = mock(Terms.class);
+    when(terms.getName()).thenReturn(name);
+    doReturn(buckets).when(terms).getBuckets();
+
+    Filter filter = mock(Filter.class);
+    when(filter.getName()).thenReturn(name);
+    when(filter.getAggregations()).thenReturn(new Aggregations(List.of(terms)));
+
+    return filter;
+  }
+
   @Test
   @DisplayName("레시피 수정하기")
   void updateRecipe() {
@@ -466,6 +828,7 @@ class RecipeServiceTest {
     //then
     verify(recipeSearchRepository, times(1))
         .delete(any(RecipeDocument.class));
+    verify(recipeIndexManager, times(1)).deleteFromMigratingIndex("recipdId");
   }
 
   @Test
@@ -484,6 +847,7 @@ class RecipeServiceTest {
     when(recipeSearchRepository.findById(any()))
         .thenReturn(Optional.of(recipeDocument));
 
+    when(recipeDocument.getId()).thenReturn("recipeId");
     when(recipeDocument.getUserId()).thenReturn(1L);
     when(adminAccount.getId()).thenReturn(2L);
 
@@ -537,6 +901,8 @@ class RecipeServiceTest {
         .thenReturn(Optional.of(new User()));
     when(userRepository.findById(any()))
         .thenReturn(Optional.of(new User()));
+    when(userRepository.findAllById(any()))
+        .thenReturn(users);
 
     when(recipeSearchRepository.findAllByUserId(any(), any()))
         .thenReturn(new PageImpl<>(recipeDocuments));
@@ -0,0 +1,90 @@
+package kr.zb.nengtul.recipe.service;
+
+import static kr.zb.nengtul.recipe.domain.repository.RecipeSearchCustomRepository.SUGGEST_INGREDIENT_AGGREGATION;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import kr.zb.nengtul.recipe.domain.dto.RecipeSuggestDto;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
+import org.elasticsearch.search.aggregations.Aggregations;
+import org.elasticsearch.search.aggregations.bucket.terms.Terms;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+
+@DisplayName("레시피 자동완성 서비스 테스트")
+class RecipeSuggestServiceTest {
+
+  private RecipeSuggestService recipeSuggestService;
+
+  private RecipeSearchRepository recipeSearchRepository;
+
+  @BeforeEach
+  void setUp() {
+    recipeSearchRepository = mock(RecipeSearchRepository.class);
+    recipeSuggestService = new RecipeSuggestService(recipeSearchRepository);
+  }
+
+  @Test
+  @DisplayName("자동완성 - 제목, 재료명 조회 후 같은 prefix 는 캐시 사용")
+  @SuppressWarnings("unchecked")
+  void getSuggest() {
+    //given
+    SearchHit<RecipeDocument> searchHit = mock(SearchHit.class);
+    when(searchHit.getContent()).thenReturn(RecipeDocument.builder()
+        .id("recipe1")
+        .title("김치찌개")
+        .build());
+
+    Terms.Bucket bucket = mock(Terms.Bucket.class);
+    when(bucket.getKeyAsString()).thenReturn("김치");
+
+    Terms terms = mock(Terms.class);
+    when(terms.getName()).thenReturn(SUGGEST_INGREDIENT_AGGREGATION);
+    doReturn(List.of(bucket)).when(terms).getBuckets();
+
+    Aggregations aggregations = new Aggregations(List.of(terms));
+
+    SearchHits<RecipeDocument> searchHits = mock(SearchHits.class);
+    when(searchHits.getSearchHits()).thenReturn(List.of(searchHit));
+    when(searchHits.getAggregations()).thenReturn(aggregations);
+
+    when(recipeSearchRepository.findAllByPrefix("김치", 10)).thenReturn(searchHits);
+
+    //when
+    RecipeSuggestDto suggest = recipeSuggestService.getSuggest("김치");
+    recipeSuggestService.getSuggest(" 김치 ");
+
+    //then
+    assertEquals("recipe1", suggest.getTitles().get(0).getRecipeId());
+    assertEquals("김치찌개", suggest.getTitles().get(0).getTitle());
+    assertEquals(List.of("김치"), suggest.getIngredients());
+
+    verify(recipeSearchRepository, times(1)).findAllByPrefix("김치", 10);
+  }
+
+  @Test
+  @DisplayName("자동완성 - 빈 prefix 는 조회하지 않음")
+  void getSuggest_EMPTY_PREFIX() {
+    //when
+    RecipeSuggestDto suggest = recipeSuggestService.getSuggest(" ");
+
+    //then
+    assertTrue(suggest.getTitles().isEmpty());
+    assertTrue(suggest.getIngredients().isEmpty());
+
+    verify(recipeSearchRepository, never()).findAllByPrefix(anyString(), anyInt());
+  }
+}
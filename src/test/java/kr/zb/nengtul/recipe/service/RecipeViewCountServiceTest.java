@@ -0,0 +1,195 @@
+package kr.zb.nengtul.recipe.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import kr.zb.nengtul.recipe.domain.entity.RecipeDocument;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.elasticsearch.BulkFailureException;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.query.UpdateQuery;
+
+@DisplayName("레시피 조회수 서비스 테스트")
+class RecipeViewCountServiceTest {
+
+  private RecipeViewCountService recipeViewCountService;
+
+  private ElasticsearchOperations elasticsearchOperations;
+
+  private RecipeDetailCache recipeDetailCache;
+
+  private RecipeIndexManager recipeIndexManager;
+
+  @BeforeEach
+  void setUp() {
+    elasticsearchOperations = mock(ElasticsearchOperations.class);
+    recipeDetailCache = mock(RecipeDetailCache.class);
+    recipeIndexManager = mock(RecipeIndexManager.class);
+    recipeViewCountService = new RecipeViewCountService(elasticsearchOperations, recipeDetailCache,
+        recipeIndexManager);
+  }
+
+  @Test
+  @DisplayName("조회수 증가 시 반영 전 조회수 누적")
+  void increaseViewCount() {
+    //when
+    recipeViewCountService.increaseViewCount("recipe1");
+    recipeViewCountService.increaseViewCount("recipe1");
+    long pendingViewCount = recipeViewCountService.increaseViewCount("recipe1");
+
+    //then
+    assertEquals(3L, pendingViewCount);
+    assertEquals(1L, recipeViewCountService.increaseViewCount("recipe2"));
+  }
+
+  @Test
+  @DisplayName("누적된 조회수를 한 번의 bulk 요청으로 반영")
+  @SuppressWarnings("unchecked")
+  void flushViewCount() {
+    //given
+    recipeViewCountService.increaseViewCount("recipe1");
+    recipeViewCountService.increaseViewCount("recipe1");
+    recipeViewCountService.increaseViewCount("recipe2");
+
+    ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+
+    //when
+    recipeViewCountService.flushViewCount();
+
+    //then
+    verify(elasticsearchOperations, times(1))
+        .bulkUpdate(captor.capture(), eq(RecipeDocument.class));
+
+    Map<String, Object> counts = captor.getValue().stream()
+        .collect(Collectors.toMap(UpdateQuery::getId,
+            updateQuery -> updateQuery.getParams().get("count")));
+
+    assertEquals(2, counts.size());
+    assertEquals(2L, counts.get("recipe1"));
+    assertEquals(1L, counts.get("recipe2"));
+    assertEquals(3, captor.getValue().get(0).getRetryOnConflict());
+    assertEquals(1L, recipeViewCountService.increaseViewCount("recipe1"));
+    verify(recipeDetailCache, times(1)).evictRecipes(Set.of("recipe1", "recipe2"));
+  }
+
+  @Test
+  @DisplayName("쌓인 조회수가 없으면 요청하지 않음")
+  void flushViewCount_Empty() {
+    //given
+    recipeViewCountService.increaseViewCount("recipe1");
+    recipeViewCountService.flushViewCount();
+
+    //when
+    recipeViewCountService.flushViewCount();
+
+    //then
+    verify(elasticsearchOperations, times(1)).bulkUpdate(anyList(), any(Class.class));
+  }
+
+  @Test
+  @DisplayName("반영 실패 시 다음 주기에 다시 반영")
+  @SuppressWarnings("unchecked")
+  void flushViewCount_Retry() {
+    //given
+    recipeViewCountService.increaseViewCount("recipe1");
+    recipeViewCountService.increaseViewCount("recipe1");
+
+    doThrow(new DataAccessResourceFailureException("es down"))
+        .when(elasticsearchOperations).bulkUpdate(anyList(), any(Class.class));
+
+    //when
+    recipeViewCountService.flushViewCount();
+
+    //then
+    assertEquals(3L, recipeViewCountService.increaseViewCount("recipe1"));
+    verify(elasticsearchOperations, never()).save(any(RecipeDocument.class));
+  }
+
+  @Test
+  @DisplayName("일부 문서만 실패하면 성공한 문서는 반영 처리, 삭제된 레시피가 아닌 실패만 다시 반영")
+  @SuppressWarnings("unchecked")
+  void flushViewCount_PartialFailure() {
+    //given
+    recipeViewCountService.increaseViewCount("recipe1");
+    recipeViewCountService.increaseViewCount("recipe2");
+    recipeViewCountService.increaseViewCount("recipe2");
+    recipeViewCountService.increaseViewCount("recipe3");
+
+    doThrow(new BulkFailureException("bulk failed", Map.of(
+        "recipe2", "Elasticsearch exception [type=version_conflict_engine_exception, reason=]",
+        "recipe3", "Elasticsearch exception [type=document_missing_exception, reason=]")))
+        .when(elasticsearchOperations).bulkUpdate(anyList(), eq(RecipeDocument.class));
+
+    ArgumentCaptor<List<UpdateQuery>> captor = ArgumentCaptor.forClass(List.class);
+
+    //when
+    recipeViewCountService.flushViewCount();
+
+    //then
+    verify(recipeDetailCache, times(1)).evictRecipes(Set.of("recipe1"));
+    verify(recipeIndexManager, times(1)).updateMigratingIndex(captor.capture());
+    assertEquals(List.of("recipe1"), captor.getValue().stream().map(UpdateQuery::getId).toList());
+
+    assertEquals(1L, recipeViewCountService.increaseViewCount("recipe1"));
+    assertEquals(3L, recipeViewCountService.increaseViewCount("recipe2"));
+    assertEquals(1L, recipeViewCountService.increaseViewCount("recipe3"));
+  }
+
+  @Test
+  @DisplayName("반영과 동시에 조회수가 증가해도 유실되지 않음")
+  @SuppressWarnings("unchecked")
+  void flushViewCount_Concurrent() throws InterruptedException {
+    //given
+    AtomicLong flushedCount = new AtomicLong();
+    doAnswer(invocation -> {
+      List<UpdateQuery> updateQueries = invocation.getArgument(0);
+      updateQueries.forEach(updateQuery ->
+          flushedCount.addAndGet((Long) updateQuery.getParams().get("count")));
+      return null;
+    }).when(elasticsearchOperations).bulkUpdate(anyList(), eq(RecipeDocument.class));
+
+    int threadCount = 4;
+    int increaseCount = 20000;
+    CountDownLatch done = new CountDownLatch(threadCount);
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+    //when
+    for (int i = 0; i < threadCount; i++) {
+      executor.execute(() -> {
+        for (int j = 0; j < increaseCount; j++) {
+          recipeViewCountService.increaseViewCount("recipe1");
+        }
+        done.countDown();
+      });
+    }
+    while (done.getCount() > 0) {
+      recipeViewCountService.flushViewCount();
+    }
+    executor.shutdown();
+    recipeViewCountService.flushViewCount();
+
+    //then
+    assertEquals((long) threadCount * increaseCount, flushedCount.get());
+  }
+
+}
@@ -19,8 +19,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import kr.zb.nengtul.chat.repository.ChatRoomRepository;
 import kr.zb.nengtul.global.entity.RoleType;
 import kr.zb.nengtul.global.exception.CustomException;
+import kr.zb.nengtul.recipe.service.RecipeDetailCache;
 import kr.zb.nengtul.shareboard.domain.dto.ShareBoardDto;
 import kr.zb.nengtul.shareboard.domain.entity.ShareBoard;
 import kr.zb.nengtul.shareboard.domain.repository.ShareBoardRepository;
@@ -51,8 +53,8 @@ class ShareBoardServiceTest {
     UserRepository userRepository = mock(UserRepository.class);
     userService = mock(UserService.class);
 
-    shareBoardService = new ShareBoardService(
-        userRepository, userService, shareBoardRepository, amazonS3Service);
+    shareBoardService = new ShareBoardService(userRepository, userService, shareBoardRepository,
+        mock(ChatRoomRepository.class), amazonS3Service, mock(RecipeDetailCache.class));
   }
 
   @Test
@@ -8,6 +8,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -15,6 +16,8 @@ import static org.mockito.Mockito.when;
 import java.security.Principal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import kr.zb.nengtul.auth.repository.BlacklistTokenRepository;
 import kr.zb.nengtul.comment.domain.entity.Comment;
@@ -27,8 +30,11 @@ import kr.zb.nengtul.likes.domain.repository.LikesRepository;
 import kr.zb.nengtul.notice.domain.entity.Notice;
 import kr.zb.nengtul.notice.domain.repository.NoticeRepository;
 import kr.zb.nengtul.recipe.domain.repository.RecipeSearchRepository;
+import kr.zb.nengtul.recipe.service.RecipeDetailCache;
+import kr.zb.nengtul.recipe.service.RecipeOwnerReassignService;
 import kr.zb.nengtul.shareboard.domain.entity.ShareBoard;
 import kr.zb.nengtul.shareboard.domain.repository.ShareBoardRepository;
+import kr.zb.nengtul.user.domain.dto.SessionUserDto;
 import kr.zb.nengtul.user.domain.dto.UserDetailDto;
 import kr.zb.nengtul.user.domain.dto.UserFindEmailReqDto;
 import kr.zb.nengtul.user.domain.dto.UserJoinDto;
@@ -41,6 +47,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.util.ReflectionTestUtils;
 import s3bucket.service.AmazonS3Service;
@@ -61,6 +68,8 @@ class UserServiceTest {
   private PasswordEncoder passwordEncoder;
   private MailgunClient mailgunClient;
   private AmazonS3Service amazonS3Service;
+  private RecipeDetailCache recipeDetailCache;
+  private RecipeOwnerReassignService recipeOwnerReassignService;
 
   @BeforeEach
   void setUp() {
@@ -76,9 +85,12 @@ class UserServiceTest {
     shareBoardRepository = mock(ShareBoardRepository.class);
     likesRepository = mock(LikesRepository.class);
     favoriteRepository=mock(FavoriteRepository.class);
+    recipeDetailCache = mock(RecipeDetailCache.class);
+    recipeOwnerReassignService = mock(RecipeOwnerReassignService.class);
     userService = new UserService(likesRepository,
         recipeSearchRepository, noticeRepository, replyCommentRepository, shareBoardRepository,
-        commentRepository,favoriteRepository, userRepository,blacklistTokenRepository, passwordEncoder, mailgunClient, amazonS3Service);
+        commentRepository,favoriteRepository, userRepository,blacklistTokenRepository, passwordEncoder, mailgunClient, amazonS3Service,
+        recipeDetailCache, recipeOwnerReassignService);
     ReflectionTestUtils.setField(userService, "quitId", "quituser@example.com");
   }
 
@@ -254,6 +266,8 @@ class UserServiceTest {
     verify(shareBoardRepository, times(quittingUser.getShareBoardList().size())).save(
         any(ShareBoard.class));
     verify(noticeRepository, times(quittingUser.getNoticeList().size())).save(any(Notice.class));
+    verify(recipeOwnerReassignService).reassignOwner(quittingUser.getId(), quitUser.getId());
+    verify(recipeDetailCache).evictAuthor(quittingUser.getId());
     verify(userRepository).deleteById(quittingUser.getId());
   }
 
@@ -306,6 +320,7 @@ class UserServiceTest {
     assertEquals("010-2222-2222", user.getPhoneNumber());
     assertEquals("새주소", user.getAddress());
     assertEquals("새주소1", user.getAddressDetail());
+    verify(recipeDetailCache).evictAuthor(user.getId());
   }
 
   @Test
@@ -448,4 +463,32 @@ class UserServiceTest {
     assertEquals(3, userDetailDto.getShareList());
     assertEquals(3, userDetailDto.getFavoriteList());
   }
-}
\ No newline at end of file
+
+  @Test
+  @DisplayName("웹소켓 세션의 회원 정보는 DB 조회 없이 반환")
+  void getSessionUserByAccessor_SUCCESS() {
+    // given
+    SessionUserDto sessionUser = SessionUserDto.builder().id(1L).nickname("nick").build();
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+    accessor.setSessionAttributes(
+        new HashMap<>(Map.of(SessionUserDto.SESSION_ATTRIBUTE, sessionUser)));
+
+    // when
+    SessionUserDto result = userService.getSessionUserByAccessor(accessor);
+
+    // then
+    assertEquals(sessionUser, result);
+    verify(userRepository, never()).findByEmail(anyString());
+  }
+
+  @Test
+  @DisplayName("웹소켓 세션에 회원 정보가 없으면 실패")
+  void getSessionUserByAccessor_FAIL() {
+    // given
+    SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+    accessor.setSessionAttributes(new HashMap<>());
+
+    // when + then
+    assertThrows(CustomException.class, () -> userService.getSessionUserByAccessor(accessor));
+  }
+}